@@ -0,0 +1,7 @@
+package com.hartwig.catalog.admin.application.category.bulk;
+
+public enum BulkCategoryAction {
+    ACTIVATE,
+    DEACTIVATE,
+    DELETE
+}
@@ -0,0 +1,27 @@
+package com.hartwig.catalog.admin.application.category.bulk;
+
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+
+import java.util.List;
+
+public record BulkChangeCategoriesCommand(
+        BulkCategoryAction action,
+        List<String> ids,
+        String terms,
+        MatchMode match
+) {
+
+    public static BulkChangeCategoriesCommand with(
+            final BulkCategoryAction anAction,
+            final List<String> anIds,
+            final String aTerms,
+            final MatchMode aMatch
+    ) {
+        return new BulkChangeCategoriesCommand(
+                anAction,
+                anIds != null ? anIds : List.of(),
+                aTerms != null ? aTerms : "",
+                aMatch
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.hartwig.catalog.admin.application.category.bulk;
+
+public record BulkChangeCategoriesOutput(
+        long affected
+) {
+
+    public static BulkChangeCategoriesOutput from(final long anAffected) {
+        return new BulkChangeCategoriesOutput(anAffected);
+    }
+}
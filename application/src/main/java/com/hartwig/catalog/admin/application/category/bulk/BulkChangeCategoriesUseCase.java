@@ -0,0 +1,7 @@
+package com.hartwig.catalog.admin.application.category.bulk;
+
+import com.hartwig.catalog.admin.application.UseCase;
+
+public abstract class BulkChangeCategoriesUseCase
+        extends UseCase<BulkChangeCategoriesCommand, BulkChangeCategoriesOutput> {
+}
@@ -0,0 +1,45 @@
+package com.hartwig.catalog.admin.application.category.bulk;
+
+import com.hartwig.catalog.admin.domain.category.CategoryFilter;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.validation.Error;
+
+import java.util.Objects;
+
+public class DefaultBulkChangeCategoriesUseCase extends BulkChangeCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBulkChangeCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public BulkChangeCategoriesOutput execute(final BulkChangeCategoriesCommand aCommand) {
+        final var aFilter = filter(aCommand);
+
+        final var affected = switch (aCommand.action()) {
+            case ACTIVATE -> this.categoryGateway.activateAll(aFilter);
+            case DEACTIVATE -> this.categoryGateway.deactivateAll(aFilter);
+            case DELETE -> this.categoryGateway.deleteAll(aFilter);
+        };
+
+        return BulkChangeCategoriesOutput.from(affected);
+    }
+
+    // a blank search would select the whole table, which is never what a bulk change means to do
+    private static CategoryFilter filter(final BulkChangeCategoriesCommand aCommand) {
+        final var hasIds = !aCommand.ids().isEmpty();
+        final var hasTerms = !aCommand.terms().isBlank();
+
+        if (hasIds == hasTerms) {
+            throw DomainException.with(new Error("Exactly one of 'ids' or 'search' must be given"));
+        }
+
+        return hasIds
+                ? CategoryFilter.byIds(aCommand.ids().stream().map(CategoryID::from).toList())
+                : CategoryFilter.matching(aCommand.terms(), aCommand.match());
+    }
+}
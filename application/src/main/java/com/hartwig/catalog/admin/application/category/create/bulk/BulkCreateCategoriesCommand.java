@@ -0,0 +1,14 @@
+package com.hartwig.catalog.admin.application.category.create.bulk;
+
+import com.hartwig.catalog.admin.application.category.create.CreateCategoryCommand;
+
+import java.util.List;
+
+public record BulkCreateCategoriesCommand(
+        List<CreateCategoryCommand> items
+) {
+
+    public static BulkCreateCategoriesCommand with(final List<CreateCategoryCommand> anItems) {
+        return new BulkCreateCategoriesCommand(anItems != null ? anItems : List.of());
+    }
+}
@@ -0,0 +1,18 @@
+package com.hartwig.catalog.admin.application.category.create.bulk;
+
+import com.hartwig.catalog.admin.application.category.create.CreateCategoryOutput;
+
+import java.util.List;
+
+public record BulkCreateCategoriesOutput(
+        List<CreateCategoryOutput> created,
+        List<BulkCreateCategoryError> errors
+) {
+
+    public static BulkCreateCategoriesOutput from(
+            final List<CreateCategoryOutput> aCreated,
+            final List<BulkCreateCategoryError> anErrors
+    ) {
+        return new BulkCreateCategoriesOutput(aCreated, anErrors);
+    }
+}
@@ -0,0 +1,9 @@
+package com.hartwig.catalog.admin.application.category.create.bulk;
+
+import com.hartwig.catalog.admin.application.UseCase;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class BulkCreateCategoriesUseCase
+        extends UseCase<BulkCreateCategoriesCommand, Either<Notification, BulkCreateCategoriesOutput>> {
+}
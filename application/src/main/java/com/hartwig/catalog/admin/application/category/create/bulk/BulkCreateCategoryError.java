@@ -0,0 +1,16 @@
+package com.hartwig.catalog.admin.application.category.create.bulk;
+
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+
+import java.util.List;
+
+public record BulkCreateCategoryError(
+        int index,
+        List<Error> errors
+) {
+
+    public static BulkCreateCategoryError from(final int anIndex, final Notification aNotification) {
+        return new BulkCreateCategoryError(anIndex, aNotification.getErrors());
+    }
+}
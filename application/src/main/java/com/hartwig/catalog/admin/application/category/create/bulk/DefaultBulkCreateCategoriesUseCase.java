@@ -0,0 +1,61 @@
+package com.hartwig.catalog.admin.application.category.create.bulk;
+
+import com.hartwig.catalog.admin.application.category.create.CreateCategoryOutput;
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static io.vavr.API.Try;
+
+public class DefaultBulkCreateCategoriesUseCase extends BulkCreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBulkCreateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, BulkCreateCategoriesOutput> execute(final BulkCreateCategoriesCommand aCommand) {
+        final var items = aCommand.items();
+        final var valid = new ArrayList<Category>(items.size());
+        final var errors = new ArrayList<BulkCreateCategoryError>();
+
+        for (int i = 0; i < items.size(); i++) {
+            final var anItem = items.get(i);
+            final var notification = Notification.create();
+
+            final var aCategory = Category.newCategory(anItem.name(), anItem.description(), anItem.isActive());
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                errors.add(BulkCreateCategoryError.from(i, notification));
+            } else {
+                valid.add(aCategory);
+            }
+        }
+
+        return create(valid, errors);
+    }
+
+    private Either<Notification, BulkCreateCategoriesOutput> create(
+            final List<Category> aCategories,
+            final List<BulkCreateCategoryError> anErrors
+    ) {
+        if (aCategories.isEmpty()) {
+            return Either.right(BulkCreateCategoriesOutput.from(List.of(), anErrors));
+        }
+
+        return Try(() -> this.categoryGateway.createAll(aCategories))
+                .toEither()
+                .bimap(Notification::create, created -> BulkCreateCategoriesOutput.from(
+                        created.stream().map(CreateCategoryOutput::from).toList(),
+                        anErrors
+                ));
+    }
+}
@@ -0,0 +1,68 @@
+package com.hartwig.catalog.admin.application.category.imports;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// upserts one chunk of an import; invalid records are reported by line and never stop the rest of the chunk
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultImportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public ImportCategoriesOutput execute(final ImportCategoriesCommand aCommand) {
+        final var records = aCommand.records();
+        final var valid = new ArrayList<Category>(records.size());
+        final var validLines = new ArrayList<Long>(records.size());
+        final var errors = new ArrayList<ImportCategoryError>();
+
+        for (final var aRecord : records) {
+            final var notification = Notification.create();
+            final var aCategory = aRecord.toCategory(notification);
+
+            if (notification.hasError()) {
+                errors.add(ImportCategoryError.from(aRecord.line(), notification));
+            } else {
+                valid.add(aCategory);
+                validLines.add(aRecord.line());
+            }
+        }
+
+        final var imported = upsert(valid, validLines, errors);
+        return ImportCategoriesOutput.from(imported, errors);
+    }
+
+    // a chunk the database rejects (reported by the gateway as a DomainException) is retried one by one, so one bad
+    // row fails alone; anything else, such as a lost connection, fails the whole import
+    private long upsert(final List<Category> aCategories, final List<Long> lines, final List<ImportCategoryError> errors) {
+        if (aCategories.isEmpty()) {
+            return 0;
+        }
+        try {
+            this.categoryGateway.upsertAll(aCategories);
+            return aCategories.size();
+        } catch (final DomainException ex) {
+            // retried below
+        }
+
+        var imported = 0L;
+        for (int i = 0; i < aCategories.size(); i++) {
+            try {
+                this.categoryGateway.upsertAll(List.of(aCategories.get(i)));
+                imported++;
+            } catch (final DomainException ex) {
+                errors.add(ImportCategoryError.from(lines.get(i), Notification.create(ex)));
+            }
+        }
+        return imported;
+    }
+}
@@ -0,0 +1,12 @@
+package com.hartwig.catalog.admin.application.category.imports;
+
+import java.util.List;
+
+public record ImportCategoriesCommand(
+        List<ImportCategoryRecord> records
+) {
+
+    public static ImportCategoriesCommand with(final List<ImportCategoryRecord> aRecords) {
+        return new ImportCategoriesCommand(aRecords != null ? aRecords : List.of());
+    }
+}
@@ -0,0 +1,13 @@
+package com.hartwig.catalog.admin.application.category.imports;
+
+import java.util.List;
+
+public record ImportCategoriesOutput(
+        long imported,
+        List<ImportCategoryError> errors
+) {
+
+    public static ImportCategoriesOutput from(final long anImported, final List<ImportCategoryError> anErrors) {
+        return new ImportCategoriesOutput(anImported, anErrors);
+    }
+}
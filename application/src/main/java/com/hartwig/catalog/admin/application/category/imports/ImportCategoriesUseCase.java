@@ -0,0 +1,7 @@
+package com.hartwig.catalog.admin.application.category.imports;
+
+import com.hartwig.catalog.admin.application.UseCase;
+
+public abstract class ImportCategoriesUseCase
+        extends UseCase<ImportCategoriesCommand, ImportCategoriesOutput> {
+}
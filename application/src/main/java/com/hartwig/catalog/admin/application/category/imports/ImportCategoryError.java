@@ -0,0 +1,20 @@
+package com.hartwig.catalog.admin.application.category.imports;
+
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+
+import java.util.List;
+
+public record ImportCategoryError(
+        long line,
+        List<Error> errors
+) {
+
+    public static ImportCategoryError from(final long aLine, final Notification aNotification) {
+        return new ImportCategoryError(aLine, aNotification.getErrors());
+    }
+
+    public static ImportCategoryError with(final long aLine, final String aMessage) {
+        return new ImportCategoryError(aLine, List.of(new Error(aMessage)));
+    }
+}
@@ -0,0 +1,50 @@
+package com.hartwig.catalog.admin.application.category.imports;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+
+public record ImportCategoryRecord(
+        long line,
+        String id,
+        String name,
+        String description,
+        boolean isActive
+) {
+
+    public static ImportCategoryRecord with(
+            final long aLine,
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final boolean isActive
+    ) {
+        return new ImportCategoryRecord(aLine, anId, aName, aDescription, isActive);
+    }
+
+    // the id, timestamps and deletedAt follow Category.newCategory; an id given in the file is kept.
+    // validation errors go to the notification, so the caller decides whether the category is used
+    public Category toCategory(final Notification notification) {
+        final var anId = id == null || id.isBlank()
+                ? CategoryID.unique()
+                : CategoryID.from(id.trim());
+        if (!anId.isUUID()) {
+            notification.append(new Error("'id' must be a UUID"));
+        }
+
+        final var now = InstantUtils.now();
+        final var aCategory = Category.with(
+                anId,
+                name,
+                description,
+                isActive,
+                now,
+                now,
+                isActive ? null : now
+        );
+        aCategory.validate(notification);
+        return aCategory;
+    }
+}
@@ -0,0 +1,22 @@
+package com.hartwig.catalog.admin.application.category.retrieve.export;
+
+import com.hartwig.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+// hands each category to the consumer as it is read, so the caller decides where it goes without the whole table in memory
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryOutput> aConsumer) {
+        this.categoryGateway.streamAll(aCategory -> aConsumer.accept(CategoryOutput.from(aCategory)));
+    }
+}
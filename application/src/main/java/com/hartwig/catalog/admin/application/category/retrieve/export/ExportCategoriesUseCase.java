@@ -0,0 +1,10 @@
+package com.hartwig.catalog.admin.application.category.retrieve.export;
+
+import com.hartwig.catalog.admin.application.UnitUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.get.CategoryOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase
+        extends UnitUseCase<Consumer<CategoryOutput>> {
+}
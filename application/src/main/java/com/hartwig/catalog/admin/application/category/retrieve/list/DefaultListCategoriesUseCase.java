@@ -1,22 +1,68 @@
 package com.hartwig.catalog.admin.application.category.retrieve.list;
 
+import com.hartwig.catalog.admin.domain.category.Category;
 import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.category.CategorySearchGateway;
 import com.hartwig.catalog.admin.domain.pagination.Pagination;
 import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
 
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final CategorySearchGateway categorySearchGateway;
 
     public DefaultListCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, null);
+    }
+
+    public DefaultListCategoriesUseCase(
+            final CategoryGateway categoryGateway,
+            final CategorySearchGateway categorySearchGateway
+    ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.categorySearchGateway = categorySearchGateway;
     }
 
     @Override
     public Pagination<CategoryListOutput> execute(final SearchQuery aQuery) {
+        if (shouldSearch(aQuery)) {
+            return search(aQuery);
+        }
+
         return this.categoryGateway.findAll(aQuery)
                 .map(CategoryListOutput::from);
     }
+
+    private boolean shouldSearch(final SearchQuery aQuery) {
+        return this.categorySearchGateway != null
+                && aQuery.terms() != null
+                && !aQuery.terms().isBlank()
+                && this.categorySearchGateway.supports(aQuery);
+    }
+
+    private Pagination<CategoryListOutput> search(final SearchQuery aQuery) {
+        final var matches = this.categorySearchGateway.search(aQuery);
+
+        final var categories = this.categoryGateway.findAllById(matches.items()).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        final var items = matches.items().stream()
+                .map(categories::get)
+                .filter(Objects::nonNull)
+                .map(CategoryListOutput::from)
+                .toList();
+
+        return new Pagination<>(
+                matches.currentPage(),
+                matches.perPage(),
+                matches.total(),
+                items,
+                matches.nextCursor(),
+                matches.hasMore()
+        );
+    }
 }
@@ -0,0 +1,14 @@
+package com.hartwig.catalog.admin.application.category.retrieve.suggest;
+
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.category.CategorySuggestion;
+
+public record CategorySuggestionOutput(
+        CategoryID id,
+        String name
+) {
+
+    public static CategorySuggestionOutput from(final CategorySuggestion aSuggestion) {
+        return new CategorySuggestionOutput(aSuggestion.id(), aSuggestion.name());
+    }
+}
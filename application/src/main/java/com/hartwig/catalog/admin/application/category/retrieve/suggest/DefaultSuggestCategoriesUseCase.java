@@ -0,0 +1,29 @@
+package com.hartwig.catalog.admin.application.category.retrieve.suggest;
+
+import com.hartwig.catalog.admin.domain.category.CategorySuggestionGateway;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestCategoriesUseCase extends SuggestCategoriesUseCase {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final CategorySuggestionGateway categorySuggestionGateway;
+
+    public DefaultSuggestCategoriesUseCase(final CategorySuggestionGateway categorySuggestionGateway) {
+        this.categorySuggestionGateway = Objects.requireNonNull(categorySuggestionGateway);
+    }
+
+    @Override
+    public List<CategorySuggestionOutput> execute(final SuggestCategoriesCommand aCommand) {
+        if (aCommand.prefix() == null || aCommand.prefix().isBlank() || aCommand.limit() <= 0) {
+            return List.of();
+        }
+
+        final var limit = Math.min(aCommand.limit(), MAX_LIMIT);
+        return this.categorySuggestionGateway.suggest(aCommand.prefix().trim(), limit).stream()
+                .map(CategorySuggestionOutput::from)
+                .toList();
+    }
+}
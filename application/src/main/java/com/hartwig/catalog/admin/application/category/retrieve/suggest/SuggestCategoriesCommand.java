@@ -0,0 +1,11 @@
+package com.hartwig.catalog.admin.application.category.retrieve.suggest;
+
+public record SuggestCategoriesCommand(
+        String prefix,
+        int limit
+) {
+
+    public static SuggestCategoriesCommand with(final String aPrefix, final int aLimit) {
+        return new SuggestCategoriesCommand(aPrefix, aLimit);
+    }
+}
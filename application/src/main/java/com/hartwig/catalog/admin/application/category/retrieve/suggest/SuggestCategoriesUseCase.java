@@ -0,0 +1,9 @@
+package com.hartwig.catalog.admin.application.category.retrieve.suggest;
+
+import com.hartwig.catalog.admin.application.UseCase;
+
+import java.util.List;
+
+public abstract class SuggestCategoriesUseCase
+        extends UseCase<SuggestCategoriesCommand, List<CategorySuggestionOutput>> {
+}
@@ -3,6 +3,7 @@ package com.hartwig.catalog.admin.application.category.update;
 import com.hartwig.catalog.admin.domain.category.Category;
 import com.hartwig.catalog.admin.domain.category.CategoryGateway;
 import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
 import com.hartwig.catalog.admin.domain.exceptions.DomainException;
 import com.hartwig.catalog.admin.domain.validation.handler.Notification;
 import com.hartwig.catalog.admin.domain.validation.Error;
@@ -32,6 +33,11 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var aCategory = this.categoryGateway.findById(anId)
                 .orElseThrow(notFound(anId));
 
+        final var anExpectedVersion = aCommand.expectedVersion();
+        if (anExpectedVersion != null && anExpectedVersion != aCategory.getVersion()) {
+            throw ConflictException.with(Category.class, anId, anExpectedVersion);
+        }
+
         final var notification = Notification.create();
         aCategory
                 .update(aName, aDescription, isActive)
@@ -41,7 +47,14 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     }
 
     private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
-        return Try(() -> this.categoryGateway.update(aCategory))
+        final var result = Try(() -> this.categoryGateway.update(aCategory));
+
+        // a lost race is not a validation problem, so it escapes the notification like a missing category does
+        if (result.isFailure() && result.getCause() instanceof ConflictException conflict) {
+            throw conflict;
+        }
+
+        return result
                 .toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
@@ -3,14 +3,15 @@ package com.hartwig.catalog.admin.application.category.update;
 import com.hartwig.catalog.admin.domain.category.Category;
 
 public record UpdateCategoryOutput(
-        String id
+        String id,
+        long version
 ) {
 
     public static UpdateCategoryOutput from(final Category aCategory) {
-        return new UpdateCategoryOutput(aCategory.getId().getValue());
+        return new UpdateCategoryOutput(aCategory.getId().getValue(), aCategory.getVersion());
     }
 
     public static UpdateCategoryOutput from(final String anId) {
-        return new UpdateCategoryOutput(anId);
+        return new UpdateCategoryOutput(anId, 0);
     }
 }
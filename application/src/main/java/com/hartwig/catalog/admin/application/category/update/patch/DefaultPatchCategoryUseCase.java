@@ -0,0 +1,79 @@
+package com.hartwig.catalog.admin.application.category.update.patch;
+
+import com.hartwig.catalog.admin.application.category.update.UpdateCategoryOutput;
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+public class DefaultPatchCategoryUseCase extends PatchCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultPatchCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, UpdateCategoryOutput> execute(final PatchCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+
+        final var aCategory = this.categoryGateway.findById(anId)
+                .orElseThrow(notFound(anId));
+
+        final var anExpectedVersion = aCommand.expectedVersion();
+        if (anExpectedVersion != null && anExpectedVersion != aCategory.getVersion()) {
+            throw ConflictException.with(Category.class, anId, anExpectedVersion);
+        }
+
+        // members left out of the patch keep their current value
+        final var aName = aCommand.name() != null ? aCommand.name().value() : aCategory.getName();
+        final var aDescription = aCommand.description() != null
+                ? aCommand.description().value()
+                : aCategory.getDescription();
+        final var isActive = aCommand.active() != null && aCommand.active().value() != null
+                ? aCommand.active().value()
+                : aCategory.isActive();
+
+        // re-sent data is answered from the row we already read: no write and no updatedAt bump
+        if (aCategory.isUnchangedBy(aName, aDescription, isActive)) {
+            return Right(UpdateCategoryOutput.from(aCategory));
+        }
+
+        final var notification = Notification.create();
+        final var aPatched = aCategory.clone()
+                .update(aName, aDescription, isActive);
+        aPatched.validate(notification);
+
+        return notification.hasError() ? Left(notification) : patch(aCategory, aPatched);
+    }
+
+    private Either<Notification, UpdateCategoryOutput> patch(final Category aPrevious, final Category aPatched) {
+        final var result = Try(() -> this.categoryGateway.patch(aPrevious, aPatched));
+
+        if (result.isFailure() && result.getCause() instanceof ConflictException conflict) {
+            throw conflict;
+        }
+
+        return result
+                .toEither()
+                .bimap(Notification::create, UpdateCategoryOutput::from);
+    }
+
+    private Supplier<DomainException> notFound(final CategoryID anId) {
+        return () -> DomainException.with(
+                new Error("Category with ID %s was not found".formatted(anId.getValue()))
+        );
+    }
+}
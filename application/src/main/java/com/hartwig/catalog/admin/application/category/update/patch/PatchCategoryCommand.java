@@ -0,0 +1,20 @@
+package com.hartwig.catalog.admin.application.category.update.patch;
+
+public record PatchCategoryCommand(
+        String id,
+        PatchValue<String> name,
+        PatchValue<String> description,
+        PatchValue<Boolean> active,
+        Long expectedVersion
+) {
+
+    public static PatchCategoryCommand with(
+            final String anId,
+            final PatchValue<String> aName,
+            final PatchValue<String> aDescription,
+            final PatchValue<Boolean> isActive,
+            final Long anExpectedVersion
+    ) {
+        return new PatchCategoryCommand(anId, aName, aDescription, isActive, anExpectedVersion);
+    }
+}
@@ -0,0 +1,10 @@
+package com.hartwig.catalog.admin.application.category.update.patch;
+
+import com.hartwig.catalog.admin.application.UseCase;
+import com.hartwig.catalog.admin.application.category.update.UpdateCategoryOutput;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class PatchCategoryUseCase
+        extends UseCase<PatchCategoryCommand, Either<Notification, UpdateCategoryOutput>> {
+}
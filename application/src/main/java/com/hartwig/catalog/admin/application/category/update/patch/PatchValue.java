@@ -0,0 +1,9 @@
+package com.hartwig.catalog.admin.application.category.update.patch;
+
+// a member the merge patch carried; the member itself is null when the patch left it out, its value when it was sent as null
+public record PatchValue<T>(T value) {
+
+    public static <T> PatchValue<T> of(final T aValue) {
+        return new PatchValue<>(aValue);
+    }
+}
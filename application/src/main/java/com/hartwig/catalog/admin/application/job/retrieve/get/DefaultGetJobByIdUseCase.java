@@ -0,0 +1,31 @@
+package com.hartwig.catalog.admin.application.job.retrieve.get;
+
+import com.hartwig.catalog.admin.domain.exceptions.NotFoundException;
+import com.hartwig.catalog.admin.domain.job.Job;
+import com.hartwig.catalog.admin.domain.job.JobGateway;
+import com.hartwig.catalog.admin.domain.job.JobID;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class DefaultGetJobByIdUseCase extends GetJobByIdUseCase {
+
+    private final JobGateway jobGateway;
+
+    public DefaultGetJobByIdUseCase(final JobGateway jobGateway) {
+        this.jobGateway = Objects.requireNonNull(jobGateway);
+    }
+
+    @Override
+    public JobOutput execute(final String anIn) {
+        final var aJobID = JobID.from(anIn);
+
+        return this.jobGateway.findById(aJobID)
+                .map(JobOutput::from)
+                .orElseThrow(notFound(aJobID));
+    }
+
+    private Supplier<NotFoundException> notFound(final JobID anId) {
+        return () -> NotFoundException.with(Job.class, anId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.hartwig.catalog.admin.application.job.retrieve.get;
+
+import com.hartwig.catalog.admin.application.UseCase;
+
+public abstract class GetJobByIdUseCase
+        extends UseCase<String, JobOutput> {
+}
@@ -0,0 +1,35 @@
+package com.hartwig.catalog.admin.application.job.retrieve.get;
+
+import com.hartwig.catalog.admin.domain.job.Job;
+import com.hartwig.catalog.admin.domain.job.JobStatus;
+
+import java.time.Instant;
+
+public record JobOutput(
+        String id,
+        String type,
+        JobStatus status,
+        long processed,
+        Long total,
+        String result,
+        String error,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant finishedAt
+) {
+
+    public static JobOutput from(final Job aJob) {
+        return new JobOutput(
+                aJob.getId().getValue(),
+                aJob.getType(),
+                aJob.getStatus(),
+                aJob.getProcessed(),
+                aJob.getTotal(),
+                aJob.getResult(),
+                aJob.getError(),
+                aJob.getCreatedAt(),
+                aJob.getUpdatedAt(),
+                aJob.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.hartwig.catalog.admin.application.job.submit;
+
+import com.hartwig.catalog.admin.domain.job.Job;
+import com.hartwig.catalog.admin.domain.job.JobGateway;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.domain.validation.ValidationHandler;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Try;
+
+public class DefaultSubmitJobUseCase extends SubmitJobUseCase {
+
+    private final JobGateway jobGateway;
+    private final Map<String, BiConsumer<String, ValidationHandler>> payloadValidators;
+
+    // one validator per supported type, reading the payload as its task will, so a job that could never start is
+    // refused here instead of failing on a runner
+    public DefaultSubmitJobUseCase(
+            final JobGateway jobGateway,
+            final Map<String, BiConsumer<String, ValidationHandler>> payloadValidators
+    ) {
+        this.jobGateway = Objects.requireNonNull(jobGateway);
+        this.payloadValidators = new TreeMap<>(payloadValidators);
+    }
+
+    @Override
+    public Either<Notification, SubmitJobOutput> execute(final SubmitJobCommand aCommand) {
+        final var aJob = Job.newJob(aCommand.type(), aCommand.payload());
+
+        final var notification = Notification.create();
+        aJob.validate(notification);
+        if (!notification.hasError()) {
+            final var payloadValidator = payloadValidators.get(aJob.getType());
+            if (payloadValidator == null) {
+                notification.append(new Error("'type' must be one of %s".formatted(payloadValidators.keySet())));
+            } else {
+                payloadValidator.accept(aJob.getPayload(), notification);
+            }
+        }
+
+        return notification.hasError() ? Left(notification) : create(aJob);
+    }
+
+    private Either<Notification, SubmitJobOutput> create(final Job aJob) {
+        return Try(() -> this.jobGateway.create(aJob))
+                .toEither()
+                .bimap(Notification::create, SubmitJobOutput::from);
+    }
+}
@@ -0,0 +1,11 @@
+package com.hartwig.catalog.admin.application.job.submit;
+
+public record SubmitJobCommand(
+        String type,
+        String payload
+) {
+
+    public static SubmitJobCommand with(final String aType, final String aPayload) {
+        return new SubmitJobCommand(aType, aPayload);
+    }
+}
@@ -0,0 +1,12 @@
+package com.hartwig.catalog.admin.application.job.submit;
+
+import com.hartwig.catalog.admin.domain.job.Job;
+
+public record SubmitJobOutput(
+        String id
+) {
+
+    public static SubmitJobOutput from(final Job aJob) {
+        return new SubmitJobOutput(aJob.getId().getValue());
+    }
+}
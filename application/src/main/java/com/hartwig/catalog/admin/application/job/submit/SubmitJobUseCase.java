@@ -0,0 +1,9 @@
+package com.hartwig.catalog.admin.application.job.submit;
+
+import com.hartwig.catalog.admin.application.UseCase;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class SubmitJobUseCase
+        extends UseCase<SubmitJobCommand, Either<Notification, SubmitJobOutput>> {
+}
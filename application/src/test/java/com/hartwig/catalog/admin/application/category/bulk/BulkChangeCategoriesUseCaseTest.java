@@ -0,0 +1,79 @@
+package com.hartwig.catalog.admin.application.category.bulk;
+
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkChangeCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkChangeCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenASearch_whenCallsBulkDeactivate_shouldDeactivateMatchingCategories() {
+        final var expectedAffected = 12L;
+        final var aCommand = BulkChangeCategoriesCommand.with(
+                BulkCategoryAction.DEACTIVATE, List.of(), "filmes", MatchMode.PREFIX
+        );
+
+        when(categoryGateway.deactivateAll(argThat(filter ->
+                !filter.hasIds() && "filmes".equals(filter.terms()) && filter.match() == MatchMode.PREFIX
+        ))).thenReturn(expectedAffected);
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertEquals(expectedAffected, actualOutput.affected());
+    }
+
+    @Test
+    public void givenIds_whenCallsBulkDelete_shouldDeleteThoseCategories() {
+        final var anId = CategoryID.unique();
+        final var aCommand = BulkChangeCategoriesCommand.with(
+                BulkCategoryAction.DELETE, List.of(anId.getValue()), null, null
+        );
+
+        when(categoryGateway.deleteAll(argThat(filter -> filter.ids().equals(List.of(anId)))))
+                .thenReturn(1L);
+
+        assertEquals(1, useCase.execute(aCommand).affected());
+
+        Mockito.verify(categoryGateway, times(0)).activateAll(Mockito.any());
+    }
+
+    @Test
+    public void givenNeitherIdsNorSearch_whenCallsBulkActivate_shouldThrowDomainException() {
+        final var expectedErrorMessage = "Exactly one of 'ids' or 'search' must be given";
+        final var aCommand = BulkChangeCategoriesCommand.with(
+                BulkCategoryAction.ACTIVATE, List.of(), "  ", null
+        );
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        Mockito.verifyNoInteractions(categoryGateway);
+    }
+}
@@ -0,0 +1,96 @@
+package com.hartwig.catalog.admin.application.category.create.bulk;
+
+import com.hartwig.catalog.admin.application.category.create.CreateCategoryCommand;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCreateCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidItems_whenCallsBulkCreate_shouldPersistValidOnesAndReportErrorsByIndex() {
+        final var aCommand = BulkCreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Sem nome", true),
+                CreateCategoryCommand.with("Séries", null, false)
+        ));
+
+        when(categoryGateway.createAll(anyList()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        assertAll(
+                () -> assertEquals(2, actualOutput.created().size()),
+                () -> assertEquals(1, actualOutput.errors().size()),
+                () -> assertEquals(1, actualOutput.errors().get(0).index()),
+                () -> assertEquals("'name' should not be null", actualOutput.errors().get(0).errors().get(0).message())
+        );
+
+        Mockito.verify(categoryGateway, times(1)).createAll(argThat(categories ->
+                categories.size() == 2
+                        && "Filmes".equals(categories.get(0).getName())
+                        && "Séries".equals(categories.get(1).getName())
+                        && categories.get(1).getDeletedAt() != null
+        ));
+    }
+
+    @Test
+    public void givenOnlyInvalidItems_whenCallsBulkCreate_shouldNotCallGateway() {
+        final var aCommand = BulkCreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with(" ", null, true)
+        ));
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        assertAll(
+                () -> assertTrue(actualOutput.created().isEmpty()),
+                () -> assertEquals(0, actualOutput.errors().get(0).index())
+        );
+
+        Mockito.verify(categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsBulkCreate_shouldReturnNotification() {
+        final var expectedErrorMessage = "Gateway error";
+        final var aCommand = BulkCreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", null, true)
+        ));
+
+        when(categoryGateway.createAll(anyList()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+    }
+}
@@ -0,0 +1,117 @@
+package com.hartwig.catalog.admin.application.category.imports;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultImportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidRecords_whenCallsImport_shouldUpsertTheValidOnesAndReportTheOthersByLine() {
+        final var expectedId = "0180b7f3-9a4e-7c1d-8f6a-2b3c4d5e6f70";
+
+        final var aCommand = ImportCategoriesCommand.with(List.of(
+                ImportCategoryRecord.with(1, expectedId, "Filmes", "A categoria mais assistida", true),
+                ImportCategoryRecord.with(2, null, null, null, true),
+                ImportCategoryRecord.with(3, "123", "Séries", null, false),
+                ImportCategoryRecord.with(4, null, "Documentários", null, false)
+        ));
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertAll(
+                () -> assertEquals(2, actualOutput.imported()),
+                () -> assertEquals(2, actualOutput.errors().size()),
+                () -> assertEquals(2, actualOutput.errors().get(0).line()),
+                () -> assertEquals("'name' should not be null", actualOutput.errors().get(0).errors().get(0).message()),
+                () -> assertEquals(3, actualOutput.errors().get(1).line()),
+                () -> assertEquals("'id' must be a UUID", actualOutput.errors().get(1).errors().get(0).message())
+        );
+
+        verify(categoryGateway, times(1)).upsertAll(argThat(categories -> categories.size() == 2
+                && Objects.equals(expectedId, categories.get(0).getId().getValue())
+                && categories.get(0).getDeletedAt() == null
+                && categories.get(1).getDeletedAt() != null
+        ));
+    }
+
+    @Test
+    public void givenAChunkTheDatabaseRejects_whenCallsImport_shouldRetryEachRecordAlone() {
+        final var aCommand = ImportCategoriesCommand.with(List.of(
+                ImportCategoryRecord.with(1, null, "Filmes", null, true),
+                ImportCategoryRecord.with(2, null, "Séries", "x".repeat(5000), true)
+        ));
+
+        doAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            if (categories.size() == 2 || categories.get(0).getName().equals("Séries")) {
+                throw DomainException.with(new Error("Data too long for column 'description'"));
+            }
+            return null;
+        }).when(categoryGateway).upsertAll(any());
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertAll(
+                () -> assertEquals(1, actualOutput.imported()),
+                () -> assertEquals(1, actualOutput.errors().size()),
+                () -> assertEquals(2, actualOutput.errors().get(0).line()),
+                () -> assertEquals("Data too long for column 'description'", actualOutput.errors().get(0).errors().get(0).message())
+        );
+        verify(categoryGateway, times(3)).upsertAll(any());
+    }
+
+    @Test
+    public void givenAnUnexpectedGatewayError_whenCallsImport_shouldNotRetryAndRethrowIt() {
+        final var aCommand = ImportCategoriesCommand.with(List.of(
+                ImportCategoryRecord.with(1, null, "Filmes", null, true),
+                ImportCategoryRecord.with(2, null, "Séries", null, true)
+        ));
+
+        doThrow(new IllegalStateException("Connection is closed")).when(categoryGateway).upsertAll(any());
+
+        final var actualException = assertThrows(IllegalStateException.class, () -> useCase.execute(aCommand));
+
+        assertEquals("Connection is closed", actualException.getMessage());
+        verify(categoryGateway, times(1)).upsertAll(any());
+    }
+
+    @Test
+    public void givenOnlyInvalidRecords_whenCallsImport_shouldNotCallTheGateway() {
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(List.of(
+                ImportCategoryRecord.with(7, null, "  ", null, true)
+        )));
+
+        assertEquals(0, actualOutput.imported());
+        assertEquals(7, actualOutput.errors().get(0).line());
+        verify(categoryGateway, never()).upsertAll(any());
+    }
+}
@@ -0,0 +1,53 @@
+package com.hartwig.catalog.admin.application.category.retrieve.export;
+
+import com.hartwig.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenCategories_whenCallsExport_shouldHandEachOneToTheConsumer() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, false);
+
+        doAnswer(invocation -> {
+            final Consumer<Category> consumer = invocation.getArgument(0);
+            consumer.accept(filmes);
+            consumer.accept(series);
+            return null;
+        }).when(categoryGateway).streamAll(any());
+
+        final var actualOutputs = new ArrayList<CategoryOutput>();
+        useCase.execute(actualOutputs::add);
+
+        assertEquals(List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)), actualOutputs);
+    }
+}
@@ -2,6 +2,7 @@ package com.hartwig.catalog.admin.application.category.retrieve.list;
 
 import com.hartwig.catalog.admin.domain.category.Category;
 import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.category.CategorySearchGateway;
 import com.hartwig.catalog.admin.domain.pagination.Pagination;
 import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -17,7 +18,10 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,9 +33,12 @@ public class ListCategoriesUseCaseTest {
     @Mock
     private CategoryGateway categoryGateway;
 
+    @Mock
+    private CategorySearchGateway categorySearchGateway;
+
     @BeforeEach
     void cleanUp() {
-        Mockito.reset(categoryGateway);
+        Mockito.reset(categoryGateway, categorySearchGateway);
     }
 
     @Test
@@ -122,4 +129,49 @@ public class ListCategoriesUseCaseTest {
 
         assertEquals(expectedErrorMessage, actualException.getMessage());
     }
+
+    @Test
+    public void givenATermsQuery_whenSearchIndexSupportsIt_shouldHydrateMatchesInIndexOrder() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", "Filmes em episódios", true);
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTotal = 2;
+
+        final var aQuery =
+                new SearchQuery(expectedPage, expectedPerPage, "filmes", "relevance", "desc");
+
+        final var matches = List.of(series.getId(), filmes.getId());
+
+        when(categorySearchGateway.supports(eq(aQuery))).thenReturn(true);
+        when(categorySearchGateway.search(eq(aQuery)))
+                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, matches));
+        when(categoryGateway.findAllById(eq(matches)))
+                .thenReturn(List.of(filmes, series));
+
+        final var actualResult = useCase.execute(aQuery);
+
+        assertAll(
+                () -> assertEquals(expectedTotal, actualResult.total()),
+                () -> assertEquals(series.getId(), actualResult.items().get(0).id()),
+                () -> assertEquals(filmes.getId(), actualResult.items().get(1).id())
+        );
+        verify(categoryGateway, never()).findAll(any());
+    }
+
+    @Test
+    public void givenATermsQuery_whenSearchIndexDoesNotSupportIt_shouldQueryTheGateway() {
+        final var aQuery =
+                new SearchQuery(0, 10, "filmes", "description", "asc");
+
+        when(categorySearchGateway.supports(eq(aQuery))).thenReturn(false);
+        when(categoryGateway.findAll(eq(aQuery)))
+                .thenReturn(new Pagination<>(0, 10, 0, List.<Category>of()));
+
+        final var actualResult = useCase.execute(aQuery);
+
+        assertEquals(0, actualResult.total());
+        verify(categorySearchGateway, never()).search(any());
+    }
 }
@@ -0,0 +1,71 @@
+package com.hartwig.catalog.admin.application.category.retrieve.suggest;
+
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.category.CategorySuggestion;
+import com.hartwig.catalog.admin.domain.category.CategorySuggestionGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultSuggestCategoriesUseCase useCase;
+
+    @Mock
+    private CategorySuggestionGateway categorySuggestionGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categorySuggestionGateway);
+    }
+
+    @Test
+    public void givenAValidPrefix_whenCallsSuggestCategories_shouldReturnSuggestions() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedName = "Filmes";
+
+        when(categorySuggestionGateway.suggest(eq("fil"), eq(10)))
+                .thenReturn(List.of(new CategorySuggestion(expectedId, expectedName)));
+
+        final var actualResult = useCase.execute(SuggestCategoriesCommand.with(" fil ", 10));
+
+        assertEquals(1, actualResult.size());
+        assertEquals(expectedId, actualResult.get(0).id());
+        assertEquals(expectedName, actualResult.get(0).name());
+    }
+
+    @Test
+    public void givenABlankPrefix_whenCallsSuggestCategories_shouldReturnEmptyWithoutCallingGateway() {
+        final var actualResult = useCase.execute(SuggestCategoriesCommand.with("  ", 10));
+
+        assertTrue(actualResult.isEmpty());
+        verify(categorySuggestionGateway, never()).suggest(anyString(), anyInt());
+    }
+
+    @Test
+    public void givenAnOversizedLimit_whenCallsSuggestCategories_shouldCapTheLimit() {
+        when(categorySuggestionGateway.suggest(eq("fil"), eq(50)))
+                .thenReturn(List.of());
+
+        useCase.execute(SuggestCategoriesCommand.with("fil", 1000));
+
+        verify(categorySuggestionGateway).suggest(eq("fil"), eq(50));
+    }
+}
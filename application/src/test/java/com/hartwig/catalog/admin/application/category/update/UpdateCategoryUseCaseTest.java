@@ -3,6 +3,7 @@ package com.hartwig.catalog.admin.application.category.update;
 import com.hartwig.catalog.admin.domain.category.Category;
 import com.hartwig.catalog.admin.domain.category.CategoryGateway;
 import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
 import com.hartwig.catalog.admin.domain.exceptions.DomainException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -228,4 +229,38 @@ public class UpdateCategoryUseCaseTest {
 
         Mockito.verify(categoryGateway, times(0)).update(any());
     }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenCallsUpdateCategory_shouldThrowConflictWithoutWriting() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+        final var expectedErrorMessage = "Category with ID %s is no longer at version 3".formatted(expectedId.getValue());
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 3L);
+
+        when(categoryGateway.findById(eq(expectedId)))
+                .thenReturn(Optional.of(Category.with(aCategory)));
+
+        final var actualException = Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        Mockito.verify(categoryGateway, times(0)).update(any());
+    }
+
+    @Test
+    public void givenAConcurrentWrite_whenGatewayRejectsTheVersion_shouldThrowConflict() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 0L);
+
+        when(categoryGateway.findById(eq(expectedId)))
+                .thenReturn(Optional.of(Category.with(aCategory)));
+
+        when(categoryGateway.update(any()))
+                .thenThrow(ConflictException.with(Category.class, expectedId, 0));
+
+        Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+    }
 }
@@ -0,0 +1,128 @@
+package com.hartwig.catalog.admin.application.category.update.patch;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PatchCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultPatchCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenAPatchWithOnlyTheDescription_whenCallsPatchCategory_shouldKeepTheOtherMembers() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+        final var expectedDescription = "A categoria mais assistida";
+
+        final var aCommand = PatchCategoryCommand.with(
+                expectedId.getValue(),
+                null,
+                PatchValue.of(expectedDescription),
+                null,
+                null
+        );
+
+        when(categoryGateway.findById(eq(expectedId)))
+                .thenReturn(Optional.of(Category.with(aCategory)));
+        when(categoryGateway.patch(any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        Mockito.verify(categoryGateway, times(1)).patch(
+                argThat(aPrevious -> aPrevious.getDescription() == null),
+                argThat(aPatched -> Objects.equals("Filmes", aPatched.getName())
+                        && Objects.equals(expectedDescription, aPatched.getDescription())
+                        && aPatched.isActive()
+                        && aCategory.getUpdatedAt().isBefore(aPatched.getUpdatedAt()))
+        );
+    }
+
+    @Test
+    public void givenAPatchMatchingTheStoredCategory_whenCallsPatchCategory_shouldNotWrite() {
+        final var aCategory = Category.with(Category.newCategory("Filmes", null, true));
+
+        final var aCommand = PatchCategoryCommand.with(
+                aCategory.getId().getValue(),
+                PatchValue.of("Filmes"),
+                PatchValue.of(null),
+                PatchValue.of(true),
+                null
+        );
+
+        when(categoryGateway.findById(eq(aCategory.getId())))
+                .thenReturn(Optional.of(aCategory));
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        assertEquals(aCategory.getVersion(), actualOutput.version());
+        Mockito.verify(categoryGateway, times(0)).patch(any(), any());
+    }
+
+    @Test
+    public void givenANullName_whenCallsPatchCategory_shouldReturnNotification() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        final var aCommand = PatchCategoryCommand.with(
+                aCategory.getId().getValue(),
+                PatchValue.of(null),
+                null,
+                null,
+                null
+        );
+
+        when(categoryGateway.findById(eq(aCategory.getId())))
+                .thenReturn(Optional.of(Category.with(aCategory)));
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        assertEquals("'name' should not be null", notification.firstError().message());
+        Mockito.verify(categoryGateway, times(0)).patch(any(), any());
+    }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenCallsPatchCategory_shouldThrowConflict() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        final var aCommand = PatchCategoryCommand.with(
+                aCategory.getId().getValue(),
+                PatchValue.of("Séries"),
+                null,
+                null,
+                3L
+        );
+
+        when(categoryGateway.findById(eq(aCategory.getId())))
+                .thenReturn(Optional.of(Category.with(aCategory)));
+
+        assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+        Mockito.verify(categoryGateway, times(0)).patch(any(), any());
+    }
+}
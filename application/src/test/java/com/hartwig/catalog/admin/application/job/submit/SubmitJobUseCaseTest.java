@@ -0,0 +1,80 @@
+package com.hartwig.catalog.admin.application.job.submit;
+
+import com.hartwig.catalog.admin.domain.job.JobGateway;
+import com.hartwig.catalog.admin.domain.job.JobStatus;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SubmitJobUseCaseTest {
+
+    private JobGateway jobGateway;
+    private DefaultSubmitJobUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        jobGateway = Mockito.mock(JobGateway.class);
+        useCase = new DefaultSubmitJobUseCase(jobGateway, Map.of("category.bulk-change", (aPayload, aHandler) -> {
+            if (!aPayload.startsWith("{")) {
+                aHandler.append(new Error("'payload' is not a valid category.bulk-change payload"));
+            }
+        }));
+    }
+
+    @Test
+    public void givenAKnownType_whenCallsSubmitJob_shouldQueueIt() {
+        final var expectedType = "category.bulk-change";
+        final var expectedPayload = "{\"action\":\"DELETE\",\"ids\":[\"1\"]}";
+
+        when(jobGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(SubmitJobCommand.with(expectedType, expectedPayload)).get();
+
+        assertNotNull(actualOutput.id());
+        verify(jobGateway, times(1)).create(argThat(aJob ->
+                Objects.equals(expectedType, aJob.getType())
+                        && Objects.equals(expectedPayload, aJob.getPayload())
+                        && aJob.getStatus() == JobStatus.QUEUED
+                        && aJob.getId().getValue().equals(actualOutput.id())
+        ));
+    }
+
+    @Test
+    public void givenAnUnknownType_whenCallsSubmitJob_shouldReturnNotification() {
+        final var expectedMessage = "'type' must be one of [category.bulk-change]";
+
+        final var notification = useCase.execute(SubmitJobCommand.with("category.reindex", "{}")).getLeft();
+
+        assertEquals(1, notification.getErrors().size());
+        assertEquals(expectedMessage, notification.firstError().message());
+        verify(jobGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenANullPayload_whenCallsSubmitJob_shouldReturnNotification() {
+        final var notification = useCase.execute(SubmitJobCommand.with("category.bulk-change", null)).getLeft();
+
+        assertEquals("'payload' should not be null", notification.firstError().message());
+        verify(jobGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenAPayloadItsTypeCannotRead_whenCallsSubmitJob_shouldReturnNotification() {
+        final var expectedMessage = "'payload' is not a valid category.bulk-change payload";
+
+        final var notification = useCase.execute(SubmitJobCommand.with("category.bulk-change", "[1, 2]")).getLeft();
+
+        assertEquals(1, notification.getErrors().size());
+        assertEquals(expectedMessage, notification.firstError().message());
+        verify(jobGateway, never()).create(any());
+    }
+}
@@ -14,6 +14,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
 
     private Category(
             final CategoryID anId,
@@ -22,7 +23,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean isActive,
             final Instant aCreationDate,
             final Instant aUpdateDate,
-            final Instant aDeleteDate
+            final Instant aDeleteDate,
+            final long aVersion
     ) {
         super(anId);
         this.name = aName;
@@ -31,13 +33,14 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(aCreationDate, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(aUpdateDate, "'updatedAt' should not be null");
         this.deletedAt = aDeleteDate;
+        this.version = aVersion;
     }
 
     public static Category newCategory(final String aName, final String aDescription, final boolean isActive) {
         final var id = CategoryID.unique();
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
-        return new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+        return new Category(id, aName, aDescription, isActive, now, now, deletedAt, 0);
     }
 
     public static Category with(
@@ -48,6 +51,19 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final Instant createdAt,
             final Instant updatedAt,
             final Instant deletedAt
+    ) {
+        return with(anId, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(
+            final CategoryID anId,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
     ) {
         return new Category(
                 anId,
@@ -56,7 +72,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 active,
                 createdAt,
                 updatedAt,
-                deletedAt
+                deletedAt,
+                version
         );
     }
 
@@ -68,7 +85,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 aCategory.isActive(),
                 aCategory.createdAt,
                 aCategory.updatedAt,
-                aCategory.deletedAt
+                aCategory.deletedAt,
+                aCategory.version
         );
     }
 
@@ -110,6 +128,14 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return this;
     }
 
+    // true when update(aName, aDescription, isActive) would change nothing but updatedAt
+    public boolean isUnchangedBy(final String aName, final String aDescription, final boolean isActive) {
+        return Objects.equals(this.name, aName)
+                && Objects.equals(this.description, aDescription)
+                && this.active == isActive
+                && (isActive ? this.deletedAt == null : this.deletedAt != null);
+    }
+
     public CategoryID getId() {
         return id;
     }
@@ -138,6 +164,10 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public Category clone() {
         try {
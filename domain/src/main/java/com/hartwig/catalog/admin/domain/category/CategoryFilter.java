@@ -0,0 +1,27 @@
+package com.hartwig.catalog.admin.domain.category;
+
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+
+import java.util.List;
+
+// picks the categories a set-based change applies to: an explicit id list, or everything matching the terms
+public record CategoryFilter(List<CategoryID> ids, String terms, MatchMode match) {
+
+    public CategoryFilter {
+        ids = ids != null ? List.copyOf(ids) : List.of();
+        terms = terms != null ? terms : "";
+        match = match != null ? match : MatchMode.CONTAINS;
+    }
+
+    public static CategoryFilter byIds(final List<CategoryID> anIds) {
+        return new CategoryFilter(anIds, null, null);
+    }
+
+    public static CategoryFilter matching(final String aTerms, final MatchMode aMatch) {
+        return new CategoryFilter(null, aTerms, aMatch);
+    }
+
+    public boolean hasIds() {
+        return !ids.isEmpty();
+    }
+}
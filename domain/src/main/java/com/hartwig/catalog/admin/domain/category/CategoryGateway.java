@@ -3,17 +3,38 @@ package com.hartwig.catalog.admin.domain.category;
 import com.hartwig.catalog.admin.domain.pagination.Pagination;
 import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
+    // inserts the categories whose id is new and overwrites the others, keeping their creation date
+    void upsertAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
     Optional<Category> findById(CategoryID anId);
 
+    List<Category> findAllById(List<CategoryID> anIds);
+
     Category update(Category aCategory);
 
+    // writes only the columns where aPatched differs from aPrevious, the state it was read at
+    Category patch(Category aPrevious, Category aPatched);
+
     Pagination<Category> findAll(SearchQuery aQuery);
+
+    long activateAll(CategoryFilter aFilter);
+
+    long deactivateAll(CategoryFilter aFilter);
+
+    long deleteAll(CategoryFilter aFilter);
+
+    // visits every category in id order, one at a time, without loading the table into memory
+    void streamAll(Consumer<Category> aConsumer);
 }
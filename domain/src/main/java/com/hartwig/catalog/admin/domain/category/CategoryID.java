@@ -1,32 +1,96 @@
 package com.hartwig.catalog.admin.domain.category;
 
 import com.hartwig.catalog.admin.domain.Identifier;
+import com.hartwig.catalog.admin.domain.utils.IdUtils;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 public class CategoryID extends Identifier {
-    private final String value;
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final boolean uuid;
+
+    // the string an id was built from, or formatted lazily for ids built from bits; the racy write is harmless
+    // because every thread computes the same string
+    private String value;
+
+    private CategoryID(final long mostSigBits, final long leastSigBits, final String value) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.uuid = true;
+        this.value = value;
+    }
+
+    // ids that are not UUIDs are kept verbatim so callers can still look them up and get "not found"
     private CategoryID(final String value) {
-        Objects.requireNonNull(value);
+        this.mostSigBits = 0;
+        this.leastSigBits = 0;
+        this.uuid = false;
         this.value = value;
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(IdUtils.timeOrdered());
     }
 
     public static CategoryID from(final String anId) {
-        return new CategoryID(anId);
+        Objects.requireNonNull(anId);
+        if (anId.length() != 36
+                || anId.charAt(8) != '-' || anId.charAt(13) != '-'
+                || anId.charAt(18) != '-' || anId.charAt(23) != '-') {
+            return new CategoryID(anId);
+        }
+
+        final long timeLow = parseHex(anId, 0, 8);
+        final long timeMid = parseHex(anId, 9, 13);
+        final long timeHigh = parseHex(anId, 14, 18);
+        final long clockSeq = parseHex(anId, 19, 23);
+        final long node = parseHex(anId, 24, 36);
+        if ((timeLow | timeMid | timeHigh | clockSeq | node) < 0) {
+            return new CategoryID(anId);
+        }
+
+        // getValue keeps the caller's spelling (an uppercase UUID stays uppercase); equality goes by the bits
+        return new CategoryID(timeLow << 32 | timeMid << 16 | timeHigh, clockSeq << 48 | node, anId);
     }
 
     public static CategoryID from(final UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
+        return new CategoryID(anId.getMostSignificantBits(), anId.getLeastSignificantBits(), null);
+    }
+
+    // false for ids kept verbatim, which can never be stored
+    public boolean isUUID() {
+        return uuid;
+    }
+
+    // the stored bits, so gateways get the UUID without formatting and re-parsing the string; empty for ids kept
+    // verbatim, which no row can have
+    public Optional<UUID> toUUID() {
+        return uuid ? Optional.of(new UUID(mostSigBits, leastSigBits)) : Optional.empty();
     }
 
+    // both 0 for ids kept verbatim
+    public long getMostSignificantBits() {
+        return mostSigBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSigBits;
+    }
+
+    @Override
     public String getValue() {
-        return value;
+        var aValue = value;
+        if (aValue == null) {
+            aValue = format(mostSigBits, leastSigBits);
+            value = aValue;
+        }
+        return aValue;
     }
 
     @Override
@@ -34,11 +98,55 @@ public class CategoryID extends Identifier {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final CategoryID that = (CategoryID) o;
-        return getValue().equals(that.getValue());
+        if (uuid != that.uuid) return false;
+        return uuid
+                ? mostSigBits == that.mostSigBits && leastSigBits == that.leastSigBits
+                : value.equals(that.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getValue());
+        return uuid ? Long.hashCode(mostSigBits ^ leastSigBits) : value.hashCode();
+    }
+
+    // -1 when any character is not a hex digit; segments are at most 48 bits, so a valid one is never negative
+    private static long parseHex(final String aValue, final int begin, final int end) {
+        long result = 0;
+        for (int i = begin; i < end; i++) {
+            final char c = aValue.charAt(i);
+            final int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else if (c >= 'A' && c <= 'F') {
+                digit = c - 'A' + 10;
+            } else {
+                return -1;
+            }
+            result = result << 4 | digit;
+        }
+        return result;
+    }
+
+    private static String format(final long mostSigBits, final long leastSigBits) {
+        final var chars = new char[36];
+        formatHex(chars, 0, mostSigBits >>> 32, 8);
+        chars[8] = '-';
+        formatHex(chars, 9, mostSigBits >>> 16, 4);
+        chars[13] = '-';
+        formatHex(chars, 14, mostSigBits, 4);
+        chars[18] = '-';
+        formatHex(chars, 19, leastSigBits >>> 48, 4);
+        chars[23] = '-';
+        formatHex(chars, 24, leastSigBits, 12);
+        return new String(chars);
+    }
+
+    private static void formatHex(final char[] chars, final int offset, long bits, final int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
     }
 }
@@ -0,0 +1,11 @@
+package com.hartwig.catalog.admin.domain.category;
+
+import com.hartwig.catalog.admin.domain.pagination.Pagination;
+import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+
+public interface CategorySearchGateway {
+
+    boolean supports(SearchQuery aQuery);
+
+    Pagination<CategoryID> search(SearchQuery aQuery);
+}
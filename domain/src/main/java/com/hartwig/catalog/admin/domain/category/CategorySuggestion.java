@@ -0,0 +1,4 @@
+package com.hartwig.catalog.admin.domain.category;
+
+public record CategorySuggestion(CategoryID id, String name) {
+}
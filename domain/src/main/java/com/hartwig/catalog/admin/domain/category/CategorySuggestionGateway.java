@@ -0,0 +1,8 @@
+package com.hartwig.catalog.admin.domain.category;
+
+import java.util.List;
+
+public interface CategorySuggestionGateway {
+
+    List<CategorySuggestion> suggest(String aPrefix, int aLimit);
+}
@@ -0,0 +1,28 @@
+package com.hartwig.catalog.admin.domain.exceptions;
+
+import com.hartwig.catalog.admin.domain.AggregateRoot;
+import com.hartwig.catalog.admin.domain.Identifier;
+import com.hartwig.catalog.admin.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String aMessage, final List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id,
+            final long expectedVersion
+    ) {
+        final var anError = "%s with ID %s is no longer at version %d".formatted(
+                anAggregate.getSimpleName(),
+                id.getValue(),
+                expectedVersion
+        );
+        return new ConflictException(anError, Collections.emptyList());
+    }
+}
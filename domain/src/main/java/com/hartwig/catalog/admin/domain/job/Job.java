@@ -0,0 +1,132 @@
+package com.hartwig.catalog.admin.domain.job;
+
+import com.hartwig.catalog.admin.domain.AggregateRoot;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.domain.validation.ValidationHandler;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// a unit of work run off the request thread; payload, checkpoint and result are opaque to the domain
+public class Job extends AggregateRoot<JobID> {
+    private final String type;
+    private final String payload;
+    private final JobStatus status;
+    private final long processed;
+    private final Long total;
+    private final String checkpoint;
+    private final String result;
+    private final String error;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+    private final Instant finishedAt;
+
+    private Job(
+            final JobID anId,
+            final String aType,
+            final String aPayload,
+            final JobStatus aStatus,
+            final long aProcessed,
+            final Long aTotal,
+            final String aCheckpoint,
+            final String aResult,
+            final String anError,
+            final Instant aCreationDate,
+            final Instant aUpdateDate,
+            final Instant aFinishDate
+    ) {
+        super(anId);
+        this.type = aType;
+        this.payload = aPayload;
+        this.status = Objects.requireNonNull(aStatus, "'status' should not be null");
+        this.processed = aProcessed;
+        this.total = aTotal;
+        this.checkpoint = aCheckpoint;
+        this.result = aResult;
+        this.error = anError;
+        this.createdAt = Objects.requireNonNull(aCreationDate, "'createdAt' should not be null");
+        this.updatedAt = Objects.requireNonNull(aUpdateDate, "'updatedAt' should not be null");
+        this.finishedAt = aFinishDate;
+    }
+
+    public static Job newJob(final String aType, final String aPayload) {
+        final var now = InstantUtils.now();
+        return new Job(JobID.unique(), aType, aPayload, JobStatus.QUEUED, 0, null, null, null, null, now, now, null);
+    }
+
+    public static Job with(
+            final JobID anId,
+            final String type,
+            final String payload,
+            final JobStatus status,
+            final long processed,
+            final Long total,
+            final String checkpoint,
+            final String result,
+            final String error,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant finishedAt
+    ) {
+        return new Job(anId, type, payload, status, processed, total, checkpoint, result, error, createdAt, updatedAt, finishedAt);
+    }
+
+    @Override
+    public void validate(final ValidationHandler handler) {
+        if (type == null || type.isBlank()) {
+            handler.append(new Error("'type' should not be empty"));
+        }
+        if (payload == null) {
+            handler.append(new Error("'payload' should not be null"));
+        }
+    }
+
+    public JobID getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.hartwig.catalog.admin.domain.job;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface JobGateway {
+
+    Job create(Job aJob);
+
+    Optional<Job> findById(JobID anId);
+
+    // queued jobs, plus running ones whose last checkpoint is older than staleBefore (their runner is presumed dead)
+    List<JobID> findRunnable(Instant staleBefore, int limit);
+
+    // moves a runnable job to RUNNING under a fresh claim token; empty when another runner got it first
+    Optional<String> claim(JobID anId, Instant staleBefore);
+
+    // every call below only applies while aClaim is still the job's token, and returns false once another
+    // runner has taken the job over; the runner holding the old token must stop
+    boolean checkpoint(JobID anId, String aClaim, String aCheckpoint, long processed, Long total);
+
+    // tells the other runners this job is still alive even when it has nothing to checkpoint
+    boolean heartbeat(JobID anId, String aClaim);
+
+    boolean succeed(JobID anId, String aClaim, String aResult);
+
+    boolean fail(JobID anId, String aClaim, String anError);
+}
@@ -0,0 +1,41 @@
+package com.hartwig.catalog.admin.domain.job;
+
+import com.hartwig.catalog.admin.domain.Identifier;
+import com.hartwig.catalog.admin.domain.utils.IdUtils;
+
+import java.util.Objects;
+
+public class JobID extends Identifier {
+
+    private final String value;
+
+    private JobID(final String value) {
+        this.value = Objects.requireNonNull(value);
+    }
+
+    public static JobID unique() {
+        return new JobID(IdUtils.timeOrdered().toString());
+    }
+
+    public static JobID from(final String anId) {
+        return new JobID(anId);
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final JobID that = (JobID) o;
+        return value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
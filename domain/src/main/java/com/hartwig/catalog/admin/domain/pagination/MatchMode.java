@@ -0,0 +1,24 @@
+package com.hartwig.catalog.admin.domain.pagination;
+
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum MatchMode {
+    CONTAINS,
+    PREFIX;
+
+    public static MatchMode from(final String aValue) {
+        if (aValue == null || aValue.isBlank()) {
+            return CONTAINS;
+        }
+
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(aValue))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'match' must be one of contains or prefix")
+                ));
+    }
+}
@@ -5,6 +5,55 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        TotalMode totalMode,
+        MatchMode match
 ) {
+
+    public SearchQuery {
+        if (totalMode == null) {
+            totalMode = TotalMode.EXACT;
+        }
+        if (match == null) {
+            match = MatchMode.CONTAINS;
+        }
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, TotalMode.EXACT, MatchMode.CONTAINS);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, TotalMode.EXACT, MatchMode.CONTAINS);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final TotalMode totalMode
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, totalMode, MatchMode.CONTAINS);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
 }
@@ -0,0 +1,25 @@
+package com.hartwig.catalog.admin.domain.pagination;
+
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum TotalMode {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static TotalMode from(final String aValue) {
+        if (aValue == null || aValue.isBlank()) {
+            return EXACT;
+        }
+
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(aValue))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'totalMode' must be one of exact, estimated or none")
+                ));
+    }
+}
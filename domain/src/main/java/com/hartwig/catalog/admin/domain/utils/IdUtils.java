@@ -0,0 +1,21 @@
+package com.hartwig.catalog.admin.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class IdUtils {
+
+    private IdUtils() {
+    }
+
+    // UUIDv7 (RFC 9562): 48-bit unix millis, then random bits, so new ids land at the right edge of the index
+    public static UUID timeOrdered() {
+        final var random = ThreadLocalRandom.current();
+        final long millis = System.currentTimeMillis();
+
+        final long mostSigBits = (millis << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        final long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,78 @@
+package com.hartwig.catalog.admin.domain.category;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategoryIDTest {
+
+    @Test
+    public void givenNoParams_whenCallUnique_thenGenerateATimeOrderedUUID() {
+        final var before = System.currentTimeMillis();
+
+        final var actualId = UUID.fromString(CategoryID.unique().getValue());
+
+        assertAll(
+                () -> assertEquals(7, actualId.version()),
+                () -> assertEquals(2, actualId.variant()),
+                () -> assertTrue((actualId.getMostSignificantBits() >>> 16) >= before)
+        );
+    }
+
+    @Test
+    public void givenIdsGeneratedInSequence_whenCompareTheirText_thenFollowCreationTime() throws InterruptedException {
+        final var first = CategoryID.unique();
+        Thread.sleep(2);
+        final var second = CategoryID.unique();
+
+        assertTrue(first.getValue().compareTo(second.getValue()) < 0);
+    }
+
+    @Test
+    public void givenARandomUUID_whenCallFrom_thenKeepItsCanonicalValue() {
+        final var expectedValue = UUID.randomUUID().toString();
+
+        final var actualId = CategoryID.from(UUID.fromString(expectedValue));
+
+        assertEquals(expectedValue, actualId.getValue());
+    }
+
+    @Test
+    public void givenAnUppercaseUUID_whenCallFrom_thenEqualTheCanonicalIdAndKeepItsValue() {
+        final var expectedId = CategoryID.from(UUID.randomUUID());
+        final var expectedValue = expectedId.getValue().toUpperCase();
+
+        final var actualId = CategoryID.from(expectedValue);
+
+        assertAll(
+                () -> assertEquals(expectedId, actualId),
+                () -> assertEquals(expectedId.hashCode(), actualId.hashCode()),
+                () -> assertEquals(expectedValue, actualId.getValue())
+        );
+    }
+
+    @Test
+    public void givenAValueThatIsNotAUUID_whenCallFrom_thenKeepItVerbatim() {
+        final var actualId = CategoryID.from("123");
+
+        assertAll(
+                () -> assertEquals("123", actualId.getValue()),
+                () -> assertEquals(CategoryID.from("123"), actualId),
+                () -> assertNotEquals(CategoryID.from("00000000-0000-0000-0000-00000000012g"), CategoryID.from(UUID.randomUUID()))
+        );
+    }
+
+    @Test
+    public void givenAnId_whenCallToUUID_thenReturnTheStoredBitsOrEmptyWhenVerbatim() {
+        final var expectedUUID = UUID.randomUUID();
+
+        assertAll(
+                () -> assertEquals(Optional.of(expectedUUID), CategoryID.from(expectedUUID.toString().toUpperCase()).toUUID()),
+                () -> assertEquals(Optional.of(expectedUUID), CategoryID.from(expectedUUID).toUUID()),
+                () -> assertEquals(Optional.empty(), CategoryID.from("123").toUUID())
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.hartwig.catalog.admin.infrastructure;
+
+import com.hartwig.catalog.admin.infrastructure.category.imports.CategoryImportFormat;
+import com.hartwig.catalog.admin.infrastructure.category.loader.CategoryBulkLoader;
+import com.hartwig.catalog.admin.infrastructure.configuration.json.Json;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.core.env.AbstractEnvironment;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+// seeds the category table from a CSV or NDJSON file without starting the web server:
+// CategoryLoader <file> [--format=csv|ndjson] [--defer-indexes]
+// like Main it falls back to the development profile; SPRING_PROFILES_ACTIVE (or --spring.profiles.active) picks another
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, PropertyPlaceholderAutoConfiguration.class})
+public class CategoryLoader {
+
+    private static final String FORMAT = "--format=";
+    private static final String DEFER_INDEXES = "--defer-indexes";
+
+    public static void main(String[] args) throws Exception {
+        final var aFile = Arrays.stream(args).filter(arg -> !arg.startsWith("--")).findFirst()
+                .map(Path::of)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Usage: CategoryLoader <file> [--format=csv|ndjson] [--defer-indexes]"));
+        final var aFormat = Arrays.stream(args).filter(arg -> arg.startsWith(FORMAT)).findFirst()
+                .map(arg -> arg.substring(FORMAT.length()))
+                .or(() -> extension(aFile))
+                .map(name -> CategoryImportFormat.valueOf(name.toUpperCase(Locale.ROOT)))
+                .orElseThrow(() -> new IllegalArgumentException("Cannot tell the format of " + aFile + ", pass --format"));
+        final var deferIndexes = Arrays.asList(args).contains(DEFER_INDEXES);
+
+        // only a default: any active profile replaces it
+        System.setProperty(AbstractEnvironment.DEFAULT_PROFILES_PROPERTY_NAME, "development");
+        try (final var context = new SpringApplicationBuilder(CategoryLoader.class)
+                .web(WebApplicationType.NONE)
+                // Connector/J refuses LOAD DATA LOCAL unless the client opts in
+                .properties("spring.datasource.hikari.data-source-properties.allowLoadLocalInfile=true")
+                .run(args);
+             final var input = Files.newInputStream(aFile)) {
+            final var loader = new CategoryBulkLoader(context.getBean(DataSource.class));
+            final var report = loader.load(input, aFormat, deferIndexes,
+                    anError -> System.err.println(Json.writeValueAsString(anError)));
+            System.out.println(report);
+        }
+    }
+
+    private static Optional<String> extension(final Path aFile) {
+        final var name = aFile.getFileName().toString();
+        final var dot = name.lastIndexOf('.');
+        return dot < 0 ? Optional.empty() : Optional.of(name.substring(dot + 1));
+    }
+}
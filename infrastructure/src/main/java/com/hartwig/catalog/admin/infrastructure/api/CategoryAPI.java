@@ -1,22 +1,35 @@
 package com.hartwig.catalog.admin.infrastructure.api;
 
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesOutput;
 import com.hartwig.catalog.admin.domain.pagination.Pagination;
+import com.hartwig.catalog.admin.infrastructure.category.imports.CategoryImportFormat;
+import com.hartwig.catalog.admin.infrastructure.category.models.BulkChangeCategoriesRequest;
 import com.hartwig.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import com.hartwig.catalog.admin.infrastructure.category.models.CategoryResponse;
+import com.hartwig.catalog.admin.infrastructure.category.models.CategorySuggestionResponse;
 import com.hartwig.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import com.hartwig.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
 public interface CategoryAPI {
+
+    String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     @PostMapping(
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -29,6 +42,58 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once, reporting validation errors per item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Valid items were created; invalid ones are listed by index"),
+            @ApiResponse(responseCode = "422", description = "No item was valid"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
+    @PostMapping(
+            value = "bulk/activate",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Activate every category in the id list or matching the search")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns how many categories were changed"),
+            @ApiResponse(responseCode = "422", description = "Neither or both of ids and search were given"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    BulkChangeCategoriesOutput activateCategories(@RequestBody BulkChangeCategoriesRequest input);
+
+    @PostMapping(
+            value = "bulk/deactivate",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Deactivate every category in the id list or matching the search")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns how many categories were changed"),
+            @ApiResponse(responseCode = "422", description = "Neither or both of ids and search were given"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    BulkChangeCategoriesOutput deactivateCategories(@RequestBody BulkChangeCategoriesRequest input);
+
+    @PostMapping(
+            value = "bulk/delete",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Delete every category in the id list or matching the search")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns how many categories were changed"),
+            @ApiResponse(responseCode = "422", description = "Neither or both of ids and search were given"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    BulkChangeCategoriesOutput deleteCategories(@RequestBody BulkChangeCategoriesRequest input);
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
@@ -41,9 +106,53 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "totalMode", required = false, defaultValue = "exact") final String totalMode,
+            @RequestParam(name = "match", required = false, defaultValue = "contains") final String match
     );
 
+    @GetMapping(
+            value = "suggest",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Suggest categories whose name starts like the prefix, tolerating typos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggested successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<CategorySuggestionResponse> suggestCategories(
+            @RequestParam(name = "prefix", required = false, defaultValue = "") final String prefix,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
+    );
+
+    @PostMapping(
+            value = "import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, CategoryImportFormat.CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Upsert categories from an NDJSON or CSV body, streaming back one line per rejected record and a summary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streamed the rejected lines followed by the read/imported/failed totals"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> importCategories(
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    );
+
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Stream every category, including deleted ones, as one JSON object per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streamed in id order"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories();
+
     @GetMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -65,9 +174,33 @@ public interface CategoryAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "409", description = "The category changed since the version sent in If-Match or in the body"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateCategoryRequest input
+    );
+
+    @PatchMapping(
+            value = "{id}",
+            consumes = {CategoryAPI.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Apply a JSON merge patch (RFC 7396) to a category")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Category patched, or already matching the patch"),
+            @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "409", description = "The category changed since the version sent in If-Match"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryRequest input);
+    ResponseEntity<?> patchById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody Map<String, Object> patch
+    );
 
     @DeleteMapping(
             value = "{id}",
@@ -0,0 +1,40 @@
+package com.hartwig.catalog.admin.infrastructure.api;
+
+import com.hartwig.catalog.admin.infrastructure.job.models.JobResponse;
+import com.hartwig.catalog.admin.infrastructure.job.models.SubmitJobRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RequestMapping(value = "jobs")
+@Tag(name = "Jobs")
+public interface JobAPI {
+
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Submit a long running operation to be executed in the background")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Accepted; poll the Location to follow its progress"),
+            @ApiResponse(responseCode = "422", description = "Unknown job type or missing payload"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> submitJob(@RequestBody SubmitJobRequest input);
+
+    @GetMapping(
+            value = "{id}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get the status, progress and result of a job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Job was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    JobResponse getById(@PathVariable(name = "id") String id);
+}
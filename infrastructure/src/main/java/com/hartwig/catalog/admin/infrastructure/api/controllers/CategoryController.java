@@ -1,27 +1,61 @@
 package com.hartwig.catalog.admin.infrastructure.api.controllers;
 
+import com.hartwig.catalog.admin.application.category.bulk.BulkCategoryAction;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesCommand;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesOutput;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.create.CreateCategoryCommand;
 import com.hartwig.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.hartwig.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.create.bulk.BulkCreateCategoriesCommand;
+import com.hartwig.catalog.admin.application.category.create.bulk.BulkCreateCategoriesOutput;
+import com.hartwig.catalog.admin.application.category.create.bulk.BulkCreateCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.hartwig.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesCommand;
+import com.hartwig.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.update.UpdateCategoryCommand;
 import com.hartwig.catalog.admin.application.category.update.UpdateCategoryOutput;
 import com.hartwig.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.update.patch.PatchCategoryCommand;
+import com.hartwig.catalog.admin.application.category.update.patch.PatchCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.update.patch.PatchValue;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
 import com.hartwig.catalog.admin.domain.pagination.Pagination;
 import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.domain.pagination.TotalMode;
+import com.hartwig.catalog.admin.domain.validation.Error;
 import com.hartwig.catalog.admin.domain.validation.handler.Notification;
 import com.hartwig.catalog.admin.infrastructure.api.CategoryAPI;
+import com.hartwig.catalog.admin.infrastructure.category.imports.CategoryImportFormat;
+import com.hartwig.catalog.admin.infrastructure.category.imports.CategoryImporter;
+import com.hartwig.catalog.admin.infrastructure.category.models.BulkChangeCategoriesRequest;
 import com.hartwig.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import com.hartwig.catalog.admin.infrastructure.category.models.CategoryResponse;
+import com.hartwig.catalog.admin.infrastructure.category.models.CategorySuggestionResponse;
 import com.hartwig.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import com.hartwig.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import com.hartwig.catalog.admin.infrastructure.category.presenters.CategoryApiPresenter;
+import com.hartwig.catalog.admin.infrastructure.configuration.json.Json;
+import com.hartwig.catalog.admin.infrastructure.utils.ETagUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -31,21 +65,39 @@ public class CategoryController implements CategoryAPI {
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
+    private final PatchCategoryUseCase patchCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final SuggestCategoriesUseCase suggestCategoriesUseCase;
+    private final BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase;
+    private final BulkChangeCategoriesUseCase bulkChangeCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final CategoryImporter categoryImporter;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
+            final PatchCategoryUseCase patchCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final SuggestCategoriesUseCase suggestCategoriesUseCase,
+            final BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase,
+            final BulkChangeCategoriesUseCase bulkChangeCategoriesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final CategoryImporter categoryImporter
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.patchCategoryUseCase = Objects.requireNonNull(patchCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.suggestCategoriesUseCase = Objects.requireNonNull(suggestCategoriesUseCase);
+        this.bulkCreateCategoriesUseCase = Objects.requireNonNull(bulkCreateCategoriesUseCase);
+        this.bulkChangeCategoriesUseCase = Objects.requireNonNull(bulkChangeCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.categoryImporter = Objects.requireNonNull(categoryImporter);
     }
 
     @Override
@@ -66,44 +118,198 @@ public class CategoryController implements CategoryAPI {
                 .fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<?> createCategories(final List<CreateCategoryRequest> input) {
+        final var aCommand = BulkCreateCategoriesCommand.with(input.stream()
+                .map(item -> CreateCategoryCommand.with(
+                        item.name(),
+                        item.description(),
+                        item.active() != null ? item.active() : true
+                ))
+                .toList());
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+                ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<BulkCreateCategoriesOutput, ResponseEntity<?>> onSuccess = output ->
+                output.created().isEmpty() && !output.errors().isEmpty()
+                        ? ResponseEntity.unprocessableEntity().body(output)
+                        : ResponseEntity.status(HttpStatus.CREATED).body(output);
+
+        return this.bulkCreateCategoriesUseCase.execute(aCommand)
+                .fold(onError, onSuccess);
+    }
+
+    @Override
+    public BulkChangeCategoriesOutput activateCategories(final BulkChangeCategoriesRequest input) {
+        return changeCategories(BulkCategoryAction.ACTIVATE, input);
+    }
+
+    @Override
+    public BulkChangeCategoriesOutput deactivateCategories(final BulkChangeCategoriesRequest input) {
+        return changeCategories(BulkCategoryAction.DEACTIVATE, input);
+    }
+
+    @Override
+    public BulkChangeCategoriesOutput deleteCategories(final BulkChangeCategoriesRequest input) {
+        return changeCategories(BulkCategoryAction.DELETE, input);
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final String totalMode,
+            final String match
     ) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        final var aQuery = new SearchQuery(
+                page,
+                perPage,
+                search,
+                sort,
+                direction,
+                cursor,
+                TotalMode.from(totalMode),
+                MatchMode.from(match)
+        );
+
+        return listCategoriesUseCase.execute(aQuery)
                 .map(CategoryApiPresenter::present);
     }
 
+    @Override
+    public List<CategorySuggestionResponse> suggestCategories(final String prefix, final int limit) {
+        return suggestCategoriesUseCase.execute(SuggestCategoriesCommand.with(prefix, limit)).stream()
+                .map(CategoryApiPresenter::present)
+                .toList();
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> importCategories(final String contentType, final InputStream body) {
+        // consumes already narrowed it down, so this only maps the header to its parser
+        final var aFormat = CategoryImportFormat.of(contentType).orElseThrow();
+
+        final StreamingResponseBody response = out -> {
+            final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            final var summary = this.categoryImporter.importFrom(body, aFormat, error -> writeLine(writer, error));
+            writeLine(writer, summary);
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(response);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        final StreamingResponseBody body = out -> {
+            final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.exportCategoriesUseCase.execute(output -> writeLine(writer, CategoryApiPresenter.present(output)));
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Override
     public CategoryResponse getById(final String id) {
         return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
         final var aCommand = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true
+                input.active() != null ? input.active() : true,
+                ifMatch != null ? ETagUtils.parseVersion(ifMatch) : input.version()
         );
 
         final Function<Notification, ResponseEntity<?>> onError = notification ->
                 ResponseEntity.unprocessableEntity().body(notification);
 
-        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess =
-                ResponseEntity::ok;
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+                ResponseEntity.ok().eTag(ETagUtils.of(output.version())).body(output);
 
         return this.updateCategoryUseCase.execute(aCommand)
                 .fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<?> patchById(final String id, final String ifMatch, final Map<String, Object> patch) {
+        final var aCommand = PatchCategoryCommand.with(
+                id,
+                member(patch, "name", String.class, true),
+                member(patch, "description", String.class, true),
+                member(patch, "is_active", Boolean.class, false),
+                ifMatch != null ? ETagUtils.parseVersion(ifMatch) : null
+        );
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+                ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+                ResponseEntity.ok().eTag(ETagUtils.of(output.version())).body(output);
+
+        return this.patchCategoryUseCase.execute(aCommand)
+                .fold(onError, onSuccess);
+    }
+
     @Override
     public void deleteById(final String anId) {
         this.deleteCategoryUseCase.execute(anId);
     }
+
+    // null when the patch leaves the member out; unknown members are ignored, like in the other request bodies
+    private static <T> PatchValue<T> member(
+            final Map<String, Object> patch,
+            final String aName,
+            final Class<T> aType,
+            final boolean nullable
+    ) {
+        if (!patch.containsKey(aName)) {
+            return null;
+        }
+
+        final var aValue = patch.get(aName);
+        if (aValue == null ? !nullable : !aType.isInstance(aValue)) {
+            throw DomainException.with(new Error("'%s' must be a %s".formatted(
+                    aName,
+                    aType.getSimpleName().toLowerCase()
+            )));
+        }
+        return PatchValue.of(aType.cast(aValue));
+    }
+
+    private BulkChangeCategoriesOutput changeCategories(
+            final BulkCategoryAction anAction,
+            final BulkChangeCategoriesRequest input
+    ) {
+        final var aCommand = BulkChangeCategoriesCommand.with(
+                anAction,
+                input.ids(),
+                input.search(),
+                MatchMode.from(input.match())
+        );
+
+        return this.bulkChangeCategoriesUseCase.execute(aCommand);
+    }
+
+    // the client went away; failing here stops the work instead of carrying on for nobody
+    private static void writeLine(final BufferedWriter writer, final Object aValue) {
+        try {
+            writer.write(Json.writeValueAsString(aValue));
+            writer.write('\n');
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.hartwig.catalog.admin.infrastructure.api.controllers;
 
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
 import com.hartwig.catalog.admin.domain.exceptions.DomainException;
 import com.hartwig.catalog.admin.domain.exceptions.NotFoundException;
 import org.springframework.http.HttpStatus;
@@ -19,12 +20,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final ConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.from(ex));
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<?> handleDomainException(final DomainException ex) {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
     }
 
-    record ApiError(String message, List<Error> errors) {
+    // also written directly by the servlet filters, which answer before a controller runs
+    public record ApiError(String message, List<Error> errors) {
         static ApiError from(final DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
         }
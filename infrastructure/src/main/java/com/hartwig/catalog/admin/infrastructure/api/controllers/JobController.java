@@ -0,0 +1,54 @@
+package com.hartwig.catalog.admin.infrastructure.api.controllers;
+
+import com.hartwig.catalog.admin.application.job.retrieve.get.GetJobByIdUseCase;
+import com.hartwig.catalog.admin.application.job.submit.SubmitJobCommand;
+import com.hartwig.catalog.admin.application.job.submit.SubmitJobOutput;
+import com.hartwig.catalog.admin.application.job.submit.SubmitJobUseCase;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+import com.hartwig.catalog.admin.infrastructure.api.JobAPI;
+import com.hartwig.catalog.admin.infrastructure.job.models.JobResponse;
+import com.hartwig.catalog.admin.infrastructure.job.models.SubmitJobRequest;
+import com.hartwig.catalog.admin.infrastructure.job.presenters.JobApiPresenter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.function.Function;
+
+@RestController
+public class JobController implements JobAPI {
+
+    private final SubmitJobUseCase submitJobUseCase;
+    private final GetJobByIdUseCase getJobByIdUseCase;
+
+    public JobController(
+            final SubmitJobUseCase submitJobUseCase,
+            final GetJobByIdUseCase getJobByIdUseCase
+    ) {
+        this.submitJobUseCase = Objects.requireNonNull(submitJobUseCase);
+        this.getJobByIdUseCase = Objects.requireNonNull(getJobByIdUseCase);
+    }
+
+    @Override
+    public ResponseEntity<?> submitJob(final SubmitJobRequest input) {
+        final var aCommand = SubmitJobCommand.with(
+                input.type(),
+                input.payload() != null && !input.payload().isNull() ? input.payload().toString() : null
+        );
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+                ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<SubmitJobOutput, ResponseEntity<?>> onSuccess = output ->
+                ResponseEntity.accepted().location(URI.create("/jobs/" + output.id())).body(output);
+
+        return this.submitJobUseCase.execute(aCommand)
+                .fold(onError, onSuccess);
+    }
+
+    @Override
+    public JobResponse getById(final String id) {
+        return JobApiPresenter.present(this.getJobByIdUseCase.execute(id));
+    }
+}
@@ -0,0 +1,56 @@
+package com.hartwig.catalog.admin.infrastructure.category;
+
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+@Component
+public class CategoryCountCache {
+
+    private final Map<String, Entry> entries;
+    private final long ttlNanos;
+
+    public CategoryCountCache(
+            @Value("${category.count-cache.ttl:30s}") final Duration ttl,
+            @Value("${category.count-cache.max-entries:1000}") final int maxEntries
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        // access-ordered, so a full cache drops the least recently read count instead of all of them
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public long get(final String terms, final MatchMode match, final LongSupplier counter) {
+        final var key = match + ":" + (terms == null ? "" : terms.toUpperCase());
+        final var now = System.nanoTime();
+
+        synchronized (entries) {
+            final var cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() - now > 0) {
+                    return cached.count();
+                }
+                entries.remove(key);
+            }
+        }
+
+        // counted outside the lock; two concurrent misses on the same key both count, the last one wins
+        final var count = counter.getAsLong();
+        synchronized (entries) {
+            entries.put(key, new Entry(count, now + ttlNanos));
+        }
+        return count;
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -1,72 +1,283 @@
 package com.hartwig.catalog.admin.infrastructure.category;
 
 import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryFilter;
 import com.hartwig.catalog.admin.domain.category.CategoryGateway;
 import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
 import com.hartwig.catalog.admin.domain.pagination.Pagination;
 import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategoryDeletedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategorySavedEvent;
 import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
-import com.hartwig.catalog.admin.infrastructure.utils.SpecificationUtils;
+import com.hartwig.catalog.admin.infrastructure.utils.CursorUtils;
+import com.hartwig.catalog.admin.infrastructure.utils.NormalizationUtils;
+import com.hartwig.catalog.admin.infrastructure.utils.UUIDUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-
-import static com.hartwig.catalog.admin.infrastructure.utils.SpecificationUtils.like;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 @Service
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository repository;
+    private final CategoryCountCache countCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int bulkChunkSize;
+    private final int exportFetchSize;
 
-    public CategoryMySQLGateway(final CategoryRepository categoryRepository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository categoryRepository,
+            final CategoryCountCache categoryCountCache,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${category.bulk.chunk-size:500}") final int bulkChunkSize,
+            @Value("${category.export.fetch-size:-2147483648}") final int exportFetchSize
+    ) {
         this.repository = categoryRepository;
+        this.countCache = categoryCountCache;
+        this.eventPublisher = eventPublisher;
+        this.bulkChunkSize = bulkChunkSize;
+        this.exportFetchSize = exportFetchSize;
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        repository.insert(CategoryJpaEntity.from(aCategory));
+        eventPublisher.publishEvent(new CategorySavedEvent(aCategory));
+        return aCategory;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        // one transaction per chunk keeps the persistence context small; hibernate.jdbc.batch_size groups the inserts
+        for (int from = 0; from < aCategories.size(); from += bulkChunkSize) {
+            final var chunk = aCategories.subList(from, Math.min(from + bulkChunkSize, aCategories.size()));
+
+            repository.insertAll(chunk.stream().map(CategoryJpaEntity::from).toList());
+            chunk.forEach(aCategory -> eventPublisher.publishEvent(new CategorySavedEvent(aCategory)));
+        }
+        return List.copyOf(aCategories);
+    }
+
+    @Override
+    public void upsertAll(final List<Category> aCategories) {
+        for (int from = 0; from < aCategories.size(); from += bulkChunkSize) {
+            final var chunk = aCategories.subList(from, Math.min(from + bulkChunkSize, aCategories.size()));
+
+            final var entities = chunk.stream().map(CategoryJpaEntity::from).toList();
+            try {
+                repository.upsertAll(entities);
+            } catch (final DataIntegrityViolationException ex) {
+                throw rejected(ex);
+            }
+
+            // the stored rows rather than the imported ones: an update keeps created_at and deleted_at and bumps the version
+            repository.findAllById(entities.stream().map(CategoryJpaEntity::getId).toList())
+                    .forEach(entity -> eventPublisher.publishEvent(new CategorySavedEvent(entity.toAggregate())));
+        }
     }
 
     @Override
     public void deleteById(CategoryID anId) {
-        final var anIdValue = anId.getValue();
-        if (repository.existsById(anIdValue)) {
-            repository.deleteById(anIdValue);
+        final var anIdValue = anId.toUUID();
+        if (anIdValue.isPresent() && repository.deleteRow(anIdValue.get()) > 0) {
+            // the canonical form, since the indexes key documents by the lowercase id
+            eventPublisher.publishEvent(new CategoryDeletedEvent(CategoryID.from(anIdValue.get())));
         }
     }
 
     @Override
     public Optional<Category> findById(CategoryID anId) {
-        return repository.findById(anId.getValue()).map(CategoryJpaEntity::toAggregate);
+        return anId.toUUID()
+                .flatMap(repository::findById)
+                .map(CategoryJpaEntity::toAggregate);
+    }
+
+    @Override
+    public List<Category> findAllById(final List<CategoryID> anIds) {
+        if (anIds.isEmpty()) {
+            return List.of();
+        }
+
+        final var ids = anIds.stream()
+                .map(CategoryID::toUUID)
+                .flatMap(Optional::stream)
+                .toList();
+        return repository.findAllById(ids).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
     }
 
     @Override
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        final var anExpectedVersion = aCategory.getVersion();
+        if (repository.updateIfVersion(CategoryJpaEntity.from(aCategory), anExpectedVersion) == 0) {
+            throw ConflictException.with(Category.class, aCategory.getId(), anExpectedVersion);
+        }
+
+        final var updated = Category.with(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                anExpectedVersion + 1
+        );
+        eventPublisher.publishEvent(new CategorySavedEvent(updated));
+        return updated;
+    }
+
+    @Override
+    public Category patch(final Category aPrevious, final Category aPatched) {
+        // attribute names of CategoryJpaEntity; updatedAt always changes, so the SET clause is never empty
+        final var changes = new LinkedHashMap<String, Object>();
+        if (!Objects.equals(aPrevious.getName(), aPatched.getName())) {
+            changes.put("name", aPatched.getName());
+            changes.put("nameNormalized", NormalizationUtils.searchKey(aPatched.getName()));
+        }
+        if (!Objects.equals(aPrevious.getDescription(), aPatched.getDescription())) {
+            changes.put("description", aPatched.getDescription());
+        }
+        if (aPrevious.isActive() != aPatched.isActive()) {
+            changes.put("active", aPatched.isActive());
+        }
+        if (!Objects.equals(aPrevious.getDeletedAt(), aPatched.getDeletedAt())) {
+            changes.put("deletedAt", aPatched.getDeletedAt());
+        }
+        changes.put("updatedAt", aPatched.getUpdatedAt());
+
+        final var anId = aPatched.getId().toUUID().orElseThrow();
+        final var anExpectedVersion = aPrevious.getVersion();
+        if (repository.updateColumnsIfVersion(anId, changes, anExpectedVersion) == 0) {
+            throw ConflictException.with(Category.class, aPatched.getId(), anExpectedVersion);
+        }
+
+        final var patched = Category.with(
+                aPatched.getId(),
+                aPatched.getName(),
+                aPatched.getDescription(),
+                aPatched.isActive(),
+                aPatched.getCreatedAt(),
+                aPatched.getUpdatedAt(),
+                aPatched.getDeletedAt(),
+                anExpectedVersion + 1
+        );
+        eventPublisher.publishEvent(new CategorySavedEvent(patched));
+        return patched;
+    }
+
+    @Override
+    public long activateAll(final CategoryFilter aFilter) {
+        return forEachChunk(aFilter, ids -> publishSaved(repository.activateRows(ids, InstantUtils.now())));
+    }
+
+    @Override
+    public long deactivateAll(final CategoryFilter aFilter) {
+        return forEachChunk(aFilter, ids -> publishSaved(repository.deactivateRows(ids, InstantUtils.now())));
+    }
+
+    // only the rows the statement actually removed; ids that were already gone have nothing to unindex
+    @Override
+    public long deleteAll(final CategoryFilter aFilter) {
+        return forEachChunk(aFilter, ids -> {
+            final var deleted = repository.deleteRows(ids);
+            deleted.forEach(anId -> eventPublisher.publishEvent(new CategoryDeletedEvent(CategoryID.from(anId))));
+            return deleted.size();
+        });
+    }
+
+    // rows the database refuses (too long, constraint violated) are the caller's to report, not a server failure
+    public static DomainException rejected(final DataIntegrityViolationException ex) {
+        return DomainException.with(new Error(ex.getMostSpecificCause().getMessage()));
+    }
+
+    private int publishSaved(final List<CategoryJpaEntity> aChanged) {
+        aChanged.forEach(entity -> eventPublisher.publishEvent(new CategorySavedEvent(entity.toAggregate())));
+        return aChanged.size();
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        repository.streamAll(exportFetchSize, entity -> aConsumer.accept(entity.toAggregate()));
+    }
+
+    // each chunk is its own statement and transaction, so a large selection never holds locks on all of its rows
+    private long forEachChunk(final CategoryFilter aFilter, final ToIntFunction<List<UUID>> aChange) {
+        long affected = 0;
+
+        if (aFilter.hasIds()) {
+            final var ids = aFilter.ids().stream()
+                    .map(CategoryID::toUUID)
+                    .flatMap(Optional::stream)
+                    .distinct()
+                    .toList();
+            for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+                affected += aChange.applyAsInt(ids.subList(from, Math.min(from + bulkChunkSize, ids.size())));
+            }
+            return affected;
+        }
+
+        UUID after = null;
+        List<UUID> chunk;
+        do {
+            chunk = repository.findIdsMatching(aFilter.terms(), aFilter.match(), after, bulkChunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            affected += aChange.applyAsInt(chunk);
+            after = chunk.get(chunk.size() - 1);
+        } while (chunk.size() == bulkChunkSize);
+
+        return affected;
     }
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
+        if (aQuery.isKeyset()) {
+            return findAllAfterCursor(aQuery);
+        }
+
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
                 Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isEmpty())
-                .map(str ->
-                        SpecificationUtils.<CategoryJpaEntity>like("name", str)
-                        .or(like("description", str))
-                )
-                .orElse(null);
+        return switch (aQuery.totalMode()) {
+            case EXACT -> findAllWithTotal(aQuery, page);
+            case ESTIMATED -> findSlice(aQuery, page, countCache.get(
+                    aQuery.terms(),
+                    aQuery.match(),
+                    () -> repository.countMatching(aQuery.terms(), aQuery.match())
+            ));
+            case NONE -> findSlice(aQuery, page, Pagination.UNKNOWN_TOTAL);
+        };
+    }
 
-        final var pageResult = repository.findAll(Specification.where(specifications), page);
+    private Pagination<Category> findAllWithTotal(final SearchQuery aQuery, final PageRequest page) {
+        final var pageResult = repository.findAllWithTotal(aQuery.terms(), aQuery.match(), page);
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
@@ -75,7 +286,92 @@ public class CategoryMySQLGateway implements CategoryGateway {
         );
     }
 
-    private Category save(Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+    private Pagination<Category> findSlice(final SearchQuery aQuery, final PageRequest page, final long total) {
+        final var sliceResult = repository.findSlice(aQuery.terms(), aQuery.match(), page);
+        return new Pagination<>(
+                sliceResult.getNumber(),
+                sliceResult.getSize(),
+                total,
+                sliceResult.map(CategoryJpaEntity::toAggregate).toList(),
+                null,
+                sliceResult.hasNext()
+        );
+    }
+
+    private Pagination<Category> findAllAfterCursor(final SearchQuery aQuery) {
+        final var perPage = CursorUtils.requirePerPage(aQuery.perPage());
+        final var keyset = Keyset.of(aQuery.sort());
+        final var direction = Direction.fromString(aQuery.direction());
+
+        Comparable<?> afterValue = null;
+        UUID afterId = null;
+        if (!aQuery.cursor().isBlank()) {
+            final var cursor = CursorUtils.decode(aQuery.cursor(), 3);
+            if (!keyset.property.equals(cursor.get(0))) {
+                throw CursorUtils.invalid();
+            }
+            afterValue = keyset.parse(cursor.get(1));
+            afterId = UUIDUtils.parse(cursor.get(2)).orElseThrow(CursorUtils::invalid);
+        }
+
+        final var rows = repository.findAfter(
+                aQuery.terms(),
+                aQuery.match(),
+                keyset.property,
+                afterValue,
+                afterId,
+                direction.isAscending(),
+                perPage + 1
+        );
+        final var items = rows.stream()
+                .limit(perPage)
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+
+        final var nextCursor = rows.size() > perPage
+                ? CursorUtils.encode(keyset.property, keyset.valueOf(rows.get(perPage - 1)), rows.get(perPage - 1).getId().toString())
+                : null;
+
+        return new Pagination<>(aQuery.page(), perPage, Pagination.UNKNOWN_TOTAL, items, nextCursor);
+    }
+
+    private enum Keyset {
+        NAME("name", CategoryJpaEntity::getName, value -> value),
+        CREATED_AT("createdAt", entity -> entity.getCreatedAt().toString(), Instant::parse);
+
+        private final String property;
+        private final Function<CategoryJpaEntity, String> extractor;
+        private final Function<String, Comparable<?>> parser;
+
+        Keyset(
+                final String property,
+                final Function<CategoryJpaEntity, String> extractor,
+                final Function<String, Comparable<?>> parser
+        ) {
+            this.property = property;
+            this.extractor = extractor;
+            this.parser = parser;
+        }
+
+        static Keyset of(final String aSort) {
+            return Arrays.stream(values())
+                    .filter(keyset -> keyset.property.equals(aSort))
+                    .findFirst()
+                    .orElseThrow(() -> DomainException.with(
+                            new Error("'sort' must be name or createdAt when paginating with a cursor")
+                    ));
+        }
+
+        String valueOf(final CategoryJpaEntity anEntity) {
+            return extractor.apply(anEntity);
+        }
+
+        Comparable<?> parse(final String aValue) {
+            try {
+                return parser.apply(aValue);
+            } catch (final DateTimeParseException ex) {
+                throw CursorUtils.invalid();
+            }
+        }
     }
 }
@@ -0,0 +1,248 @@
+package com.hartwig.catalog.admin.infrastructure.category.coalescing;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryFilter;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
+import com.hartwig.catalog.admin.domain.pagination.Pagination;
+import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// group commit: concurrent creates and updates share one transaction (and one fsync) instead of paying for one each
+@Service
+@Primary
+@ConditionalOnProperty(name = "category.write.coalesce.enabled", havingValue = "true")
+public class CategoryCoalescingGateway implements CategoryGateway, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryCoalescingGateway.class);
+
+    private final CategoryMySQLGateway delegate;
+    private final TransactionTemplate transaction;
+    private final BlockingQueue<PendingWrite> queue;
+    private final int maxBatch;
+    private final long lingerNanos;
+    private final Thread committer;
+
+    private volatile boolean running = true;
+
+    public CategoryCoalescingGateway(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final PlatformTransactionManager transactionManager,
+            @Value("${category.write.coalesce.max-batch:100}") final int maxBatch,
+            @Value("${category.write.coalesce.linger:2ms}") final Duration linger,
+            @Value("${category.write.coalesce.queue-capacity:10000}") final int queueCapacity
+    ) {
+        this.delegate = categoryMySQLGateway;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.maxBatch = maxBatch;
+        this.lingerNanos = linger.toNanos();
+        this.committer = new Thread(this::run, "category-write-committer");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return submit(gateway -> gateway.create(aCategory));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return submit(gateway -> gateway.update(aCategory));
+    }
+
+    @Override
+    public Category patch(final Category aPrevious, final Category aPatched) {
+        return submit(gateway -> gateway.patch(aPrevious, aPatched));
+    }
+
+    // already chunked into batched transactions by the delegate
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return delegate.createAll(aCategories);
+    }
+
+    @Override
+    public void upsertAll(final List<Category> aCategories) {
+        delegate.upsertAll(aCategories);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        delegate.deleteById(anId);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return delegate.findById(anId);
+    }
+
+    @Override
+    public List<Category> findAllById(final List<CategoryID> anIds) {
+        return delegate.findAllById(anIds);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return delegate.findAll(aQuery);
+    }
+
+    @Override
+    public long activateAll(final CategoryFilter aFilter) {
+        return delegate.activateAll(aFilter);
+    }
+
+    @Override
+    public long deactivateAll(final CategoryFilter aFilter) {
+        return delegate.deactivateAll(aFilter);
+    }
+
+    @Override
+    public long deleteAll(final CategoryFilter aFilter) {
+        return delegate.deleteAll(aFilter);
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        delegate.streamAll(aConsumer);
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        committer.interrupt();
+    }
+
+    private Category submit(final Function<CategoryMySQLGateway, Category> aWrite) {
+        if (!running) {
+            return aWrite.apply(delegate);
+        }
+
+        final var pending = new PendingWrite(aWrite, new CompletableFuture<>());
+        try {
+            // a full queue pushes back on the callers instead of growing without bound
+            queue.put(pending);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a category write", ex);
+        }
+
+        // the committer may have stopped between the running check and the put
+        if (!running && queue.remove(pending)) {
+            return aWrite.apply(delegate);
+        }
+
+        try {
+            return pending.result().join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private void run() {
+        final var batch = new ArrayList<PendingWrite>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (final InterruptedException ex) {
+                // shutting down: whatever was collected still gets written below
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // waits for a first write, then lingers for more until the batch is full or the linger time is over
+    private void collect(final List<PendingWrite> batch) throws InterruptedException {
+        if (!running) {
+            queue.drainTo(batch, maxBatch);
+            return;
+        }
+
+        batch.add(queue.take());
+        final var deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatch) {
+            final var remaining = deadline - System.nanoTime();
+            final var next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(final List<PendingWrite> batch) {
+        final List<Outcome> outcomes;
+        try {
+            outcomes = transaction.execute(status -> batch.stream()
+                    .map(pending -> apply(pending, true))
+                    .toList());
+        } catch (final RuntimeException ex) {
+            // one write broke the shared transaction (e.g. a duplicate id), so each one is retried on its own
+            LOG.warn("Coalesced write batch of {} failed, retrying one by one", batch.size(), ex);
+            batch.forEach(pending -> complete(pending, apply(pending, false)));
+            return;
+        }
+
+        // completed only after the commit, so no caller sees a write that could still roll back
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i), outcomes.get(i));
+        }
+    }
+
+    // a version conflict is an answer for its own caller and leaves the shared transaction intact
+    private Outcome apply(final PendingWrite pending, final boolean shared) {
+        try {
+            return new Outcome(pending.write().apply(delegate), null);
+        } catch (final ConflictException ex) {
+            return new Outcome(null, ex);
+        } catch (final RuntimeException ex) {
+            if (shared) {
+                throw ex;
+            }
+            return new Outcome(null, ex);
+        }
+    }
+
+    private static void complete(final PendingWrite pending, final Outcome outcome) {
+        if (outcome.error() != null) {
+            pending.result().completeExceptionally(outcome.error());
+        } else {
+            pending.result().complete(outcome.category());
+        }
+    }
+
+    private record PendingWrite(Function<CategoryMySQLGateway, Category> write, CompletableFuture<Category> result) {
+    }
+
+    private record Outcome(Category category, RuntimeException error) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.hartwig.catalog.admin.infrastructure.category.columnar;
+
+interface ByteScanner {
+
+    // position of the first 'value' in haystack[from, to), or -1
+    int indexOf(byte[] haystack, byte value, int from, int to);
+
+    // the Vector API is an incubator module, so it is only used when the JVM was started with it
+    static ByteScanner best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (ByteScanner) Class.forName(ByteScanner.class.getPackageName() + ".VectorByteScanner")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (final ReflectiveOperationException | LinkageError ex) {
+                return new ScalarByteScanner();
+            }
+        }
+        return new ScalarByteScanner();
+    }
+}
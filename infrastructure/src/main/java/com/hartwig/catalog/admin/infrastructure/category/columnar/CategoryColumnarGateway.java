@@ -0,0 +1,250 @@
+package com.hartwig.catalog.admin.infrastructure.category.columnar;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.category.CategorySearchGateway;
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import com.hartwig.catalog.admin.domain.pagination.Pagination;
+import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategoryDeletedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategorySavedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.hartwig.catalog.admin.infrastructure.utils.NormalizationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "category.search.index", havingValue = "columnar")
+public class CategoryColumnarGateway implements CategorySearchGateway, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryColumnarGateway.class);
+
+    // rows are name-ordered, so relevance is answered in name order as the MySQL LIKE search does
+    private static final Set<String> SORTABLE = Set.of("relevance", "name");
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final CategoryRepository repository;
+    private final ByteScanner scanner = ByteScanner.best();
+    private final Map<String, Row> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher;
+
+    private volatile CategoryColumns columns = CategoryColumns.EMPTY;
+    private volatile boolean ready;
+
+    public CategoryColumnarGateway(
+            final CategoryRepository categoryRepository,
+            @Value("${category.search.columnar.refresh:1s}") final Duration refresh
+    ) {
+        this.repository = categoryRepository;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-columnar-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refresher.scheduleWithFixedDelay(this::applyPending, refresh.toMillis(), refresh.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean supports(final SearchQuery aQuery) {
+        return ready && !aQuery.isKeyset() && SORTABLE.contains(aQuery.sort());
+    }
+
+    @Override
+    public Pagination<CategoryID> search(final SearchQuery aQuery) {
+        final var snapshot = this.columns;
+        final var needle = NormalizationUtils.searchKey(aQuery.terms().trim()).getBytes(StandardCharsets.UTF_8);
+
+        final var matches = new long[(snapshot.size() + 63) >>> 6];
+        if (aQuery.match() == MatchMode.PREFIX) {
+            snapshot.markNamePrefix(needle, matches);
+        } else {
+            snapshot.markNameContaining(needle, matches, scanner);
+            snapshot.markDescriptionContaining(needle, matches, scanner);
+        }
+
+        var total = 0L;
+        for (final var word : matches) {
+            total += Long.bitCount(word);
+        }
+
+        final var ids = "desc".equalsIgnoreCase(aQuery.direction())
+                ? pageDescending(snapshot, matches, aQuery)
+                : pageAscending(snapshot, matches, aQuery);
+
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), total, ids);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(final CategorySavedEvent event) {
+        final var row = Row.from(event.category());
+        pending.put(row.id(), row);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(final CategoryDeletedEvent event) {
+        final var id = event.id().getValue();
+        pending.put(id, Row.deleted(id));
+    }
+
+    // loads on the refresh thread, so startup does not wait for it
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        refresher.execute(this::reload);
+    }
+
+    synchronized void reload() {
+        ready = false;
+
+        final var rows = new ArrayList<Row>();
+        repository.forEachBatch(REBUILD_BATCH_SIZE, batch -> batch.forEach(entity ->
+                rows.add(Row.from(entity.toAggregate()))
+        ));
+        rows.sort(Row.ORDER);
+
+        final var builder = new CategoryColumns.Builder(rows.size());
+        rows.forEach(row -> builder.add(row.id(), row.name(), row.description()));
+        columns = builder.build();
+
+        ready = true;
+    }
+
+    // merges the pending changes into a fresh snapshot in a single ordered pass
+    synchronized void applyPending() {
+        if (!ready || pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            final var changes = new HashMap<String, Row>();
+            for (final var id : pending.keySet()) {
+                final var change = pending.remove(id);
+                if (change != null) {
+                    changes.put(id, change);
+                }
+            }
+
+            final var upserts = changes.values().stream()
+                    .filter(row -> !row.isDeleted())
+                    .sorted(Row.ORDER)
+                    .toList();
+
+            final var current = this.columns;
+            final var builder = new CategoryColumns.Builder(current.size() + upserts.size());
+            var next = 0;
+            for (var row = 0; row < current.size(); row++) {
+                if (changes.containsKey(current.id(row))) {
+                    continue;
+                }
+                while (next < upserts.size() && current.compare(row, upserts.get(next).name(), upserts.get(next).id()) > 0) {
+                    final var upsert = upserts.get(next++);
+                    builder.add(upsert.id(), upsert.name(), upsert.description());
+                }
+                builder.add(current, row);
+            }
+            for (; next < upserts.size(); next++) {
+                final var upsert = upserts.get(next);
+                builder.add(upsert.id(), upsert.name(), upsert.description());
+            }
+
+            columns = builder.build();
+        } catch (final RuntimeException ex) {
+            LOG.error("Could not refresh the columnar category snapshot", ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        ready = false;
+        refresher.shutdownNow();
+    }
+
+    private static List<CategoryID> pageAscending(
+            final CategoryColumns snapshot,
+            final long[] matches,
+            final SearchQuery aQuery
+    ) {
+        final var ids = new ArrayList<CategoryID>(aQuery.perPage());
+        var skip = (long) aQuery.page() * aQuery.perPage();
+        for (var word = 0; word < matches.length && ids.size() < aQuery.perPage(); word++) {
+            var bits = matches[word];
+            while (bits != 0 && ids.size() < aQuery.perPage()) {
+                final var bit = Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    ids.add(CategoryID.from(snapshot.id((word << 6) + bit)));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static List<CategoryID> pageDescending(
+            final CategoryColumns snapshot,
+            final long[] matches,
+            final SearchQuery aQuery
+    ) {
+        final var ids = new ArrayList<CategoryID>(aQuery.perPage());
+        var skip = (long) aQuery.page() * aQuery.perPage();
+        for (var word = matches.length - 1; word >= 0 && ids.size() < aQuery.perPage(); word--) {
+            var bits = matches[word];
+            while (bits != 0 && ids.size() < aQuery.perPage()) {
+                final var bit = 63 - Long.numberOfLeadingZeros(bits);
+                bits &= ~(1L << bit);
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    ids.add(CategoryID.from(snapshot.id((word << 6) + bit)));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private record Row(String id, byte[] name, byte[] description) {
+
+        static final Comparator<Row> ORDER = (left, right) -> {
+            final var byName = Arrays.compareUnsigned(left.name, right.name);
+            return byName != 0 ? byName : left.id.compareTo(right.id);
+        };
+
+        static Row from(final Category aCategory) {
+            final var description = aCategory.getDescription() == null ? "" : aCategory.getDescription();
+            return new Row(
+                    aCategory.getId().getValue(),
+                    NormalizationUtils.searchKey(aCategory.getName()).getBytes(StandardCharsets.UTF_8),
+                    NormalizationUtils.searchKey(description).getBytes(StandardCharsets.UTF_8)
+            );
+        }
+
+        static Row deleted(final String anId) {
+            return new Row(anId, null, null);
+        }
+
+        boolean isDeleted() {
+            return name == null;
+        }
+    }
+}
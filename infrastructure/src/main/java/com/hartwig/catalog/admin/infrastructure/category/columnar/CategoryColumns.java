@@ -0,0 +1,184 @@
+package com.hartwig.catalog.admin.infrastructure.category.columnar;
+
+import java.util.Arrays;
+
+// immutable struct-of-arrays snapshot: row i is ids[i], names[nameOffsets[i], nameOffsets[i + 1]) and so on,
+// kept in (name, id) order so that name-sorted pages come straight out of a match bitset
+final class CategoryColumns {
+
+    static final CategoryColumns EMPTY = new Builder(0).build();
+
+    private final int size;
+    private final String[] ids;
+    private final byte[] names;
+    private final int[] nameOffsets;
+    private final byte[] descriptions;
+    private final int[] descriptionOffsets;
+
+    private CategoryColumns(final Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, builder.size);
+        this.names = Arrays.copyOf(builder.names, builder.nameOffsets[builder.size]);
+        this.nameOffsets = Arrays.copyOf(builder.nameOffsets, builder.size + 1);
+        this.descriptions = Arrays.copyOf(builder.descriptions, builder.descriptionOffsets[builder.size]);
+        this.descriptionOffsets = Arrays.copyOf(builder.descriptionOffsets, builder.size + 1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    String id(final int row) {
+        return ids[row];
+    }
+
+    int compare(final int row, final byte[] aName, final String anId) {
+        final var byName = Arrays.compareUnsigned(names, nameOffsets[row], nameOffsets[row + 1], aName, 0, aName.length);
+        return byName != 0 ? byName : ids[row].compareTo(anId);
+    }
+
+    // rows are name-ordered, so the matches are one contiguous run starting at the lower bound
+    void markNamePrefix(final byte[] needle, final long[] matches) {
+        var low = 0;
+        var high = size;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            final var start = nameOffsets[mid];
+            if (Arrays.compareUnsigned(names, start, nameOffsets[mid + 1], needle, 0, needle.length) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        for (var row = low; row < size && startsWith(names, nameOffsets[row], nameOffsets[row + 1], needle); row++) {
+            mark(matches, row);
+        }
+    }
+
+    void markNameContaining(final byte[] needle, final long[] matches, final ByteScanner scanner) {
+        markContaining(names, nameOffsets, needle, matches, scanner);
+    }
+
+    void markDescriptionContaining(final byte[] needle, final long[] matches, final ByteScanner scanner) {
+        markContaining(descriptions, descriptionOffsets, needle, matches, scanner);
+    }
+
+    // one pass over the whole column: the scanner jumps between candidates for the needle's first byte,
+    // and a row is skipped entirely as soon as it is known to match
+    private void markContaining(
+            final byte[] column,
+            final int[] offsets,
+            final byte[] needle,
+            final long[] matches,
+            final ByteScanner scanner
+    ) {
+        if (needle.length == 0) {
+            for (var row = 0; row < size; row++) {
+                mark(matches, row);
+            }
+            return;
+        }
+
+        final var first = needle[0];
+        final var lastStart = offsets[size] - needle.length + 1;
+        var row = 0;
+        var position = 0;
+        while (position < lastStart) {
+            position = scanner.indexOf(column, first, position, lastStart);
+            if (position < 0) {
+                return;
+            }
+            while (offsets[row + 1] <= position) {
+                row++;
+            }
+
+            final var rowEnd = offsets[row + 1];
+            if (isMarked(matches, row) || startsWith(column, position, rowEnd, needle)) {
+                mark(matches, row);
+                position = rowEnd;
+            } else {
+                position++;
+            }
+        }
+    }
+
+    private static boolean startsWith(final byte[] column, final int from, final int to, final byte[] needle) {
+        return to - from >= needle.length
+                && Arrays.equals(column, from, from + needle.length, needle, 0, needle.length);
+    }
+
+    private static boolean isMarked(final long[] matches, final int row) {
+        return (matches[row >>> 6] & (1L << row)) != 0;
+    }
+
+    private static void mark(final long[] matches, final int row) {
+        matches[row >>> 6] |= 1L << row;
+    }
+
+    static final class Builder {
+
+        private int size;
+        private String[] ids;
+        private byte[] names;
+        private int[] nameOffsets;
+        private byte[] descriptions;
+        private int[] descriptionOffsets;
+
+        Builder(final int expectedRows) {
+            final var rows = Math.max(expectedRows, 16);
+            this.ids = new String[rows];
+            this.names = new byte[rows * 16];
+            this.nameOffsets = new int[rows + 1];
+            this.descriptions = new byte[rows * 32];
+            this.descriptionOffsets = new int[rows + 1];
+        }
+
+        Builder add(final String anId, final byte[] aName, final byte[] aDescription) {
+            return add(anId, aName, 0, aName.length, aDescription, 0, aDescription.length);
+        }
+
+        Builder add(final CategoryColumns source, final int row) {
+            return add(
+                    source.ids[row],
+                    source.names, source.nameOffsets[row], source.nameOffsets[row + 1],
+                    source.descriptions, source.descriptionOffsets[row], source.descriptionOffsets[row + 1]
+            );
+        }
+
+        CategoryColumns build() {
+            return new CategoryColumns(this);
+        }
+
+        private Builder add(
+                final String anId,
+                final byte[] nameBytes, final int nameFrom, final int nameTo,
+                final byte[] descriptionBytes, final int descriptionFrom, final int descriptionTo
+        ) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                nameOffsets = Arrays.copyOf(nameOffsets, size * 2 + 1);
+                descriptionOffsets = Arrays.copyOf(descriptionOffsets, size * 2 + 1);
+            }
+
+            ids[size] = anId;
+            names = append(names, nameOffsets, nameBytes, nameFrom, nameTo);
+            descriptions = append(descriptions, descriptionOffsets, descriptionBytes, descriptionFrom, descriptionTo);
+            size++;
+            return this;
+        }
+
+        private byte[] append(final byte[] column, final int[] offsets, final byte[] bytes, final int from, final int to) {
+            final var start = offsets[size];
+            final var end = start + (to - from);
+
+            var target = column;
+            if (end > target.length) {
+                target = Arrays.copyOf(target, Math.max(end, target.length * 2));
+            }
+            System.arraycopy(bytes, from, target, start, to - from);
+            offsets[size + 1] = end;
+            return target;
+        }
+    }
+}
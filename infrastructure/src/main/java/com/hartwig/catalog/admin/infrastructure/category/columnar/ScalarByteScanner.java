@@ -0,0 +1,14 @@
+package com.hartwig.catalog.admin.infrastructure.category.columnar;
+
+final class ScalarByteScanner implements ByteScanner {
+
+    @Override
+    public int indexOf(final byte[] haystack, final byte value, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (haystack[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,146 @@
+package com.hartwig.catalog.admin.infrastructure.category.events;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// the in-memory indexes (suggestions, Lucene, columnar) only hear about the writes this instance makes. This pass
+// replays the others, from other instances or from CategoryLoader, as the same events: the rows updated since the
+// previous pass, and the ids that appeared or disappeared between two scans of the primary key
+@Component
+public class CategoryCatchUp implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryCatchUp.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int ID_BATCH_SIZE = 10_000;
+
+    // clocks differ between instances, and a transaction commits after the updated_at it wrote
+    private static final Duration OVERLAP = Duration.ofMinutes(1);
+
+    // the order of the BINARY(16) ids in the table
+    private static final Comparator<UUID> BY_BYTES = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private final CategoryRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private UUID[] knownIds = new UUID[0];
+    private Instant lastPass;
+
+    public CategoryCatchUp(
+            final CategoryRepository categoryRepository,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${category.search.catch-up-interval:30s}") final Duration interval
+    ) {
+        this.repository = categoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.intervalMillis = interval.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-catch-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // the first scan runs before the indexes rebuild, so a row deleted in between is still reported
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (intervalMillis <= 0) {
+            return;
+        }
+        snapshot();
+        scheduler.scheduleWithFixedDelay(this::catchUpQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void snapshot() {
+        lastPass = InstantUtils.now();
+        knownIds = scanIds();
+    }
+
+    // replaying a write the indexes already have only indexes it again
+    synchronized void catchUp() {
+        final var now = InstantUtils.now();
+        final var currentIds = scanIds();
+
+        final var saved = new LinkedHashMap<UUID, Category>();
+        repository.forEachUpdatedSince(lastPass.minus(OVERLAP), BATCH_SIZE, batch -> batch.forEach(entity ->
+                saved.put(entity.getId(), entity.toAggregate())
+        ));
+
+        // rows loaded with an updated_at older than the previous pass are still new ids
+        final var added = Arrays.stream(currentIds)
+                .filter(anId -> !saved.containsKey(anId) && Arrays.binarySearch(knownIds, anId, BY_BYTES) < 0)
+                .toList();
+        for (int from = 0; from < added.size(); from += BATCH_SIZE) {
+            repository.findAllById(added.subList(from, Math.min(from + BATCH_SIZE, added.size())))
+                    .forEach(entity -> saved.put(entity.getId(), entity.toAggregate()));
+        }
+
+        saved.values().forEach(aCategory -> eventPublisher.publishEvent(new CategorySavedEvent(aCategory)));
+        Arrays.stream(knownIds)
+                .filter(anId -> Arrays.binarySearch(currentIds, anId, BY_BYTES) < 0)
+                .forEach(anId -> eventPublisher.publishEvent(new CategoryDeletedEvent(CategoryID.from(anId))));
+
+        knownIds = currentIds;
+        lastPass = now;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private void catchUpQuietly() {
+        try {
+            catchUp();
+        } catch (final RuntimeException ex) {
+            LOG.warn("Could not catch the category indexes up with the table", ex);
+        }
+    }
+
+    private UUID[] scanIds() {
+        final var ids = new ArrayList<UUID>();
+        UUID after = null;
+        List<UUID> chunk;
+        do {
+            chunk = repository.findIdsMatching(null, null, after, ID_BATCH_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            ids.addAll(chunk);
+            after = chunk.get(chunk.size() - 1);
+        } while (chunk.size() == ID_BATCH_SIZE);
+
+        final var sorted = ids.toArray(UUID[]::new);
+        Arrays.sort(sorted, BY_BYTES);
+        return sorted;
+    }
+}
@@ -0,0 +1,6 @@
+package com.hartwig.catalog.admin.infrastructure.category.events;
+
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+
+public record CategoryDeletedEvent(CategoryID id) {
+}
@@ -0,0 +1,42 @@
+package com.hartwig.catalog.admin.infrastructure.category.imports;
+
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum CategoryImportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON) {
+        @Override
+        public CategoryImportReader reader(final InputStream anInput) {
+            return new NdjsonCategoryImportReader(anInput);
+        }
+    },
+    CSV(new MediaType("text", "csv")) {
+        @Override
+        public CategoryImportReader reader(final InputStream anInput) {
+            return new CsvCategoryImportReader(anInput);
+        }
+    };
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    CategoryImportFormat(final MediaType aMediaType) {
+        this.mediaType = aMediaType;
+    }
+
+    public abstract CategoryImportReader reader(InputStream anInput);
+
+    public static Optional<CategoryImportFormat> of(final String aContentType) {
+        if (aContentType == null) {
+            return Optional.empty();
+        }
+        final var aMediaType = MediaType.parseMediaType(aContentType);
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(aMediaType))
+                .findFirst();
+    }
+}
@@ -0,0 +1,25 @@
+package com.hartwig.catalog.admin.infrastructure.category.imports;
+
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoryRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// pulls one record at a time off the request body, so only the current line is ever in memory
+public interface CategoryImportReader extends Closeable {
+
+    // null once the input is over
+    Line next() throws IOException;
+
+    // a line either parsed into a record or carries why it could not be
+    record Line(long number, ImportCategoryRecord record, String error) {
+
+        static Line parsed(final ImportCategoryRecord aRecord) {
+            return new Line(aRecord.line(), aRecord, null);
+        }
+
+        static Line failed(final long aNumber, final String anError) {
+            return new Line(aNumber, null, anError);
+        }
+    }
+}
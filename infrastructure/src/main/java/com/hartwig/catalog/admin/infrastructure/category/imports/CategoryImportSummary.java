@@ -0,0 +1,8 @@
+package com.hartwig.catalog.admin.infrastructure.category.imports;
+
+public record CategoryImportSummary(
+        long read,
+        long imported,
+        long failed
+) {
+}
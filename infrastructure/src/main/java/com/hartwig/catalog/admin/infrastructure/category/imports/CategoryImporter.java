@@ -0,0 +1,163 @@
+package com.hartwig.catalog.admin.infrastructure.category.imports;
+
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoriesCommand;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoriesOutput;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoryError;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoryRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// the caller's thread parses while a writer thread upserts; the bounded queue between them is what keeps memory flat,
+// since a full queue stops the parser and, through TCP, the client sending the body
+@Component
+public class CategoryImporter implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryImporter.class);
+
+    private static final CategoryImportReader.Line END = CategoryImportReader.Line.failed(-1, null);
+
+    private final ImportCategoriesUseCase importCategoriesUseCase;
+    private final ExecutorService writers;
+    private final int chunkSize;
+    private final int queueCapacity;
+
+    public CategoryImporter(
+            final ImportCategoriesUseCase importCategoriesUseCase,
+            @Value("${category.bulk.chunk-size:500}") final int chunkSize,
+            @Value("${category.import.queue-capacity:10000}") final int queueCapacity,
+            @Value("${category.import.writers:2}") final int writers
+    ) {
+        this.importCategoriesUseCase = importCategoriesUseCase;
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+
+        final var counter = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writers, runnable -> {
+            final var thread = new Thread(runnable, "category-import-writer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // onError is only ever called from the writer thread, and never after this returns
+    public CategoryImportSummary importFrom(
+            final InputStream anInput,
+            final CategoryImportFormat aFormat,
+            final Consumer<ImportCategoryError> onError
+    ) {
+        final var queue = new ArrayBlockingQueue<CategoryImportReader.Line>(queueCapacity);
+        final var writer = writers.submit(() -> write(queue, onError));
+
+        try (final var reader = aFormat.reader(anInput)) {
+            CategoryImportReader.Line aLine;
+            while ((aLine = reader.next()) != null) {
+                if (!put(queue, aLine, writer)) {
+                    break;
+                }
+            }
+        } catch (final IOException | RuntimeException ex) {
+            // a body that cannot be parsed any further ends the import; what was read so far is still written
+            LOG.warn("Category import stopped reading its input", ex);
+            put(queue, CategoryImportReader.Line.failed(0, "Stopped reading the input: " + ex.getMessage()), writer);
+        } finally {
+            put(queue, END, writer);
+        }
+
+        try {
+            return writer.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            writer.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for the category import", ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(ex.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        writers.shutdownNow();
+    }
+
+    // false once the writer has died, so the parser does not block forever on a queue nobody drains
+    private static boolean put(
+            final BlockingQueue<CategoryImportReader.Line> queue,
+            final CategoryImportReader.Line aLine,
+            final Future<?> writer
+    ) {
+        try {
+            while (!queue.offer(aLine, 100, TimeUnit.MILLISECONDS)) {
+                if (writer.isDone()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private CategoryImportSummary write(
+            final BlockingQueue<CategoryImportReader.Line> queue,
+            final Consumer<ImportCategoryError> onError
+    ) throws InterruptedException {
+        final var chunk = new ArrayList<ImportCategoryRecord>(chunkSize);
+        long read = 0;
+        long imported = 0;
+        long failed = 0;
+
+        CategoryImportReader.Line aLine;
+        while ((aLine = queue.take()) != END) {
+            if (aLine.record() == null) {
+                failed++;
+                if (aLine.number() > 0) {
+                    read++;
+                }
+                onError.accept(ImportCategoryError.with(aLine.number(), aLine.error()));
+                continue;
+            }
+
+            read++;
+            chunk.add(aLine.record());
+            if (chunk.size() == chunkSize) {
+                final var output = flush(chunk, onError);
+                imported += output.imported();
+                failed += output.errors().size();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            final var output = flush(chunk, onError);
+            imported += output.imported();
+            failed += output.errors().size();
+        }
+
+        return new CategoryImportSummary(read, imported, failed);
+    }
+
+    private ImportCategoriesOutput flush(final List<ImportCategoryRecord> chunk, final Consumer<ImportCategoryError> onError) {
+        final var output = importCategoriesUseCase.execute(ImportCategoriesCommand.with(List.copyOf(chunk)));
+        output.errors().forEach(onError);
+        chunk.clear();
+        return output;
+    }
+}
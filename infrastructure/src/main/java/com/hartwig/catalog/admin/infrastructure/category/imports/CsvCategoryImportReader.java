@@ -0,0 +1,73 @@
+package com.hartwig.catalog.admin.infrastructure.category.imports;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoryRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+
+// the header row names the columns (id, name, description, is_active); every cell is read as text and checked here
+class CsvCategoryImportReader implements CategoryImportReader {
+
+    private static final CsvMapper MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+            .build();
+
+    private final MappingIterator<Map<String, String>> rows;
+
+    CsvCategoryImportReader(final InputStream anInput) {
+        try {
+            this.rows = MAPPER.readerForMapOf(String.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(anInput);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public Line next() throws IOException {
+        if (!rows.hasNextValue()) {
+            return null;
+        }
+        final long lineNumber = rows.getParser().getTokenLocation().getLineNr();
+        final var row = rows.nextValue();
+
+        final var isActive = blankToNull(row.get("is_active"));
+        if (isActive != null && !isBoolean(isActive)) {
+            return Line.failed(lineNumber, "'is_active' must be a boolean");
+        }
+
+        return Line.parsed(ImportCategoryRecord.with(
+                lineNumber,
+                blankToNull(row.get("id")),
+                row.get("name"),
+                blankToNull(row.get("description")),
+                isActive == null || isActive.equalsIgnoreCase("true") || isActive.equals("1")
+        ));
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+
+    private static boolean isBoolean(final String aValue) {
+        return switch (aValue.toLowerCase(Locale.ROOT)) {
+            case "true", "false", "1", "0" -> true;
+            default -> false;
+        };
+    }
+
+    private static String blankToNull(final String aValue) {
+        return aValue == null || aValue.isBlank() ? null : aValue;
+    }
+}
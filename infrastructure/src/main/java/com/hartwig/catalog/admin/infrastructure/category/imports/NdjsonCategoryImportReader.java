@@ -0,0 +1,117 @@
+package com.hartwig.catalog.admin.infrastructure.category.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoryRecord;
+import com.hartwig.catalog.admin.infrastructure.configuration.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+// each line goes through its own parser, so a malformed line is reported and the next one still reads; lines are
+// read by hand rather than with readLine, which would buffer a line of any length
+class NdjsonCategoryImportReader implements CategoryImportReader {
+
+    // a category is at most a 255-character name and a 4000-character description, even with every character escaped
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private static final ObjectReader TREE_READER = Json.mapper().reader();
+
+    private final BufferedReader input;
+    private final int maxLineLength;
+    private final StringBuilder line = new StringBuilder();
+    private boolean overflow;
+    private long lineNumber;
+
+    NdjsonCategoryImportReader(final InputStream anInput) {
+        this(anInput, MAX_LINE_LENGTH);
+    }
+
+    NdjsonCategoryImportReader(final InputStream anInput, final int maxLineLength) {
+        this.input = new BufferedReader(new InputStreamReader(anInput, StandardCharsets.UTF_8));
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public Line next() throws IOException {
+        do {
+            if (!readLine()) {
+                return null;
+            }
+            lineNumber++;
+            if (overflow) {
+                return Line.failed(lineNumber, "Line is longer than %d characters".formatted(maxLineLength));
+            }
+        } while (line.toString().isBlank());
+
+        final var aLine = line.toString();
+        final JsonNode node;
+        try {
+            node = TREE_READER.readTree(aLine);
+        } catch (final JsonProcessingException ex) {
+            return Line.failed(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            return Line.failed(lineNumber, "Each line must be a JSON object");
+        }
+
+        final var isActive = node.get("is_active");
+        if (isActive != null && !isActive.isNull() && !isActive.isBoolean()) {
+            return Line.failed(lineNumber, "'is_active' must be a boolean");
+        }
+        for (final var field : new String[]{"id", "name", "description"}) {
+            final var value = node.get(field);
+            if (value != null && !value.isNull() && !value.isTextual()) {
+                return Line.failed(lineNumber, "'%s' must be a string".formatted(field));
+            }
+        }
+
+        return Line.parsed(ImportCategoryRecord.with(
+                lineNumber,
+                text(node, "id"),
+                text(node, "name"),
+                text(node, "description"),
+                isActive == null || isActive.isNull() || isActive.booleanValue()
+        ));
+    }
+
+    // false at the end of the input; the characters past maxLineLength are consumed but not kept
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        overflow = false;
+
+        var any = false;
+        int c;
+        while ((c = input.read()) != -1) {
+            any = true;
+            if (c == '\n') {
+                break;
+            }
+            if (line.length() < maxLineLength) {
+                line.append((char) c);
+            } else {
+                overflow = true;
+            }
+        }
+
+        // "\r\n" line endings
+        if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return any;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private static String text(final JsonNode node, final String field) {
+        final var value = node.get(field);
+        return value != null && !value.isNull() ? value.textValue() : null;
+    }
+}
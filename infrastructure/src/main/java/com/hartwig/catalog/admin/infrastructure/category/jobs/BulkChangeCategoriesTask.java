@@ -0,0 +1,59 @@
+package com.hartwig.catalog.admin.infrastructure.category.jobs;
+
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesCommand;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesOutput;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesUseCase;
+import com.hartwig.catalog.admin.infrastructure.job.JobContext;
+import com.hartwig.catalog.admin.infrastructure.job.JobTask;
+
+import java.util.Objects;
+
+// runs a bulk change by ids one chunk at a time, checkpointing after each so a restart resumes where it stopped
+public class BulkChangeCategoriesTask implements JobTask<BulkChangeCategoriesCommand> {
+
+    private final BulkChangeCategoriesUseCase bulkChangeCategoriesUseCase;
+    private final int chunkSize;
+
+    public BulkChangeCategoriesTask(final BulkChangeCategoriesUseCase bulkChangeCategoriesUseCase, final int chunkSize) {
+        this.bulkChangeCategoriesUseCase = Objects.requireNonNull(bulkChangeCategoriesUseCase);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkChangeCategoriesOutput run(final BulkChangeCategoriesCommand aPayload, final JobContext aContext) {
+        final var aCommand = BulkChangeCategoriesCommand.with(
+                aPayload.action(),
+                aPayload.ids(),
+                aPayload.terms(),
+                aPayload.match()
+        );
+
+        // a search is one set-based statement that is already chunked by the gateway and safe to run again
+        if (aCommand.ids().isEmpty()) {
+            return bulkChangeCategoriesUseCase.execute(aCommand);
+        }
+
+        final var ids = aCommand.ids();
+        final var total = (long) ids.size();
+
+        var offset = 0;
+        var affected = 0L;
+        final var checkpoint = aContext.checkpoint();
+        if (checkpoint != null) {
+            final var parts = checkpoint.split(":");
+            offset = Integer.parseInt(parts[0]);
+            affected = Long.parseLong(parts[1]);
+        }
+
+        while (offset < ids.size()) {
+            final var chunk = ids.subList(offset, Math.min(offset + chunkSize, ids.size()));
+            affected += bulkChangeCategoriesUseCase.execute(
+                    BulkChangeCategoriesCommand.with(aCommand.action(), chunk, null, aCommand.match())
+            ).affected();
+            offset += chunk.size();
+            aContext.checkpoint(offset + ":" + affected, offset, total);
+        }
+
+        return BulkChangeCategoriesOutput.from(affected);
+    }
+}
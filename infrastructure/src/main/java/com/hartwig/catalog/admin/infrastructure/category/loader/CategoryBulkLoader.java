@@ -0,0 +1,236 @@
+package com.hartwig.catalog.admin.infrastructure.category.loader;
+
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoryError;
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+import com.hartwig.catalog.admin.infrastructure.category.imports.CategoryImportFormat;
+import com.hartwig.catalog.admin.infrastructure.utils.NormalizationUtils;
+import com.hartwig.catalog.admin.infrastructure.utils.UUIDUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// seeds the category table through LOAD DATA LOCAL INFILE, MySQL's bulk path, instead of one INSERT per row.
+// the file is validated and converted to MySQL's tab-separated load format first, so nothing reaches the table unchecked
+public class CategoryBulkLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryBulkLoader.class);
+
+    // DATETIME has no zone; the application stores UTC wall clock (serverTimezone=UTC)
+    private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS")
+            .withZone(ZoneOffset.UTC);
+
+    private static final String NULL = "\\N";
+
+    private final DataSource dataSource;
+
+    public CategoryBulkLoader(final DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public CategoryLoadReport load(
+            final InputStream anInput,
+            final CategoryImportFormat aFormat,
+            final boolean deferIndexes,
+            final Consumer<ImportCategoryError> onReject
+    ) throws IOException, SQLException {
+        final var started = System.nanoTime();
+        final var loadFile = Files.createTempFile("categories-", ".tsv");
+        try {
+            final var converted = convert(anInput, aFormat, loadFile, onReject);
+            final var loaded = loadInto(loadFile, deferIndexes);
+
+            return new CategoryLoadReport(
+                    converted.read(),
+                    loaded,
+                    converted.rejected(),
+                    converted.valid() - loaded,
+                    Duration.ofNanos(System.nanoTime() - started)
+            );
+        } finally {
+            Files.deleteIfExists(loadFile);
+        }
+    }
+
+    private Converted convert(
+            final InputStream anInput,
+            final CategoryImportFormat aFormat,
+            final Path aLoadFile,
+            final Consumer<ImportCategoryError> onReject
+    ) throws IOException {
+        long read = 0;
+        long valid = 0;
+        long rejected = 0;
+
+        try (final var reader = aFormat.reader(anInput);
+             final var out = Files.newBufferedWriter(aLoadFile, StandardCharsets.UTF_8)) {
+            for (var aLine = reader.next(); aLine != null; aLine = reader.next()) {
+                read++;
+                if (aLine.record() == null) {
+                    rejected++;
+                    onReject.accept(ImportCategoryError.with(aLine.number(), aLine.error()));
+                    continue;
+                }
+
+                final var notification = Notification.create();
+                final var aCategory = aLine.record().toCategory(notification);
+                if (notification.hasError()) {
+                    rejected++;
+                    onReject.accept(ImportCategoryError.from(aLine.number(), notification));
+                    continue;
+                }
+
+                write(out, aCategory);
+                valid++;
+            }
+        }
+        return new Converted(read, valid, rejected);
+    }
+
+    private static void write(final BufferedWriter out, final Category aCategory) throws IOException {
+        final var anId = UUIDUtils.toBytes(aCategory.getId().toUUID().orElseThrow());
+        out.write(HexFormat.of().formatHex(anId));
+        out.write('\t');
+        field(out, aCategory.getName());
+        out.write('\t');
+        field(out, NormalizationUtils.searchKey(aCategory.getName()));
+        out.write('\t');
+        field(out, aCategory.getDescription());
+        out.write('\t');
+        out.write(aCategory.isActive() ? '1' : '0');
+        out.write('\t');
+        out.write(DATETIME.format(aCategory.getCreatedAt()));
+        out.write('\t');
+        out.write(DATETIME.format(aCategory.getUpdatedAt()));
+        out.write('\t');
+        out.write(aCategory.getDeletedAt() != null ? DATETIME.format(aCategory.getDeletedAt()) : NULL);
+        out.write('\t');
+        out.write(Long.toString(aCategory.getVersion()));
+        out.write('\n');
+    }
+
+    // LOAD DATA's default escaping: a backslash before tab, newline and backslash itself, \N for NULL
+    private static void field(final Writer out, final String aValue) throws IOException {
+        if (aValue == null) {
+            out.write(NULL);
+            return;
+        }
+        for (int i = 0; i < aValue.length(); i++) {
+            final var c = aValue.charAt(i);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\0' -> out.write("\\0");
+                default -> out.write(c);
+            }
+        }
+    }
+
+    private long loadInto(final Path aLoadFile, final boolean deferIndexes) throws SQLException {
+        try (final var connection = dataSource.getConnection()) {
+            final var deferred = deferIndexes ? dropSecondaryIndexes(connection) : Map.<String, String>of();
+            try {
+                final long loaded;
+                try (final var statement = connection.createStatement()) {
+                    // LOCAL implies IGNORE: a duplicate id is skipped with a warning instead of aborting the load
+                    loaded = statement.executeLargeUpdate("""
+                            LOAD DATA LOCAL INFILE '%s'
+                            INTO TABLE category
+                            CHARACTER SET utf8mb4
+                            FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'
+                            LINES TERMINATED BY '\\n'
+                            (@id, name, name_normalized, description, active, created_at, updated_at, deleted_at, version)
+                            SET id = UNHEX(@id)
+                            """.formatted(aLoadFile.toAbsolutePath().toString().replace("\\", "\\\\").replace("'", "\\'")));
+                }
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+                return loaded;
+            } catch (final SQLException ex) {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                }
+                throw ex;
+            } finally {
+                recreateIndexes(connection, deferred);
+            }
+        }
+    }
+
+    // InnoDB has no DISABLE KEYS; dropping the B-tree secondary indexes and building them once, sorted, after the load
+    // is the equivalent. FULLTEXT indexes stay because their parser cannot be read back from the catalog.
+    // only done on an empty table: on a live one the searches would lose their indexes for the whole load
+    private static Map<String, String> dropSecondaryIndexes(final Connection connection) throws SQLException {
+        try (final var statement = connection.createStatement();
+             final var count = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM category)")) {
+            count.next();
+            if (count.getBoolean(1)) {
+                throw new IllegalStateException("Indexes are only deferred when seeding an empty category table");
+            }
+        }
+
+        final var indexes = new LinkedHashMap<String, List<String>>();
+        try (final var statement = connection.prepareStatement("""
+                SELECT INDEX_NAME, COLUMN_NAME
+                FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'category'
+                  AND INDEX_NAME <> 'PRIMARY' AND INDEX_TYPE = 'BTREE' AND NON_UNIQUE = 1
+                ORDER BY INDEX_NAME, SEQ_IN_INDEX
+                """);
+             final var rows = statement.executeQuery()) {
+            while (rows.next()) {
+                indexes.computeIfAbsent(rows.getString(1), name -> new ArrayList<>()).add(rows.getString(2));
+            }
+        }
+
+        final var definitions = new LinkedHashMap<String, String>();
+        indexes.forEach((name, columns) -> definitions.put(name, "ADD INDEX `%s` (`%s`)".formatted(name, String.join("`, `", columns))));
+        if (!definitions.isEmpty()) {
+            try (final var statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE category " + String.join(", ", definitions.keySet().stream()
+                        .map(name -> "DROP INDEX `%s`".formatted(name))
+                        .toList()));
+            }
+            LOG.info("Deferred indexes {}", definitions.keySet());
+        }
+        return definitions;
+    }
+
+    // rebuilt in a single ALTER so the table is scanned once for all of them
+    private static void recreateIndexes(final Connection connection, final Map<String, String> definitions)
+            throws SQLException {
+        if (definitions.isEmpty()) {
+            return;
+        }
+        final var started = System.nanoTime();
+        try (final var statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE category " + String.join(", ", definitions.values()));
+        }
+        LOG.info("Rebuilt indexes {} in {}", definitions.keySet(), Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private record Converted(long read, long valid, long rejected) {
+    }
+}
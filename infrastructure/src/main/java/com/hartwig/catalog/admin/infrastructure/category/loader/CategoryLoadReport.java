@@ -0,0 +1,23 @@
+package com.hartwig.catalog.admin.infrastructure.category.loader;
+
+import java.time.Duration;
+
+public record CategoryLoadReport(
+        long read,
+        long loaded,
+        long rejected,
+        long duplicates,
+        Duration elapsed
+) {
+
+    public long rowsPerSecond() {
+        final var millis = Math.max(elapsed.toMillis(), 1);
+        return loaded * 1000 / millis;
+    }
+
+    @Override
+    public String toString() {
+        return "read=%d loaded=%d rejected=%d duplicates=%d elapsed=%s rows/s=%d"
+                .formatted(read, loaded, rejected, duplicates, elapsed, rowsPerSecond());
+    }
+}
@@ -0,0 +1,12 @@
+package com.hartwig.catalog.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkChangeCategoriesRequest(
+        @JsonProperty("ids") List<String> ids,
+        @JsonProperty("search") String search,
+        @JsonProperty("match") String match
+) {
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 public record UpdateCategoryRequest(
         @JsonProperty("name") String name,
         @JsonProperty("description") String description,
-        @JsonProperty("is_active") Boolean active
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("version") Long version
 ) {
 }
@@ -2,23 +2,41 @@ package com.hartwig.catalog.admin.infrastructure.category.persistence;
 
 import com.hartwig.catalog.admin.domain.category.Category;
 import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.infrastructure.utils.NormalizationUtils;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.Column;
+import javax.persistence.ColumnResult;
 import javax.persistence.Entity;
+import javax.persistence.EntityResult;
 import javax.persistence.Id;
+import javax.persistence.SqlResultSetMapping;
 import javax.persistence.Table;
 import java.time.Instant;
+import java.util.UUID;
 
 @Entity
 @Table(name = "category")
+@SqlResultSetMapping(
+        name = CategoryJpaEntity.WITH_TOTAL_MAPPING,
+        entities = @EntityResult(entityClass = CategoryJpaEntity.class),
+        columns = @ColumnResult(name = "total", type = Long.class)
+)
 public class CategoryJpaEntity {
 
+    public static final String WITH_TOTAL_MAPPING = "CategoryJpaEntity.withTotal";
+
     @Id
-    private String id;
+    @Type(type = "uuid-binary")
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID id;
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Column(name = "name_normalized", nullable = false)
+    private String nameNormalized;
+
     @Column(name = "description", length = 4000)
     private String description;
 
@@ -34,28 +52,35 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    // bumped by the conditional UPDATE in CategoryRepositoryCustomImpl, not by JPA @Version (which would merge)
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public CategoryJpaEntity() {
     }
 
-    private CategoryJpaEntity(String id, String name, String description, boolean active, Instant createdAt, Instant updatedAt, Instant deletedAt) {
+    private CategoryJpaEntity(UUID id, String name, String description, boolean active, Instant createdAt, Instant updatedAt, Instant deletedAt, long version) {
         this.id = id;
         this.name = name;
+        this.nameNormalized = NormalizationUtils.searchKey(name);
         this.description = description;
         this.active = active;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category aCategory) {
         return new CategoryJpaEntity(
-                aCategory.getId().getValue(),
+                aCategory.getId().toUUID().orElseThrow(),
                 aCategory.getName(),
                 aCategory.getDescription(),
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
                 aCategory.getUpdatedAt(),
-                aCategory.getDeletedAt()
+                aCategory.getDeletedAt(),
+                aCategory.getVersion()
         );
     }
 
@@ -67,15 +92,16 @@ public class CategoryJpaEntity {
                 isActive(),
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
 
-    public String getId() {
+    public UUID getId() {
         return id;
     }
 
-    public void setId(String id) {
+    public void setId(UUID id) {
         this.id = id;
     }
 
@@ -85,6 +111,11 @@ public class CategoryJpaEntity {
 
     public void setName(String name) {
         this.name = name;
+        this.nameNormalized = NormalizationUtils.searchKey(name);
+    }
+
+    public String getNameNormalized() {
+        return nameNormalized;
     }
 
     public String getDescription() {
@@ -126,4 +157,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -1,11 +1,8 @@
 package com.hartwig.catalog.admin.infrastructure.category.persistence;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import java.util.UUID;
 
-    Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable pageable);
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, UUID>, CategoryRepositoryCustom {
 }
@@ -0,0 +1,61 @@
+package com.hartwig.catalog.admin.infrastructure.category.persistence;
+
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface CategoryRepositoryCustom {
+
+    List<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Sort sort, int limit);
+
+    Page<CategoryJpaEntity> findAllWithTotal(String terms, MatchMode match, Pageable pageable);
+
+    Slice<CategoryJpaEntity> findSlice(String terms, MatchMode match, Pageable pageable);
+
+    List<CategoryJpaEntity> findAfter(
+            String terms,
+            MatchMode match,
+            String aProperty,
+            Object aValue,
+            UUID anId,
+            boolean ascending,
+            int limit
+    );
+
+    long countMatching(String terms, MatchMode match);
+
+    void insert(CategoryJpaEntity anEntity);
+
+    void insertAll(List<CategoryJpaEntity> anEntities);
+
+    void upsertAll(List<CategoryJpaEntity> anEntities);
+
+    int updateIfVersion(CategoryJpaEntity anEntity, long expectedVersion);
+
+    int updateColumnsIfVersion(UUID anId, Map<String, Object> aChanges, long expectedVersion);
+
+    int deleteRow(UUID anId);
+
+    List<UUID> findIdsMatching(String terms, MatchMode match, UUID after, int limit);
+
+    List<CategoryJpaEntity> activateRows(List<UUID> anIds, Instant aNow);
+
+    List<CategoryJpaEntity> deactivateRows(List<UUID> anIds, Instant aNow);
+
+    List<UUID> deleteRows(List<UUID> anIds);
+
+    void forEachBatch(int batchSize, Consumer<List<CategoryJpaEntity>> consumer);
+
+    void forEachUpdatedSince(Instant since, int batchSize, Consumer<List<CategoryJpaEntity>> consumer);
+
+    void streamAll(int fetchSize, Consumer<CategoryJpaEntity> consumer);
+}
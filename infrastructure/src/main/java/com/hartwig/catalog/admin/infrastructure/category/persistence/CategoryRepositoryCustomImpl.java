@@ -0,0 +1,513 @@
+package com.hartwig.catalog.admin.infrastructure.category.persistence;
+
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.infrastructure.utils.SpecificationUtils;
+import com.hartwig.catalog.admin.infrastructure.utils.UUIDUtils;
+import org.hibernate.ScrollMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.Query;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Transactional(readOnly = true)
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "description", "description",
+            "active", "active",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "deletedAt", "deleted_at"
+    );
+
+    private static final String RELEVANCE = "relevance";
+
+    private final EntityManager entityManager;
+    private final CategorySearchStrategy searchStrategy;
+
+    public CategoryRepositoryCustomImpl(
+            final EntityManager entityManager,
+            @Value("${category.search.strategy:like}") final String searchStrategy
+    ) {
+        this.entityManager = entityManager;
+        this.searchStrategy = CategorySearchStrategy.from(searchStrategy);
+    }
+
+    @Override
+    public List<CategoryJpaEntity> findAll(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Sort sort,
+            final int limit
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        final var predicate = whereClause.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Page<CategoryJpaEntity> findAllWithTotal(
+            final String terms,
+            final MatchMode match,
+            final Pageable pageable
+    ) {
+        final var strategy = strategyFor(terms, match);
+        final var sql = "SELECT c.*, COUNT(*) OVER() AS total FROM category c"
+                + where(strategy)
+                + " ORDER BY " + orderBy(strategy, pageable.getSort())
+                + " LIMIT :limit OFFSET :offset";
+
+        final var query = entityManager.createNativeQuery(sql, CategoryJpaEntity.WITH_TOTAL_MAPPING)
+                .setParameter("limit", pageable.getPageSize())
+                .setParameter("offset", pageable.getOffset());
+        bindTerms(query, strategy, terms);
+
+        @SuppressWarnings("unchecked")
+        final List<Object[]> rows = query.getResultList();
+
+        final var content = rows.stream()
+                .map(row -> (CategoryJpaEntity) row[0])
+                .toList();
+
+        // COUNT(*) OVER() only travels with rows, so a page past the end needs its own count
+        final long total = rows.isEmpty()
+                ? (pageable.getOffset() == 0 ? 0 : countMatching(terms, match))
+                : (Long) rows.get(0)[1];
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public Slice<CategoryJpaEntity> findSlice(final String terms, final MatchMode match, final Pageable pageable) {
+        final var strategy = strategyFor(terms, match);
+        final var sql = "SELECT c.* FROM category c"
+                + where(strategy)
+                + " ORDER BY " + orderBy(strategy, pageable.getSort())
+                + " LIMIT :limit OFFSET :offset";
+
+        final var query = entityManager.createNativeQuery(sql, CategoryJpaEntity.class)
+                .setParameter("limit", pageable.getPageSize() + 1)
+                .setParameter("offset", pageable.getOffset());
+        bindTerms(query, strategy, terms);
+
+        @SuppressWarnings("unchecked")
+        final List<CategoryJpaEntity> rows = query.getResultList();
+
+        final var hasNext = rows.size() > pageable.getPageSize();
+        final var content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    // the page after (aValue, anId) in the order of aProperty then id; the terms go through the same search strategy
+    // as the offset pages, so both return the same rows
+    @Override
+    public List<CategoryJpaEntity> findAfter(
+            final String terms,
+            final MatchMode match,
+            final String aProperty,
+            final Object aValue,
+            final UUID anId,
+            final boolean ascending,
+            final int limit
+    ) {
+        final var strategy = strategyFor(terms, match);
+        final var column = column(aProperty);
+
+        final var conditions = new ArrayList<String>();
+        if (strategy != null) {
+            conditions.add("(" + strategy.predicate() + ")");
+        }
+        if (anId != null) {
+            final var op = ascending ? ">" : "<";
+            conditions.add("(%1$s %2$s :value OR (%1$s = :value AND c.id %2$s :after))".formatted(column, op));
+        }
+
+        final var direction = ascending ? " ASC" : " DESC";
+        final var sql = "SELECT c.* FROM category c"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY " + column + direction + ", c.id" + direction
+                + " LIMIT :limit";
+
+        final var query = entityManager.createNativeQuery(sql, CategoryJpaEntity.class)
+                .setParameter("limit", limit);
+        if (anId != null) {
+            query.setParameter("value", aValue instanceof Instant instant ? Timestamp.from(instant) : aValue)
+                    .setParameter("after", UUIDUtils.toBytes(anId));
+        }
+        bindTerms(query, strategy, terms);
+
+        @SuppressWarnings("unchecked")
+        final List<CategoryJpaEntity> rows = query.getResultList();
+        return rows;
+    }
+
+    @Override
+    public long countMatching(final String terms, final MatchMode match) {
+        final var strategy = strategyFor(terms, match);
+        final var query = entityManager.createNativeQuery("SELECT COUNT(*) FROM category c" + where(strategy));
+        bindTerms(query, strategy, terms);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    // persist, unlike save/merge, trusts the assigned id is new and skips the SELECT by primary key
+    @Override
+    @Transactional
+    public void insert(final CategoryJpaEntity anEntity) {
+        entityManager.persist(anEntity);
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(final List<CategoryJpaEntity> anEntities) {
+        anEntities.forEach(entityManager::persist);
+    }
+
+    // deleted_at is assigned before active so it still sees the stored value, and a row that stays inactive keeps when it was deleted
+    static final String UPSERT = """
+            INSERT INTO category (id, name, name_normalized, description, active, created_at, updated_at, deleted_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+            ON DUPLICATE KEY UPDATE
+                deleted_at = CASE WHEN VALUES(active) THEN NULL ELSE COALESCE(deleted_at, VALUES(deleted_at)) END,
+                name = VALUES(name),
+                name_normalized = VALUES(name_normalized),
+                description = VALUES(description),
+                active = VALUES(active),
+                updated_at = VALUES(updated_at),
+                version = version + 1
+            """;
+
+    // a single JDBC batch that rewriteBatchedStatements sends as one multi-row statement; no row is read first
+    @Override
+    @Transactional
+    public void upsertAll(final List<CategoryJpaEntity> anEntities) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (final var statement = connection.prepareStatement(UPSERT)) {
+                for (final var anEntity : anEntities) {
+                    bindUpsert(statement, anEntity);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+        entityManager.clear();
+    }
+
+    static void bindUpsert(final PreparedStatement statement, final CategoryJpaEntity anEntity) throws SQLException {
+        statement.setBytes(1, UUIDUtils.toBytes(anEntity.getId()));
+        statement.setString(2, anEntity.getName());
+        statement.setString(3, anEntity.getNameNormalized());
+        statement.setString(4, anEntity.getDescription());
+        statement.setBoolean(5, anEntity.isActive());
+        statement.setTimestamp(6, Timestamp.from(anEntity.getCreatedAt()));
+        statement.setTimestamp(7, Timestamp.from(anEntity.getUpdatedAt()));
+        statement.setTimestamp(8, anEntity.getDeletedAt() != null ? Timestamp.from(anEntity.getDeletedAt()) : null);
+    }
+
+    // one round trip and no row read: zero rows updated means someone else got there first (or deleted it)
+    @Override
+    @Transactional
+    public int updateIfVersion(final CategoryJpaEntity anEntity, final long expectedVersion) {
+        final var updated = entityManager.createQuery("""
+                        UPDATE CategoryJpaEntity c
+                        SET c.name = :name,
+                            c.nameNormalized = :nameNormalized,
+                            c.description = :description,
+                            c.active = :active,
+                            c.updatedAt = :updatedAt,
+                            c.deletedAt = :deletedAt,
+                            c.version = c.version + 1
+                        WHERE c.id = :id AND c.version = :version
+                        """)
+                .setParameter("name", anEntity.getName())
+                .setParameter("nameNormalized", anEntity.getNameNormalized())
+                .setParameter("description", anEntity.getDescription())
+                .setParameter("active", anEntity.isActive())
+                .setParameter("updatedAt", anEntity.getUpdatedAt())
+                .setParameter("deletedAt", anEntity.getDeletedAt())
+                .setParameter("id", anEntity.getId())
+                .setParameter("version", expectedVersion)
+                .executeUpdate();
+
+        // bulk updates bypass the persistence context, so anything already loaded in it is now stale
+        entityManager.clear();
+        return updated;
+    }
+
+    // same guard as updateIfVersion, but the SET clause only names the attributes in aChanges
+    @Override
+    @Transactional
+    public int updateColumnsIfVersion(final UUID anId, final Map<String, Object> aChanges, final long expectedVersion) {
+        final var assignments = aChanges.keySet().stream()
+                .map(attribute -> "c." + attribute + " = :" + attribute)
+                .collect(Collectors.joining(", "));
+
+        final var query = entityManager.createQuery("UPDATE CategoryJpaEntity c SET " + assignments
+                        + ", c.version = c.version + 1 WHERE c.id = :id AND c.version = :version")
+                .setParameter("id", anId)
+                .setParameter("version", expectedVersion);
+        aChanges.forEach(query::setParameter);
+
+        final var updated = query.executeUpdate();
+
+        entityManager.clear();
+        return updated;
+    }
+
+    // unlike deleteById, which loads the entity first, this is a single DELETE reporting whether the row existed
+    @Override
+    @Transactional
+    public int deleteRow(final UUID anId) {
+        final var deleted = entityManager.createQuery("DELETE FROM CategoryJpaEntity c WHERE c.id = :id")
+                .setParameter("id", anId)
+                .executeUpdate();
+
+        entityManager.clear();
+        return deleted;
+    }
+
+    @Override
+    public List<UUID> findIdsMatching(final String terms, final MatchMode match, final UUID after, final int limit) {
+        final var strategy = strategyFor(terms, match);
+        final var conditions = new ArrayList<String>();
+        if (strategy != null) {
+            conditions.add("(" + strategy.predicate() + ")");
+        }
+        if (after != null) {
+            conditions.add("c.id > :after");
+        }
+
+        final var sql = "SELECT c.id FROM category c"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY c.id LIMIT :limit";
+
+        final var query = entityManager.createNativeQuery(sql)
+                .setParameter("limit", limit);
+        if (after != null) {
+            query.setParameter("after", UUIDUtils.toBytes(after));
+        }
+        bindTerms(query, strategy, terms);
+
+        @SuppressWarnings("unchecked")
+        final List<byte[]> rows = query.getResultList();
+        return rows.stream().map(UUIDUtils::fromBytes).toList();
+    }
+
+    // the state predicates mirror Category.activate()/deactivate() and leave rows already in that state untouched;
+    // the rows are locked first so the ones returned, reloaded after the update, are exactly the ones changed
+    @Override
+    @Transactional
+    public List<CategoryJpaEntity> activateRows(final List<UUID> anIds, final Instant aNow) {
+        final var changed = lockIds(anIds, "c.active = false OR c.deletedAt IS NOT NULL");
+        if (changed.isEmpty()) {
+            return List.of();
+        }
+
+        entityManager.createQuery("""
+                        UPDATE CategoryJpaEntity c
+                        SET c.active = true,
+                            c.deletedAt = NULL,
+                            c.updatedAt = :now,
+                            c.version = c.version + 1
+                        WHERE c.id IN :ids
+                        """)
+                .setParameter("now", aNow)
+                .setParameter("ids", changed)
+                .executeUpdate();
+
+        return reload(changed);
+    }
+
+    @Override
+    @Transactional
+    public List<CategoryJpaEntity> deactivateRows(final List<UUID> anIds, final Instant aNow) {
+        final var changed = lockIds(anIds, "c.active = true OR c.deletedAt IS NULL");
+        if (changed.isEmpty()) {
+            return List.of();
+        }
+
+        entityManager.createQuery("""
+                        UPDATE CategoryJpaEntity c
+                        SET c.active = false,
+                            c.deletedAt = COALESCE(c.deletedAt, :now),
+                            c.updatedAt = :now,
+                            c.version = c.version + 1
+                        WHERE c.id IN :ids
+                        """)
+                .setParameter("now", aNow)
+                .setParameter("ids", changed)
+                .executeUpdate();
+
+        return reload(changed);
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> deleteRows(final List<UUID> anIds) {
+        final var deleted = lockIds(anIds, null);
+        if (deleted.isEmpty()) {
+            return List.of();
+        }
+
+        entityManager.createQuery("DELETE FROM CategoryJpaEntity c WHERE c.id IN :ids")
+                .setParameter("ids", deleted)
+                .executeUpdate();
+
+        entityManager.clear();
+        return deleted;
+    }
+
+    // SELECT ... FOR UPDATE, so no concurrent write can change which of these rows the following statement touches
+    private List<UUID> lockIds(final List<UUID> anIds, final String aCondition) {
+        return entityManager.createQuery("SELECT c.id FROM CategoryJpaEntity c WHERE c.id IN :ids"
+                        + (aCondition != null ? " AND (" + aCondition + ")" : ""), UUID.class)
+                .setParameter("ids", anIds)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+
+    // bulk updates bypass the persistence context, so it is cleared before reading the rows back
+    private List<CategoryJpaEntity> reload(final List<UUID> anIds) {
+        entityManager.clear();
+        final var rows = entityManager.createQuery("SELECT c FROM CategoryJpaEntity c WHERE c.id IN :ids", CategoryJpaEntity.class)
+                .setParameter("ids", anIds)
+                .getResultList();
+        entityManager.clear();
+        return rows;
+    }
+
+    @Override
+    public void forEachBatch(final int batchSize, final Consumer<List<CategoryJpaEntity>> consumer) {
+        forEachBatch(null, batchSize, consumer);
+    }
+
+    @Override
+    public void forEachUpdatedSince(
+            final Instant since,
+            final int batchSize,
+            final Consumer<List<CategoryJpaEntity>> consumer
+    ) {
+        forEachBatch(SpecificationUtils.greaterThan("updatedAt", since), batchSize, consumer);
+    }
+
+    private void forEachBatch(
+            final Specification<CategoryJpaEntity> aFilter,
+            final int batchSize,
+            final Consumer<List<CategoryJpaEntity>> consumer
+    ) {
+        final var byId = Sort.by("id");
+        var whereClause = Specification.where(aFilter);
+
+        List<CategoryJpaEntity> batch;
+        do {
+            batch = findAll(whereClause, byId, batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            consumer.accept(batch);
+
+            whereClause = Specification.where(aFilter)
+                    .and(SpecificationUtils.greaterThan("id", batch.get(batch.size() - 1).getId()));
+            entityManager.clear();
+        } while (batch.size() == batchSize);
+    }
+
+    // a stateless session keeps no persistence context, and a forward-only cursor with MySQL's
+    // Integer.MIN_VALUE fetch size streams rows from the server one by one instead of buffering the result set
+    @Override
+    public void streamAll(final int fetchSize, final Consumer<CategoryJpaEntity> consumer) {
+        final var sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (final var session = sessionFactory.openStatelessSession(connection);
+                 final var rows = session.createQuery("SELECT c FROM CategoryJpaEntity c ORDER BY c.id", CategoryJpaEntity.class)
+                         .setFetchSize(fetchSize)
+                         .setReadOnly(true)
+                         .scroll(ScrollMode.FORWARD_ONLY)) {
+                while (rows.next()) {
+                    consumer.accept((CategoryJpaEntity) rows.get(0));
+                }
+            }
+        });
+    }
+
+    private CategorySearchStrategy strategyFor(final String terms, final MatchMode match) {
+        return searchStrategy.forTerms(terms, match);
+    }
+
+    static String where(final CategorySearchStrategy strategy) {
+        return strategy != null ? " WHERE " + strategy.predicate() : "";
+    }
+
+    private static void bindTerms(final Query query, final CategorySearchStrategy strategy, final String terms) {
+        if (strategy != null) {
+            strategy.parameters(terms).forEach(query::setParameter);
+        }
+    }
+
+    static String orderBy(final CategorySearchStrategy strategy, final Sort sort) {
+        final var orders = sort.stream()
+                .map(order -> RELEVANCE.equals(order.getProperty())
+                        ? relevance(strategy, order.isAscending())
+                        : column(order.getProperty()) + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+
+        if (sort.getOrderFor("id") != null) {
+            return orders;
+        }
+        return orders.isEmpty() ? "c.id" : orders + ", c.id";
+    }
+
+    // relevance desc is the best match first; without a score that is the name order, so asc reverses it
+    private static String relevance(final CategorySearchStrategy strategy, final boolean ascending) {
+        if (strategy == null || strategy.relevance() == null) {
+            return ascending ? "c.name DESC" : "c.name ASC";
+        }
+        return strategy.relevance() + (ascending ? " ASC" : " DESC");
+    }
+
+    static String column(final String aProperty) {
+        final var column = SORTABLE_COLUMNS.get(aProperty);
+        if (column == null) {
+            final var sortable = new TreeSet<>(SORTABLE_COLUMNS.keySet());
+            sortable.add(RELEVANCE);
+            throw DomainException.with(new Error("'sort' must be one of %s".formatted(sortable)));
+        }
+        return "c." + column;
+    }
+}
@@ -0,0 +1,111 @@
+package com.hartwig.catalog.admin.infrastructure.category.persistence;
+
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import com.hartwig.catalog.admin.infrastructure.utils.NormalizationUtils;
+import com.hartwig.catalog.admin.infrastructure.utils.SpecificationUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public enum CategorySearchStrategy {
+
+    LIKE {
+        @Override
+        String predicate() {
+            return "c.name_normalized LIKE :terms ESCAPE '!' OR UPPER(c.description) LIKE :description ESCAPE '!'";
+        }
+
+        @Override
+        String relevance() {
+            return null;
+        }
+
+        @Override
+        Map<String, Object> parameters(final String terms) {
+            final var description = SpecificationUtils.escapeLike(terms.trim().toUpperCase());
+            return Map.of("terms", "%" + searchKey(terms) + "%", "description", "%" + description + "%");
+        }
+    },
+
+    // a left-anchored LIKE on the indexed column is a range scan rather than a full scan
+    PREFIX {
+        @Override
+        String predicate() {
+            return "c.name_normalized LIKE :terms ESCAPE '!'";
+        }
+
+        @Override
+        String relevance() {
+            return null;
+        }
+
+        @Override
+        Map<String, Object> parameters(final String terms) {
+            return Map.of("terms", searchKey(terms) + "%");
+        }
+    },
+
+    FULLTEXT {
+        @Override
+        String predicate() {
+            return "MATCH(c.name, c.description) AGAINST (:terms IN BOOLEAN MODE)";
+        }
+
+        @Override
+        String relevance() {
+            return predicate();
+        }
+
+        @Override
+        Map<String, Object> parameters(final String terms) {
+            // every word must appear as a phrase, which keeps the ngram parser from matching loose bigrams
+            return Map.of("terms", words(terms)
+                    .map(word -> "+\"" + word + "\"")
+                    .collect(Collectors.joining(" ")));
+        }
+    };
+
+    // MySQL's default ngram_token_size; shorter words cannot be found through the FULLTEXT index
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    abstract String predicate();
+
+    abstract String relevance();
+
+    abstract Map<String, Object> parameters(String terms);
+
+    public static CategorySearchStrategy from(final String aValue) {
+        return valueOf(aValue.trim().toUpperCase());
+    }
+
+    // null when there is nothing to search for
+    CategorySearchStrategy forTerms(final String terms, final MatchMode match) {
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+        if (match == MatchMode.PREFIX) {
+            return PREFIX;
+        }
+        return resolve(terms);
+    }
+
+    CategorySearchStrategy resolve(final String terms) {
+        if (this == FULLTEXT
+                && (words(terms).findAny().isEmpty() || words(terms).anyMatch(word -> word.length() < NGRAM_TOKEN_SIZE))) {
+            return LIKE;
+        }
+        return this;
+    }
+
+    private static String searchKey(final String terms) {
+        return SpecificationUtils.escapeLike(NormalizationUtils.searchKey(terms.trim()));
+    }
+
+    private static Stream<String> words(final String terms) {
+        return Arrays.stream(terms.trim().split("\\s+"))
+                .map(word -> word.replace("\"", ""))
+                .filter(word -> !word.isEmpty());
+    }
+}
@@ -0,0 +1,366 @@
+package com.hartwig.catalog.admin.infrastructure.category.persistence;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import com.hartwig.catalog.admin.infrastructure.utils.UUIDUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// the category table of one shard, over plain JDBC: each shard has its own datasource, so it cannot share the
+// application's EntityManager. The SQL mirrors CategoryRepositoryCustomImpl
+public class CategoryShardRepository implements Closeable {
+
+    private static final RowMapper<Category> CATEGORY = (rs, rowNum) -> Category.with(
+            CategoryID.from(UUIDUtils.fromBytes(rs.getBytes("id"))),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getBoolean("active"),
+            instant(rs, "created_at"),
+            instant(rs, "updated_at"),
+            instant(rs, "deleted_at"),
+            rs.getLong("version")
+    );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnly;
+    private final CategorySearchStrategy searchStrategy;
+    private final String descriptionOrder;
+
+    public CategoryShardRepository(final DataSource dataSource, final CategorySearchStrategy searchStrategy) {
+        final var transactionManager = new DataSourceTransactionManager(dataSource);
+        this.dataSource = dataSource;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.named = new NamedParameterJdbcTemplate(jdbc);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.searchStrategy = searchStrategy;
+        // the description has no normalized copy, so on MySQL it is sorted in a binary collation at query time
+        final var product = jdbc.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        this.descriptionOrder = "MySQL".equalsIgnoreCase(product) ? "c.description COLLATE utf8mb4_0900_bin" : "c.description";
+    }
+
+    public void insertAll(final List<Category> aCategories) {
+        final var rows = aCategories.stream()
+                .map(CategoryShardRepository::parameters)
+                .toArray(MapSqlParameterSource[]::new);
+
+        transaction.executeWithoutResult(status -> named.batchUpdate("""
+                INSERT INTO category (id, name, name_normalized, description, active, created_at, updated_at, deleted_at, version)
+                VALUES (:id, :name, :nameNormalized, :description, :active, :createdAt, :updatedAt, :deletedAt, :version)
+                """, rows));
+    }
+
+    public void upsertAll(final List<Category> aCategories) {
+        final var entities = aCategories.stream().map(CategoryJpaEntity::from).toList();
+        transaction.executeWithoutResult(status -> jdbc.batchUpdate(
+                CategoryRepositoryCustomImpl.UPSERT,
+                entities,
+                entities.size(),
+                CategoryRepositoryCustomImpl::bindUpsert
+        ));
+    }
+
+    public Optional<Category> findById(final UUID anId) {
+        final var rows = readOnly.execute(status -> named.query(
+                "SELECT c.* FROM category c WHERE c.id = :id",
+                new MapSqlParameterSource("id", UUIDUtils.toBytes(anId)),
+                CATEGORY
+        ));
+        return rows.stream().findFirst();
+    }
+
+    public List<Category> findAllById(final List<UUID> anIds) {
+        return readOnly.execute(status -> named.query(
+                "SELECT c.* FROM category c WHERE c.id IN (:ids)",
+                new MapSqlParameterSource("ids", bytes(anIds)),
+                CATEGORY
+        ));
+    }
+
+    // same guard as CategoryRepositoryCustomImpl.updateIfVersion: zero rows means a concurrent write or a delete
+    public int updateIfVersion(final Category aCategory, final long expectedVersion) {
+        final var params = parameters(aCategory).addValue("expectedVersion", expectedVersion);
+        return transaction.execute(status -> named.update("""
+                UPDATE category
+                SET name = :name,
+                    name_normalized = :nameNormalized,
+                    description = :description,
+                    active = :active,
+                    updated_at = :updatedAt,
+                    deleted_at = :deletedAt,
+                    version = version + 1
+                WHERE id = :id AND version = :expectedVersion
+                """, params));
+    }
+
+    public int deleteRow(final UUID anId) {
+        return deleteRows(List.of(anId)).size();
+    }
+
+    // same contract as CategoryRepositoryCustomImpl: the ids or rows actually changed, locked before the statement
+    public List<UUID> deleteRows(final List<UUID> anIds) {
+        return transaction.execute(status -> {
+            final var deleted = lockIds(anIds, null);
+            if (!deleted.isEmpty()) {
+                named.update("DELETE FROM category WHERE id IN (:ids)", new MapSqlParameterSource("ids", bytes(deleted)));
+            }
+            return deleted;
+        });
+    }
+
+    public List<Category> activateRows(final List<UUID> anIds, final Instant aNow) {
+        return transaction.execute(status -> {
+            final var changed = lockIds(anIds, "active = FALSE OR deleted_at IS NOT NULL");
+            if (changed.isEmpty()) {
+                return List.<Category>of();
+            }
+            named.update("""
+                    UPDATE category
+                    SET active = TRUE, deleted_at = NULL, updated_at = :now, version = version + 1
+                    WHERE id IN (:ids)
+                    """, new MapSqlParameterSource("ids", bytes(changed)).addValue("now", Timestamp.from(aNow)));
+            return named.query("SELECT c.* FROM category c WHERE c.id IN (:ids)", new MapSqlParameterSource("ids", bytes(changed)), CATEGORY);
+        });
+    }
+
+    public List<Category> deactivateRows(final List<UUID> anIds, final Instant aNow) {
+        return transaction.execute(status -> {
+            final var changed = lockIds(anIds, "active = TRUE OR deleted_at IS NULL");
+            if (changed.isEmpty()) {
+                return List.<Category>of();
+            }
+            named.update("""
+                    UPDATE category
+                    SET active = FALSE, deleted_at = COALESCE(deleted_at, :now), updated_at = :now, version = version + 1
+                    WHERE id IN (:ids)
+                    """, new MapSqlParameterSource("ids", bytes(changed)).addValue("now", Timestamp.from(aNow)));
+            return named.query("SELECT c.* FROM category c WHERE c.id IN (:ids)", new MapSqlParameterSource("ids", bytes(changed)), CATEGORY);
+        });
+    }
+
+    public List<UUID> findIdsMatching(final String terms, final MatchMode match, final UUID after, final int limit) {
+        final var strategy = searchStrategy.forTerms(terms, match);
+        final var params = terms(strategy, terms).addValue("limit", limit);
+        final var conditions = new ArrayList<String>();
+        if (strategy != null) {
+            conditions.add("(" + strategy.predicate() + ")");
+        }
+        if (after != null) {
+            conditions.add("c.id > :after");
+            params.addValue("after", UUIDUtils.toBytes(after));
+        }
+
+        final var sql = "SELECT c.id FROM category c"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY c.id LIMIT :limit";
+        return readOnly.execute(status -> named.query(sql, params, (rs, rowNum) -> UUIDUtils.fromBytes(rs.getBytes(1))));
+    }
+
+    // the first rows of this shard in the requested order; the caller merges them with the other shards
+    public List<Category> findFirst(final String terms, final MatchMode match, final Sort sort, final int limit) {
+        final var strategy = searchStrategy.forTerms(terms, match);
+        final var orderBy = sort.stream()
+                .map(order -> sortColumn(order.getProperty()) + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+        final var sql = "SELECT c.* FROM category c"
+                + CategoryRepositoryCustomImpl.where(strategy)
+                + " ORDER BY " + (orderBy.isEmpty() ? "c.id" : orderBy + ", c.id")
+                + " LIMIT :limit";
+        return readOnly.execute(status -> named.query(sql, terms(strategy, terms).addValue("limit", limit), CATEGORY));
+    }
+
+    // (property, id) past the cursor, in the same direction for both, like CategoryRepositoryCustomImpl.findAfter;
+    // a name cursor holds the name's search key
+    public List<Category> findAfter(
+            final String terms,
+            final MatchMode match,
+            final String aProperty,
+            final Object aValue,
+            final UUID anId,
+            final boolean ascending,
+            final int limit
+    ) {
+        final var strategy = searchStrategy.forTerms(terms, match);
+        final var column = sortColumn(aProperty);
+        final var params = terms(strategy, terms).addValue("limit", limit);
+
+        final var conditions = new ArrayList<String>();
+        if (strategy != null) {
+            conditions.add("(" + strategy.predicate() + ")");
+        }
+        if (anId != null) {
+            final var op = ascending ? ">" : "<";
+            conditions.add("(%1$s %2$s :value OR (%1$s = :value AND c.id %2$s :after))".formatted(column, op));
+            params.addValue("value", aValue instanceof Instant instant ? Timestamp.from(instant) : aValue)
+                    .addValue("after", UUIDUtils.toBytes(anId));
+        }
+
+        final var direction = ascending ? " ASC" : " DESC";
+        final var sql = "SELECT c.* FROM category c"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY " + column + direction + ", c.id" + direction
+                + " LIMIT :limit";
+        return readOnly.execute(status -> named.query(sql, params, CATEGORY));
+    }
+
+    public long countMatching(final String terms, final MatchMode match) {
+        final var strategy = searchStrategy.forTerms(terms, match);
+        final var count = readOnly.execute(status -> named.queryForObject(
+                "SELECT COUNT(*) FROM category c" + CategoryRepositoryCustomImpl.where(strategy),
+                terms(strategy, terms),
+                Long.class
+        ));
+        return count != null ? count : 0;
+    }
+
+    // a forward-only cursor over the shard in id order, on a connection of its own until closed
+    public Cursor openCursor(final int fetchSize) {
+        final var sql = "SELECT c.* FROM category c ORDER BY c.id";
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            final var statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return new Cursor(connection, statement, statement.executeQuery());
+        } catch (final SQLException ex) {
+            closeQuietly(connection);
+            throw translate("openCursor", sql, ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (dataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    // text is sorted by code point (a binary collation) instead of the column's accent and case insensitive one, which
+    // ShardedCategoryGateway could not reproduce when merging the shards: the name through its search key
+    private String sortColumn(final String aProperty) {
+        return switch (aProperty) {
+            case "name" -> "c.name_normalized";
+            case "description" -> descriptionOrder;
+            default -> CategoryRepositoryCustomImpl.column(aProperty);
+        };
+    }
+
+    private List<UUID> lockIds(final List<UUID> anIds, final String aCondition) {
+        return named.query(
+                "SELECT id FROM category WHERE id IN (:ids)" + (aCondition != null ? " AND (" + aCondition + ")" : "") + " FOR UPDATE",
+                new MapSqlParameterSource("ids", bytes(anIds)),
+                (rs, rowNum) -> UUIDUtils.fromBytes(rs.getBytes("id"))
+        );
+    }
+
+    private DataAccessException translate(final String aTask, final String sql, final SQLException ex) {
+        final var translated = jdbc.getExceptionTranslator().translate(aTask, sql, ex);
+        return translated != null ? translated : new UncategorizedSQLException(aTask, sql, ex);
+    }
+
+    private static MapSqlParameterSource parameters(final Category aCategory) {
+        final var anEntity = CategoryJpaEntity.from(aCategory);
+        return new MapSqlParameterSource()
+                .addValue("id", UUIDUtils.toBytes(anEntity.getId()))
+                .addValue("name", anEntity.getName())
+                .addValue("nameNormalized", anEntity.getNameNormalized())
+                .addValue("description", anEntity.getDescription())
+                .addValue("active", anEntity.isActive())
+                .addValue("createdAt", Timestamp.from(anEntity.getCreatedAt()))
+                .addValue("updatedAt", Timestamp.from(anEntity.getUpdatedAt()))
+                .addValue("deletedAt", anEntity.getDeletedAt() != null ? Timestamp.from(anEntity.getDeletedAt()) : null)
+                .addValue("version", anEntity.getVersion());
+    }
+
+    private static MapSqlParameterSource terms(final CategorySearchStrategy strategy, final String terms) {
+        final var params = new MapSqlParameterSource();
+        if (strategy != null) {
+            params.addValues(strategy.parameters(terms));
+        }
+        return params;
+    }
+
+    private static List<byte[]> bytes(final List<UUID> anIds) {
+        return anIds.stream().map(UUIDUtils::toBytes).toList();
+    }
+
+    private static Instant instant(final ResultSet rs, final String aColumn) throws SQLException {
+        final var aTimestamp = rs.getTimestamp(aColumn);
+        return aTimestamp != null ? aTimestamp.toInstant() : null;
+    }
+
+    private static void closeQuietly(final Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (final SQLException ignored) {
+            // already failing; the original error is the one worth reporting
+        }
+    }
+
+    public class Cursor implements AutoCloseable {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final ResultSet rows;
+
+        private Cursor(final Connection connection, final PreparedStatement statement, final ResultSet rows) {
+            this.connection = connection;
+            this.statement = statement;
+            this.rows = rows;
+        }
+
+        // null once the shard is exhausted
+        public Category next() {
+            try {
+                return rows.next() ? CATEGORY.mapRow(rows, rows.getRow()) : null;
+            } catch (final SQLException ex) {
+                throw translate("next", null, ex);
+            }
+        }
+
+        // a streaming result set has to be closed before anything else runs on its connection
+        @Override
+        public void close() {
+            try (connection) {
+                rows.close();
+                statement.close();
+                connection.rollback();
+            } catch (final SQLException ex) {
+                throw translate("close", null, ex);
+            }
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.hartwig.catalog.admin.infrastructure.category.presenters;
 
 import com.hartwig.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import com.hartwig.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.hartwig.catalog.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
 import com.hartwig.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import com.hartwig.catalog.admin.infrastructure.category.models.CategoryResponse;
+import com.hartwig.catalog.admin.infrastructure.category.models.CategorySuggestionResponse;
 
 public interface CategoryApiPresenter {
 
@@ -15,7 +17,8 @@ public interface CategoryApiPresenter {
                 output.isActive(),
                 output.createdAt(),
                 output.updatedAt(),
-                output.deletedAt()
+                output.deletedAt(),
+                output.version()
         );
     }
 
@@ -29,4 +32,8 @@ public interface CategoryApiPresenter {
                 output.deletedAt()
         );
     }
+
+    static CategorySuggestionResponse present(final CategorySuggestionOutput output) {
+        return new CategorySuggestionResponse(output.id().getValue(), output.name());
+    }
 }
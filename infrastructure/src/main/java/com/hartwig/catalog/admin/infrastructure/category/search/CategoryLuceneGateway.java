@@ -0,0 +1,273 @@
+package com.hartwig.catalog.admin.infrastructure.category.search;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.category.CategorySearchGateway;
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import com.hartwig.catalog.admin.domain.pagination.Pagination;
+import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategoryDeletedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategorySavedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.hartwig.catalog.admin.infrastructure.utils.NormalizationUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.EdgeNGramTokenFilter;
+import org.apache.lucene.analysis.pt.PortugueseAnalyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(name = "category.search.index", havingValue = "lucene")
+public class CategoryLuceneGateway implements CategorySearchGateway, DisposableBean {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String NAME_SORT = "name_sort";
+    private static final String DESCRIPTION = "description";
+    private static final String CREATED_AT = "created_at";
+
+    private static final Set<String> SORTABLE = Set.of("relevance", "name", "createdAt");
+    private static final Set<String> ID_ONLY = Set.of(ID);
+
+    private static final float NAME_BOOST = 2f;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final CategoryRepository repository;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final QueryBuilder queryBuilder;
+
+    private volatile boolean ready;
+
+    public CategoryLuceneGateway(
+            final CategoryRepository categoryRepository,
+            @Value("${category.search.lucene.max-staleness:1s}") final Duration maxStaleness
+    ) throws IOException {
+        this.repository = categoryRepository;
+        this.writer = new IndexWriter(
+                new ByteBuffersDirectory(),
+                new IndexWriterConfig(analyzer(true)).setSimilarity(new BM25Similarity())
+        );
+        this.searcherManager = new SearcherManager(writer, new SearcherFactory() {
+            @Override
+            public IndexSearcher newSearcher(final IndexReader reader, final IndexReader previousReader) {
+                final var searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(new BM25Similarity());
+                return searcher;
+            }
+        });
+        this.reopenThread = new ControlledRealTimeReopenThread<>(
+                writer,
+                searcherManager,
+                maxStaleness.toMillis() / 1000.0,
+                0.0
+        );
+        this.reopenThread.setName("category-lucene-reopen");
+        this.reopenThread.setDaemon(true);
+        this.reopenThread.start();
+        this.queryBuilder = new QueryBuilder(analyzer(false));
+    }
+
+    @Override
+    public boolean supports(final SearchQuery aQuery) {
+        return ready
+                && !aQuery.isKeyset()
+                && aQuery.match() == MatchMode.CONTAINS
+                && SORTABLE.contains(aQuery.sort());
+    }
+
+    @Override
+    public Pagination<CategoryID> search(final SearchQuery aQuery) {
+        final var offset = aQuery.page() * aQuery.perPage();
+        final var sort = sortFor(aQuery);
+        final TopDocsCollector<?> collector = sort == null
+                ? TopScoreDocCollector.create(Math.max(1, offset + aQuery.perPage()), Integer.MAX_VALUE)
+                : TopFieldCollector.create(sort, Math.max(1, offset + aQuery.perPage()), Integer.MAX_VALUE);
+
+        try {
+            final var searcher = searcherManager.acquire();
+            try {
+                searcher.search(queryFor(aQuery.terms()), collector);
+
+                final var ids = new ArrayList<CategoryID>();
+                for (final var hit : collector.topDocs(offset, aQuery.perPage()).scoreDocs) {
+                    ids.add(CategoryID.from(searcher.doc(hit.doc, ID_ONLY).get(ID)));
+                }
+
+                return new Pagination<>(aQuery.page(), aQuery.perPage(), collector.getTotalHits(), ids);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(final CategorySavedEvent event) {
+        index(event.category());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(final CategoryDeletedEvent event) throws IOException {
+        writer.deleteDocuments(new Term(ID, event.id().getValue()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() throws IOException {
+        ready = false;
+        writer.deleteAll();
+
+        repository.forEachBatch(REBUILD_BATCH_SIZE, batch -> {
+            for (final var entity : batch) {
+                index(entity.toAggregate());
+            }
+        });
+
+        refresh();
+        ready = true;
+    }
+
+    private void index(final Category aCategory) {
+        try {
+            writer.updateDocument(new Term(ID, aCategory.getId().getValue()), toDocument(aCategory));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        ready = false;
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+    }
+
+    private Query queryFor(final String terms) {
+        final var query = new BooleanQuery.Builder();
+        addClause(query, NAME, terms, NAME_BOOST);
+        addClause(query, DESCRIPTION, terms, 1f);
+
+        final var built = query.build();
+        return built.clauses().isEmpty() ? new MatchNoDocsQuery() : built;
+    }
+
+    // every term has to be in the same field, but either field is enough
+    private void addClause(final BooleanQuery.Builder query, final String field, final String terms, final float boost) {
+        final var fieldQuery = queryBuilder.createBooleanQuery(field, terms, BooleanClause.Occur.MUST);
+        if (fieldQuery != null) {
+            query.add(new BoostQuery(fieldQuery, boost), BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    private Sort sortFor(final SearchQuery aQuery) {
+        final var reverse = "desc".equalsIgnoreCase(aQuery.direction());
+        final var byId = new SortField(ID, SortField.Type.STRING, reverse);
+        return switch (aQuery.sort()) {
+            case "name" -> new Sort(new SortField(NAME_SORT, SortField.Type.STRING, reverse), byId);
+            case "createdAt" -> new Sort(new SortField(CREATED_AT, SortField.Type.LONG, reverse), byId);
+            default -> null;
+        };
+    }
+
+    private static Document toDocument(final Category aCategory) {
+        final var id = aCategory.getId().getValue();
+        final var document = new Document();
+        document.add(new StringField(ID, id, Field.Store.YES));
+        document.add(new SortedDocValuesField(ID, new BytesRef(id)));
+        document.add(new TextField(NAME, aCategory.getName(), Field.Store.NO));
+        document.add(new SortedDocValuesField(NAME_SORT, new BytesRef(NormalizationUtils.fold(aCategory.getName()))));
+        if (aCategory.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, aCategory.getDescription(), Field.Store.NO));
+        }
+        document.add(new NumericDocValuesField(CREATED_AT, aCategory.getCreatedAt().toEpochMilli()));
+        return document;
+    }
+
+    private static Analyzer analyzer(final boolean indexing) {
+        return new PerFieldAnalyzerWrapper(new StandardAnalyzer(), Map.of(
+                NAME, new NameAnalyzer(indexing),
+                DESCRIPTION, new PortugueseAnalyzer()
+        ));
+    }
+
+    // names are short, so they are indexed with their prefixes to keep "doc" finding "Documentários"
+    private static final class NameAnalyzer extends Analyzer {
+
+        private static final int MIN_PREFIX = 2;
+        private static final int MAX_PREFIX = 20;
+
+        private final boolean prefixes;
+
+        private NameAnalyzer(final boolean prefixes) {
+            this.prefixes = prefixes;
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(final String fieldName) {
+            final var source = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(source));
+            if (prefixes) {
+                stream = new EdgeNGramTokenFilter(stream, MIN_PREFIX, MAX_PREFIX, true);
+            }
+            return new TokenStreamComponents(source, stream);
+        }
+
+        @Override
+        protected TokenStream normalize(final String fieldName, final TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
@@ -0,0 +1,548 @@
+package com.hartwig.catalog.admin.infrastructure.category.sharding;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryFilter;
+import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.pagination.Pagination;
+import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.domain.pagination.TotalMode;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.infrastructure.category.CategoryCountCache;
+import com.hartwig.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategoryDeletedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategorySavedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryShardRepository;
+import com.hartwig.catalog.admin.infrastructure.utils.CursorUtils;
+import com.hartwig.catalog.admin.infrastructure.utils.NormalizationUtils;
+import com.hartwig.catalog.admin.infrastructure.utils.UUIDUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// each category lives on the shard picked by a hash of its id; searches run on every shard in parallel and the
+// partial results are merged in the requested order
+public class ShardedCategoryGateway implements CategoryGateway, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedCategoryGateway.class);
+
+    // BINARY(16) sorts as unsigned bytes, that is the two longs compared unsigned, most significant first; UUID.compareTo
+    // compares them signed
+    private static final Comparator<Category> BY_ID = (aCategory, another) -> {
+        final var anId = aCategory.getId();
+        final var anotherId = another.getId();
+        final var order = Long.compareUnsigned(anId.getMostSignificantBits(), anotherId.getMostSignificantBits());
+        return order != 0 ? order : Long.compareUnsigned(anId.getLeastSignificantBits(), anotherId.getLeastSignificantBits());
+    };
+
+    private static final String NAME = "name";
+    private static final String CREATED_AT = "createdAt";
+    private static final String RELEVANCE = "relevance";
+
+    private final List<CategoryShardRepository> shards;
+    private final CategoryCountCache countCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int bulkChunkSize;
+    private final int exportFetchSize;
+    private final int maxOffset;
+    private final ExecutorService executor;
+
+    public ShardedCategoryGateway(
+            final List<CategoryShardRepository> shards,
+            final CategoryCountCache countCache,
+            final ApplicationEventPublisher eventPublisher,
+            final int threads,
+            final int bulkChunkSize,
+            final int exportFetchSize,
+            final int maxOffset
+    ) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        this.countCache = countCache;
+        this.eventPublisher = eventPublisher;
+        this.bulkChunkSize = bulkChunkSize;
+        this.exportFetchSize = exportFetchSize;
+        this.maxOffset = maxOffset;
+
+        final var counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final var thread = new Thread(runnable, "category-shard-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        shardOf(aCategory.getId()).insertAll(List.of(aCategory));
+        eventPublisher.publishEvent(new CategorySavedEvent(aCategory));
+        return aCategory;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        forEachShard(byShard(aCategories, ShardedCategoryGateway::uuidOf), (shard, group) -> {
+            forEachChunk(group, shard::insertAll);
+            return group.size();
+        });
+        aCategories.forEach(aCategory -> eventPublisher.publishEvent(new CategorySavedEvent(aCategory)));
+        return List.copyOf(aCategories);
+    }
+
+    @Override
+    public void upsertAll(final List<Category> aCategories) {
+        forEachShard(byShard(aCategories, ShardedCategoryGateway::uuidOf), (shard, group) -> {
+            forEachChunk(group, chunk -> {
+                try {
+                    shard.upsertAll(chunk);
+                } catch (final DataIntegrityViolationException ex) {
+                    throw CategoryMySQLGateway.rejected(ex);
+                }
+                // as in CategoryMySQLGateway, the stored rows are published, not the imported ones
+                shard.findAllById(chunk.stream().map(ShardedCategoryGateway::uuidOf).toList())
+                        .forEach(aCategory -> eventPublisher.publishEvent(new CategorySavedEvent(aCategory)));
+            });
+            return group.size();
+        });
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        final var anIdValue = anId.toUUID();
+        if (anIdValue.isPresent() && shardOf(anIdValue.get()).deleteRow(anIdValue.get()) > 0) {
+            // the canonical form, since the indexes key documents by the lowercase id
+            eventPublisher.publishEvent(new CategoryDeletedEvent(CategoryID.from(anIdValue.get())));
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return anId.toUUID()
+                .flatMap(anIdValue -> shardOf(anIdValue).findById(anIdValue));
+    }
+
+    @Override
+    public List<Category> findAllById(final List<CategoryID> anIds) {
+        final var ids = parse(anIds);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return forEachShard(byShard(ids, Function.identity()), CategoryShardRepository::findAllById).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var anExpectedVersion = aCategory.getVersion();
+        if (shardOf(aCategory.getId()).updateIfVersion(aCategory, anExpectedVersion) == 0) {
+            throw ConflictException.with(Category.class, aCategory.getId(), anExpectedVersion);
+        }
+
+        final var updated = nextVersion(aCategory, anExpectedVersion);
+        eventPublisher.publishEvent(new CategorySavedEvent(updated));
+        return updated;
+    }
+
+    // the version guard already pins the row to the state aPrevious was read at, so writing every column is
+    // equivalent to writing only the changed ones
+    @Override
+    public Category patch(final Category aPrevious, final Category aPatched) {
+        final var anExpectedVersion = aPrevious.getVersion();
+        if (shardOf(aPatched.getId()).updateIfVersion(aPatched, anExpectedVersion) == 0) {
+            throw ConflictException.with(Category.class, aPatched.getId(), anExpectedVersion);
+        }
+
+        final var patched = nextVersion(aPatched, anExpectedVersion);
+        eventPublisher.publishEvent(new CategorySavedEvent(patched));
+        return patched;
+    }
+
+    @Override
+    public long activateAll(final CategoryFilter aFilter) {
+        return changeAll(aFilter, (shard, ids) -> publishSaved(shard.activateRows(ids, InstantUtils.now())));
+    }
+
+    @Override
+    public long deactivateAll(final CategoryFilter aFilter) {
+        return changeAll(aFilter, (shard, ids) -> publishSaved(shard.deactivateRows(ids, InstantUtils.now())));
+    }
+
+    @Override
+    public long deleteAll(final CategoryFilter aFilter) {
+        return changeAll(aFilter, (shard, ids) -> {
+            final var deleted = shard.deleteRows(ids);
+            deleted.forEach(anId -> eventPublisher.publishEvent(new CategoryDeletedEvent(CategoryID.from(anId))));
+            return deleted.size();
+        });
+    }
+
+    private int publishSaved(final List<Category> aChanged) {
+        aChanged.forEach(aCategory -> eventPublisher.publishEvent(new CategorySavedEvent(aCategory)));
+        return aChanged.size();
+    }
+
+    // a k-way merge of one id-ordered cursor per shard keeps the global id order without buffering any shard
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        final var cursors = new ArrayList<CategoryShardRepository.Cursor>(shards.size());
+        try {
+            final var heads = new PriorityQueue<Head>(Comparator.comparing(Head::category, BY_ID));
+            for (final var shard : shards) {
+                final var cursor = shard.openCursor(exportFetchSize);
+                cursors.add(cursor);
+                advance(heads, cursor);
+            }
+
+            while (!heads.isEmpty()) {
+                final var head = heads.poll();
+                aConsumer.accept(head.category());
+                advance(heads, head.cursor());
+            }
+        } finally {
+            cursors.forEach(ShardedCategoryGateway::closeQuietly);
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        if (aQuery.isKeyset()) {
+            return findAllAfterCursor(aQuery);
+        }
+
+        // relevance scores of different shards cannot be compared, so across shards it falls back to the name,
+        // as the like strategy does: relevance desc is name asc and relevance asc reverses it
+        final var relevance = RELEVANCE.equals(aQuery.sort());
+        final var requested = Direction.fromString(aQuery.direction());
+        final var property = relevance ? NAME : aQuery.sort();
+        final var direction = relevance ? (requested.isAscending() ? Direction.DESC : Direction.ASC) : requested;
+        final var sort = Sort.by(direction, property);
+
+        // every shard may hold the whole page, so each one returns everything up to its end (plus one, for hasMore);
+        // that grows with the page number, so deep pages are left to the cursor, which reads perPage + 1 per shard
+        final var offset = (long) aQuery.page() * aQuery.perPage();
+        if (offset > maxOffset) {
+            throw DomainException.with(new Error("Pages past the first %d categories are only served with a cursor"
+                    .formatted(maxOffset)));
+        }
+        final var limit = Math.toIntExact(offset + aQuery.perPage() + 1);
+        final var exact = aQuery.totalMode() == TotalMode.EXACT;
+
+        final var partials = scatter(shard -> new Partial(
+                shard.findFirst(aQuery.terms(), aQuery.match(), sort, limit),
+                exact ? shard.countMatching(aQuery.terms(), aQuery.match()) : 0
+        ));
+
+        final var merged = merge(partials.stream().map(Partial::rows).toList(), offsetOrder(property, direction.isAscending()));
+        final var items = merged.stream().skip(offset).limit(aQuery.perPage()).toList();
+        final var hasMore = merged.size() > offset + aQuery.perPage();
+
+        return switch (aQuery.totalMode()) {
+            case EXACT -> new Pagination<>(
+                    aQuery.page(),
+                    aQuery.perPage(),
+                    partials.stream().mapToLong(Partial::total).sum(),
+                    items
+            );
+            case ESTIMATED -> new Pagination<>(
+                    aQuery.page(),
+                    aQuery.perPage(),
+                    countCache.get(aQuery.terms(), aQuery.match(), () -> count(aQuery)),
+                    items,
+                    null,
+                    hasMore
+            );
+            case NONE -> new Pagination<>(aQuery.page(), aQuery.perPage(), Pagination.UNKNOWN_TOTAL, items, null, hasMore);
+        };
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        shards.forEach(shard -> {
+            try {
+                shard.close();
+            } catch (final IOException ex) {
+                LOG.warn("Could not close a category shard", ex);
+            }
+        });
+    }
+
+    private Pagination<Category> findAllAfterCursor(final SearchQuery aQuery) {
+        final var perPage = CursorUtils.requirePerPage(aQuery.perPage());
+        final var property = aQuery.sort();
+        if (!NAME.equals(property) && !CREATED_AT.equals(property)) {
+            throw DomainException.with(new Error("'sort' must be name or createdAt when paginating with a cursor"));
+        }
+        final var ascending = Direction.fromString(aQuery.direction()).isAscending();
+
+        Object aValue = null;
+        UUID anId = null;
+        if (!aQuery.cursor().isBlank()) {
+            final var cursor = CursorUtils.decode(aQuery.cursor(), 3);
+            if (!property.equals(cursor.get(0))) {
+                throw CursorUtils.invalid();
+            }
+            aValue = parseCursorValue(property, cursor.get(1));
+            anId = UUIDUtils.parse(cursor.get(2)).orElseThrow(CursorUtils::invalid);
+        }
+
+        final var after = aValue;
+        final var afterId = anId;
+        final var partials = scatter(shard ->
+                shard.findAfter(aQuery.terms(), aQuery.match(), property, after, afterId, ascending, perPage + 1));
+
+        final var merged = merge(partials, keysetOrder(property, ascending));
+        final var items = merged.stream().limit(perPage).toList();
+
+        final var nextCursor = merged.size() > perPage
+                ? CursorUtils.encode(property, cursorValue(property, items.get(perPage - 1)), items.get(perPage - 1).getId().getValue())
+                : null;
+
+        return new Pagination<>(aQuery.page(), perPage, Pagination.UNKNOWN_TOTAL, items, nextCursor);
+    }
+
+    private long count(final SearchQuery aQuery) {
+        return scatter(shard -> shard.countMatching(aQuery.terms(), aQuery.match())).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    private long changeAll(final CategoryFilter aFilter, final BiFunction<CategoryShardRepository, List<UUID>, Integer> aChange) {
+        if (aFilter.hasIds()) {
+            final var ids = parse(aFilter.ids()).stream().distinct().toList();
+            return forEachShard(byShard(ids, Function.identity()), (shard, group) -> {
+                long affected = 0;
+                for (int from = 0; from < group.size(); from += bulkChunkSize) {
+                    affected += aChange.apply(shard, group.subList(from, Math.min(from + bulkChunkSize, group.size())));
+                }
+                return affected;
+            }).stream().mapToLong(Long::longValue).sum();
+        }
+
+        // the same id-keyset walk as CategoryMySQLGateway, on every shard at once
+        return scatter(shard -> {
+            long affected = 0;
+            UUID after = null;
+            List<UUID> chunk;
+            do {
+                chunk = shard.findIdsMatching(aFilter.terms(), aFilter.match(), after, bulkChunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                affected += aChange.apply(shard, chunk);
+                after = chunk.get(chunk.size() - 1);
+            } while (chunk.size() == bulkChunkSize);
+            return affected;
+        }).stream().mapToLong(Long::longValue).sum();
+    }
+
+    private CategoryShardRepository shardOf(final CategoryID anId) {
+        return shardOf(anId.toUUID().orElseThrow());
+    }
+
+    private static UUID uuidOf(final Category aCategory) {
+        return aCategory.getId().toUUID().orElseThrow();
+    }
+
+    private CategoryShardRepository shardOf(final UUID anId) {
+        return shards.get(shardIndex(anId, shards.size()));
+    }
+
+    // where a row lives is persisted by this function, so it is spelled out over the id's 16 bytes instead of relying
+    // on UUID.hashCode, whose result the JDK does not promise to keep; the fold is the one hashCode uses today
+    static int shardIndex(final UUID anId, final int aShardCount) {
+        final long bits = anId.getMostSignificantBits() ^ anId.getLeastSignificantBits();
+        return Math.floorMod((int) (bits ^ (bits >>> 32)), aShardCount);
+    }
+
+    private <T> Map<CategoryShardRepository, List<T>> byShard(final List<T> items, final Function<T, UUID> anId) {
+        final var groups = new LinkedHashMap<CategoryShardRepository, List<T>>();
+        items.forEach(item -> groups.computeIfAbsent(shardOf(anId.apply(item)), shard -> new ArrayList<>()).add(item));
+        return groups;
+    }
+
+    private void forEachChunk(final List<Category> aCategories, final Consumer<List<Category>> aWrite) {
+        for (int from = 0; from < aCategories.size(); from += bulkChunkSize) {
+            aWrite.accept(aCategories.subList(from, Math.min(from + bulkChunkSize, aCategories.size())));
+        }
+    }
+
+    private <T> List<T> scatter(final Function<CategoryShardRepository, T> aTask) {
+        return join(shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> aTask.apply(shard), executor))
+                .toList());
+    }
+
+    private <T, R> List<R> forEachShard(
+            final Map<CategoryShardRepository, List<T>> groups,
+            final BiFunction<CategoryShardRepository, List<T>, R> aTask
+    ) {
+        return join(groups.entrySet().stream()
+                .map(group -> CompletableFuture.supplyAsync(() -> aTask.apply(group.getKey(), group.getValue()), executor))
+                .toList());
+    }
+
+    // every shard is waited for, so none is still running when the first failure is rethrown
+    private static <T> List<T> join(final List<CompletableFuture<T>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static List<Category> merge(final List<List<Category>> partials, final Comparator<Category> anOrder) {
+        return partials.stream()
+                .flatMap(List::stream)
+                .sorted(anOrder)
+                .toList();
+    }
+
+    // ORDER BY <property>, id: the id tie-breaker is always ascending
+    private static Comparator<Category> offsetOrder(final String aProperty, final boolean ascending) {
+        final var byProperty = byProperty(aProperty);
+        return (ascending ? byProperty : byProperty.reversed()).thenComparing(BY_ID);
+    }
+
+    // ORDER BY <property>, id in the same direction, matching the (property, id) cursor predicate
+    private static Comparator<Category> keysetOrder(final String aProperty, final boolean ascending) {
+        final var order = byProperty(aProperty).thenComparing(BY_ID);
+        return ascending ? order : order.reversed();
+    }
+
+    // the order CategoryShardRepository sorts each shard in: text by code point, the name through its search key
+    // (computed once per row, since every comparison would otherwise normalize it again); NULLs sort first, as in MySQL
+    private static Comparator<Category> byProperty(final String aProperty) {
+        return switch (aProperty) {
+            case "id" -> BY_ID;
+            case NAME -> {
+                final var keys = new IdentityHashMap<Category, String>();
+                yield Comparator.comparing(
+                        (Category aCategory) -> keys.computeIfAbsent(aCategory, ShardedCategoryGateway::nameKey),
+                        ShardedCategoryGateway::compareCodePoints
+                );
+            }
+            case "description" -> Comparator.comparing(
+                    Category::getDescription,
+                    Comparator.nullsFirst(ShardedCategoryGateway::compareCodePoints)
+            );
+            case "active" -> Comparator.comparing(Category::isActive);
+            case CREATED_AT -> Comparator.comparing(Category::getCreatedAt);
+            case "updatedAt" -> Comparator.comparing(Category::getUpdatedAt);
+            case "deletedAt" -> Comparator.comparing(Category::getDeletedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+            // the shards have already rejected any other sort
+            default -> throw new IllegalArgumentException("Unsortable property " + aProperty);
+        };
+    }
+
+    // a binary collation compares code points; String.compareTo compares UTF-16 units, which differs past U+FFFF
+    private static int compareCodePoints(final String aValue, final String another) {
+        int i = 0;
+        int j = 0;
+        while (i < aValue.length() && j < another.length()) {
+            final var c = aValue.codePointAt(i);
+            final var d = another.codePointAt(j);
+            if (c != d) {
+                return Integer.compare(c, d);
+            }
+            i += Character.charCount(c);
+            j += Character.charCount(d);
+        }
+        return Boolean.compare(i < aValue.length(), j < another.length());
+    }
+
+    private static String nameKey(final Category aCategory) {
+        return NormalizationUtils.searchKey(aCategory.getName());
+    }
+
+    private static Object parseCursorValue(final String aProperty, final String aValue) {
+        if (NAME.equals(aProperty)) {
+            return aValue;
+        }
+        try {
+            return Instant.parse(aValue);
+        } catch (final DateTimeParseException ex) {
+            throw CursorUtils.invalid();
+        }
+    }
+
+    private static String cursorValue(final String aProperty, final Category aCategory) {
+        return NAME.equals(aProperty) ? nameKey(aCategory) : aCategory.getCreatedAt().toString();
+    }
+
+    private static List<UUID> parse(final List<CategoryID> anIds) {
+        return anIds.stream()
+                .map(CategoryID::toUUID)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private static Category nextVersion(final Category aCategory, final long anExpectedVersion) {
+        return Category.with(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                anExpectedVersion + 1
+        );
+    }
+
+    private static void advance(final PriorityQueue<Head> heads, final CategoryShardRepository.Cursor cursor) {
+        final var next = cursor.next();
+        if (next != null) {
+            heads.add(new Head(next, cursor));
+        }
+    }
+
+    private static void closeQuietly(final CategoryShardRepository.Cursor cursor) {
+        try {
+            cursor.close();
+        } catch (final RuntimeException ex) {
+            LOG.warn("Could not close a category shard cursor", ex);
+        }
+    }
+
+    private record Partial(List<Category> rows, long total) {
+    }
+
+    private record Head(Category category, CategoryShardRepository.Cursor cursor) {
+    }
+}
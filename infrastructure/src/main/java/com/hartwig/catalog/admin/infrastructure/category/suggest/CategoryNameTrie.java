@@ -0,0 +1,235 @@
+package com.hartwig.catalog.admin.infrastructure.category.suggest;
+
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.category.CategorySuggestion;
+import com.hartwig.catalog.admin.infrastructure.utils.NormalizationUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+public class CategoryNameTrie {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<CategoryID, String> names = new HashMap<>();
+    private Node root = new Node();
+
+    public void put(final CategoryID anId, final String aName) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(anId);
+            names.put(anId, aName);
+            for (final var key : keysOf(aName)) {
+                var node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                }
+                node.entries().put(anId, aName);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final CategoryID anId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(anId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            names.clear();
+            root = new Node();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<CategorySuggestion> suggest(final String aPrefix, final int aLimit) {
+        final var query = String.join(" ", words(aPrefix));
+        if (query.isEmpty() || aLimit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            final var matches = new ArrayList<Match>();
+            final var firstRow = new int[query.length() + 1];
+            for (int i = 0; i < firstRow.length; i++) {
+                firstRow[i] = i;
+            }
+
+            final var maxDistance = maxDistance(query.length());
+            for (final var child : root.children.entrySet()) {
+                walk(child.getValue(), child.getKey(), query, firstRow, maxDistance, matches);
+            }
+
+            // stable, so within a distance the lexicographic walk order is kept
+            matches.sort(Comparator.comparingInt(Match::distance));
+
+            final var suggestions = new LinkedHashMap<CategoryID, CategorySuggestion>();
+            for (final var match : matches) {
+                collect(match.node(), suggestions, aLimit);
+                if (suggestions.size() >= aLimit) {
+                    break;
+                }
+            }
+            return List.copyOf(suggestions.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // short prefixes are too ambiguous to forgive typos
+    static int maxDistance(final int aLength) {
+        if (aLength < 3) {
+            return 0;
+        }
+        return aLength < 6 ? 1 : 2;
+    }
+
+    // one Levenshtein row per trie edge: row[i] is the distance between query[0..i) and the path so far
+    private static void walk(
+            final Node node,
+            final char letter,
+            final String query,
+            final int[] previousRow,
+            final int maxDistance,
+            final List<Match> matches
+    ) {
+        final var row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+
+        var rowMin = row[0];
+        for (int i = 1; i < row.length; i++) {
+            final var insertion = row[i - 1] + 1;
+            final var deletion = previousRow[i] + 1;
+            final var substitution = previousRow[i - 1] + (query.charAt(i - 1) == letter ? 0 : 1);
+            row[i] = Math.min(Math.min(insertion, deletion), substitution);
+            rowMin = Math.min(rowMin, row[i]);
+        }
+
+        final var distance = row[row.length - 1];
+        if (distance <= maxDistance) {
+            matches.add(new Match(node, distance));
+        }
+
+        if (rowMin <= maxDistance) {
+            for (final var child : node.children.entrySet()) {
+                walk(child.getValue(), child.getKey(), query, row, maxDistance, matches);
+            }
+        }
+    }
+
+    private static void collect(
+            final Node from,
+            final Map<CategoryID, CategorySuggestion> suggestions,
+            final int aLimit
+    ) {
+        final var pending = new ArrayDeque<Node>();
+        pending.push(from);
+
+        while (!pending.isEmpty() && suggestions.size() < aLimit) {
+            final var node = pending.pop();
+            if (node.entries != null) {
+                for (final var entry : node.entries.entrySet()) {
+                    suggestions.putIfAbsent(entry.getKey(), new CategorySuggestion(entry.getKey(), entry.getValue()));
+                    if (suggestions.size() >= aLimit) {
+                        return;
+                    }
+                }
+            }
+            node.children.descendingMap().values().forEach(pending::push);
+        }
+    }
+
+    private void removeEntry(final CategoryID anId) {
+        final var name = names.remove(anId);
+        if (name == null) {
+            return;
+        }
+
+        for (final var key : keysOf(name)) {
+            final var path = new ArrayList<Node>(key.length() + 1);
+            var node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                path.add(node);
+            }
+            if (node == null || node.entries == null) {
+                continue;
+            }
+
+            node.entries.remove(anId);
+            for (int i = key.length(); i > 0 && path.get(i).isEmpty(); i--) {
+                path.get(i - 1).children.remove(key.charAt(i - 1));
+            }
+        }
+    }
+
+    // every word starts a key, so "terror" also finds "Filmes de terror"
+    private static Set<String> keysOf(final String aName) {
+        final var words = words(aName);
+        final var keys = new LinkedHashSet<String>();
+        for (int i = 0; i < words.size(); i++) {
+            keys.add(String.join(" ", words.subList(i, words.size())));
+        }
+        return keys;
+    }
+
+    private static List<String> words(final String aValue) {
+        if (aValue == null) {
+            return List.of();
+        }
+        return WORD_SEPARATOR.splitAsStream(NormalizationUtils.fold(aValue))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private record Match(Node node, int distance) {
+    }
+
+    private static final class Node {
+
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private Map<CategoryID, String> entries;
+
+        private Map<CategoryID, String> entries() {
+            if (entries == null) {
+                entries = new HashMap<>(2);
+            }
+            return entries;
+        }
+
+        private boolean isEmpty() {
+            return children.isEmpty() && (entries == null || entries.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.hartwig.catalog.admin.infrastructure.category.suggest;
+
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.category.CategorySuggestion;
+import com.hartwig.catalog.admin.domain.category.CategorySuggestionGateway;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategoryDeletedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategorySavedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+public class CategoryTrieGateway implements CategorySuggestionGateway {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final CategoryRepository repository;
+    private final CategoryNameTrie trie = new CategoryNameTrie();
+
+    public CategoryTrieGateway(final CategoryRepository categoryRepository) {
+        this.repository = categoryRepository;
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String aPrefix, final int aLimit) {
+        return trie.suggest(aPrefix, aLimit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(final CategorySavedEvent event) {
+        final var category = event.category();
+        trie.put(category.getId(), category.getName());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(final CategoryDeletedEvent event) {
+        trie.remove(event.id());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        trie.clear();
+        repository.forEachBatch(REBUILD_BATCH_SIZE, batch -> batch.forEach(entity ->
+                trie.put(CategoryID.from(entity.getId()), entity.getName())
+        ));
+    }
+}
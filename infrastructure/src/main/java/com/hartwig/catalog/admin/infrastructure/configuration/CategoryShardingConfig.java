@@ -0,0 +1,78 @@
+package com.hartwig.catalog.admin.infrastructure.configuration;
+
+import com.hartwig.catalog.admin.infrastructure.category.CategoryCountCache;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategorySearchStrategy;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryShardRepository;
+import com.hartwig.catalog.admin.infrastructure.category.sharding.ShardedCategoryGateway;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+
+// category.sharding.datasources lists one datasource per shard. Flyway is not on the runtime classpath, so the shards
+// are migrated like the main database, by the flyway gradle task pointed at each of them (FLYWAY_DB)
+@Configuration
+@ConditionalOnProperty(name = "category.sharding.enabled", havingValue = "true")
+public class CategoryShardingConfig {
+
+    @Bean
+    @Primary
+    public ShardedCategoryGateway shardedCategoryGateway(
+            final Environment environment,
+            final CategoryCountCache categoryCountCache,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${category.sharding.count}") final int count,
+            @Value("${category.sharding.threads:16}") final int threads,
+            @Value("${category.search.strategy:like}") final String searchStrategy,
+            @Value("${category.bulk.chunk-size:500}") final int bulkChunkSize,
+            @Value("${category.export.fetch-size:-2147483648}") final int exportFetchSize,
+            @Value("${category.sharding.max-offset:10000}") final int maxOffset
+    ) {
+        final var binder = Binder.get(environment);
+        final var definitions = binder.bind("category.sharding.datasources", Bindable.listOf(DataSourceProperties.class))
+                .orElseThrow(() -> new IllegalStateException("category.sharding.datasources must list the shards"));
+
+        // ids are hashed modulo the shard count, so a list that grew or shrank would look existing rows up in the wrong shard
+        if (definitions.size() != count) {
+            throw new IllegalStateException("category.sharding.count is %d but %d datasources are configured"
+                    .formatted(count, definitions.size()));
+        }
+
+        final var strategy = CategorySearchStrategy.from(searchStrategy);
+        final var shards = new ArrayList<CategoryShardRepository>(count);
+        for (int i = 0; i < count; i++) {
+            final var pool = definitions.get(i).initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            binder.bind("category.sharding.hikari", Bindable.ofInstance(pool));
+            pool.setPoolName("shard-" + i);
+            requireSchema(pool, i);
+            shards.add(new CategoryShardRepository(pool, strategy));
+        }
+
+        return new ShardedCategoryGateway(shards, categoryCountCache, eventPublisher, threads, bulkChunkSize, exportFetchSize,
+                maxOffset);
+    }
+
+    // a shard that was never (or only partly) migrated would otherwise only fail on the first request that hashes to it
+    private static void requireSchema(final HikariDataSource aPool, final int anIndex) {
+        try (final var connection = aPool.getConnection();
+             final var statement = connection.createStatement()) {
+            statement.executeQuery("SELECT id, name_normalized, version FROM category WHERE 1 = 0").close();
+        } catch (final SQLException ex) {
+            aPool.close();
+            throw new IllegalStateException("Shard %d (%s) cannot read the category table, run flywayMigrate against it first"
+                    .formatted(anIndex, aPool.getJdbcUrl()), ex);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.hartwig.catalog.admin.infrastructure.configuration;
+
+import com.hartwig.catalog.admin.infrastructure.idempotency.IdempotencyFilter;
+import com.hartwig.catalog.admin.infrastructure.idempotency.IdempotencyStore;
+import com.hartwig.catalog.admin.infrastructure.idempotency.persistence.IdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            final IdempotencyKeyRepository repository,
+            @Value("${idempotency.store:memory}") final String store,
+            @Value("${idempotency.ttl:24h}") final Duration ttl,
+            @Value("${idempotency.lease:1m}") final Duration lease,
+            @Value("${idempotency.max-entries:10000}") final int maxEntries,
+            @Value("${idempotency.max-bytes:64MB}") final DataSize maxBytes,
+            @Value("${idempotency.cleanup-interval:10m}") final Duration cleanupInterval
+    ) {
+        final var durable = "database".equalsIgnoreCase(store) ? repository : null;
+        return new IdempotencyStore(durable, ttl, lease, maxEntries, maxBytes.toBytes(), cleanupInterval);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            final IdempotencyStore store,
+            @Value("${idempotency.in-flight-timeout:10s}") final Duration inFlightTimeout
+    ) {
+        final var registration = new FilterRegistrationBean<>(new IdempotencyFilter(store, inFlightTimeout));
+        registration.addUrlPatterns("/categories", "/categories/*", "/jobs");
+        return registration;
+    }
+}
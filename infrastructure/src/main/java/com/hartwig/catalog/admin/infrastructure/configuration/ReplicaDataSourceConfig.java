@@ -0,0 +1,73 @@
+package com.hartwig.catalog.admin.infrastructure.configuration;
+
+import com.hartwig.catalog.admin.infrastructure.datasource.ConsistencyTokenFilter;
+import com.hartwig.catalog.admin.infrastructure.datasource.ReplicaPosition;
+import com.hartwig.catalog.admin.infrastructure.datasource.RoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// replaces the single auto-configured pool with a primary pool, a replica pool and a routing datasource in front of both
+@Configuration
+@ConditionalOnProperty(name = "replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(
+            final DataSourceProperties properties,
+            @Value("${replica.datasource.url}") final String url,
+            @Value("${replica.datasource.username:${spring.datasource.username}}") final String username,
+            @Value("${replica.datasource.password:${spring.datasource.password}}") final String password
+    ) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    // lazy, so the route is picked on the first statement, after the transaction has been marked read-only
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primary,
+            @Qualifier("replicaDataSource") final DataSource replica
+    ) {
+        return new LazyConnectionDataSourceProxy(new RoutingDataSource(primary, replica));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConsistencyTokenFilter> consistencyTokenFilter(
+            @Qualifier("primaryDataSource") final DataSource primary,
+            @Qualifier("replicaDataSource") final DataSource replica,
+            @Value("${replica.max-lag:2s}") final Duration maxLag
+    ) {
+        final var position = new ReplicaPosition(primary, replica, maxLag);
+        final var registration = new FilterRegistrationBean<>(new ConsistencyTokenFilter(position));
+        registration.addUrlPatterns("/categories", "/categories/*", "/jobs", "/jobs/*");
+        return registration;
+    }
+}
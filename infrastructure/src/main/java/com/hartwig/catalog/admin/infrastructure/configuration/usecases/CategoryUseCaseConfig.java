@@ -1,16 +1,36 @@
 package com.hartwig.catalog.admin.infrastructure.configuration.usecases;
 
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.bulk.DefaultBulkChangeCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.create.CreateCategoryUseCase;
 import com.hartwig.catalog.admin.application.category.create.DefaultCreateCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.create.bulk.BulkCreateCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.create.bulk.DefaultBulkCreateCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.hartwig.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.imports.DefaultImportCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import com.hartwig.catalog.admin.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.hartwig.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import com.hartwig.catalog.admin.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.suggest.DefaultSuggestCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.update.DefaultUpdateCategoryUseCase;
 import com.hartwig.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.update.patch.DefaultPatchCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.update.patch.PatchCategoryUseCase;
 import com.hartwig.catalog.admin.domain.category.CategoryGateway;
+import com.hartwig.catalog.admin.domain.category.CategorySearchGateway;
+import com.hartwig.catalog.admin.domain.category.CategorySuggestionGateway;
+import com.hartwig.catalog.admin.domain.pagination.Pagination;
+import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.infrastructure.datasource.ReadRouting;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,9 +38,17 @@ import org.springframework.context.annotation.Configuration;
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
+    private final ObjectProvider<CategorySearchGateway> categorySearchGateway;
+    private final CategorySuggestionGateway categorySuggestionGateway;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
+    public CategoryUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final ObjectProvider<CategorySearchGateway> categorySearchGateway,
+            final CategorySuggestionGateway categorySuggestionGateway
+    ) {
         this.categoryGateway = categoryGateway;
+        this.categorySearchGateway = categorySearchGateway;
+        this.categorySuggestionGateway = categorySuggestionGateway;
     }
 
     @Bean
@@ -28,23 +56,66 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase() {
+        return new DefaultBulkCreateCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public BulkChangeCategoriesUseCase bulkChangeCategoriesUseCase() {
+        return new DefaultBulkChangeCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public PatchCategoryUseCase patchCategoryUseCase() {
+        return new DefaultPatchCategoryUseCase(categoryGateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
 
+    // the read-only use cases may be served by the replica (when one is configured, see ReplicaDataSourceConfig)
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(categoryGateway);
+        final var useCase = new DefaultGetCategoryByIdUseCase(categoryGateway);
+        return new GetCategoryByIdUseCase() {
+            @Override
+            public CategoryOutput execute(final String anId) {
+                return ReadRouting.onReplica(() -> useCase.execute(anId));
+            }
+        };
     }
 
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+        final var useCase = new DefaultListCategoriesUseCase(categoryGateway, categorySearchGateway.getIfAvailable());
+        return new ListCategoriesUseCase() {
+            @Override
+            public Pagination<CategoryListOutput> execute(final SearchQuery aQuery) {
+                return ReadRouting.onReplica(() -> useCase.execute(aQuery));
+            }
+        };
+    }
+
+    @Bean
+    public SuggestCategoriesUseCase suggestCategoriesUseCase() {
+        return new DefaultSuggestCategoriesUseCase(categorySuggestionGateway);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase() {
+        return new DefaultImportCategoriesUseCase(categoryGateway);
     }
 }
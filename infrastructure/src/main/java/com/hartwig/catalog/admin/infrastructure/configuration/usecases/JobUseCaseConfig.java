@@ -0,0 +1,55 @@
+package com.hartwig.catalog.admin.infrastructure.configuration.usecases;
+
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesCommand;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.create.bulk.BulkCreateCategoriesCommand;
+import com.hartwig.catalog.admin.application.category.create.bulk.BulkCreateCategoriesUseCase;
+import com.hartwig.catalog.admin.application.job.retrieve.get.DefaultGetJobByIdUseCase;
+import com.hartwig.catalog.admin.application.job.retrieve.get.GetJobByIdUseCase;
+import com.hartwig.catalog.admin.application.job.submit.DefaultSubmitJobUseCase;
+import com.hartwig.catalog.admin.application.job.submit.SubmitJobUseCase;
+import com.hartwig.catalog.admin.domain.job.JobGateway;
+import com.hartwig.catalog.admin.infrastructure.category.jobs.BulkChangeCategoriesTask;
+import com.hartwig.catalog.admin.infrastructure.job.JobDefinition;
+import com.hartwig.catalog.admin.infrastructure.job.JobDefinitions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class JobUseCaseConfig {
+
+    private final JobGateway jobGateway;
+
+    public JobUseCaseConfig(final JobGateway jobGateway) {
+        this.jobGateway = jobGateway;
+    }
+
+    @Bean
+    public JobDefinitions jobDefinitions(
+            final BulkChangeCategoriesUseCase bulkChangeCategoriesUseCase,
+            final BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase,
+            @Value("${category.bulk.chunk-size:500}") final int chunkSize
+    ) {
+        return new JobDefinitions(List.of(
+                JobDefinition.resumable(
+                        "category.bulk-change",
+                        BulkChangeCategoriesCommand.class,
+                        new BulkChangeCategoriesTask(bulkChangeCategoriesUseCase, chunkSize)
+                ),
+                JobDefinition.of("category.bulk-create", BulkCreateCategoriesCommand.class, bulkCreateCategoriesUseCase)
+        ));
+    }
+
+    @Bean
+    public SubmitJobUseCase submitJobUseCase(final JobDefinitions jobDefinitions) {
+        return new DefaultSubmitJobUseCase(jobGateway, jobDefinitions.payloadValidators());
+    }
+
+    @Bean
+    public GetJobByIdUseCase getJobByIdUseCase() {
+        return new DefaultGetJobByIdUseCase(jobGateway);
+    }
+}
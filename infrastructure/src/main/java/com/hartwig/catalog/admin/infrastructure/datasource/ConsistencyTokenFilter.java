@@ -0,0 +1,97 @@
+package com.hartwig.catalog.admin.infrastructure.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Set;
+
+// read-your-writes: a write answers with a Consistency-Token (see ReplicaPosition), and a read that sends it back
+// before the replica has applied it is served by the primary
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    public static final String CONSISTENCY_TOKEN = "Consistency-Token";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final ReplicaPosition position;
+
+    public ConsistencyTokenFilter(final ReplicaPosition position) {
+        this.position = position;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            final var stamping = new TokenStampingResponse(response, position);
+            chain.doFilter(request, stamping);
+            stamping.stamp();
+            return;
+        }
+
+        if (position.isCaughtUp(request.getHeader(CONSISTENCY_TOKEN))) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReadRouting.pinToPrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadRouting.unpin();
+        }
+    }
+
+    // the token is taken when the body starts, which is after the use case (and its commit) returned
+    private static class TokenStampingResponse extends HttpServletResponseWrapper {
+
+        private final ReplicaPosition position;
+        private boolean stamped;
+
+        TokenStampingResponse(final HttpServletResponse response, final ReplicaPosition position) {
+            super(response);
+            this.position = position;
+        }
+
+        void stamp() {
+            if (!stamped && !isCommitted() && getStatus() < 400) {
+                setHeader(CONSISTENCY_TOKEN, position.current());
+            }
+            stamped = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            stamp();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            stamp();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            stamp();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendRedirect(final String location) throws IOException {
+            stamp();
+            super.sendRedirect(location);
+        }
+    }
+}
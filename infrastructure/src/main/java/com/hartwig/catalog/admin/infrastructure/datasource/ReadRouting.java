@@ -0,0 +1,36 @@
+package com.hartwig.catalog.admin.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+// per-thread routing hints: reads run through onReplica may use the replica, unless the request is pinned to the primary
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> REPLICA = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadRouting() {}
+
+    public static <T> T onReplica(final Supplier<T> aRead) {
+        if (REPLICA.get() != null) {
+            return aRead.get();
+        }
+        REPLICA.set(Boolean.TRUE);
+        try {
+            return aRead.get();
+        } finally {
+            REPLICA.remove();
+        }
+    }
+
+    public static boolean isReplicaAllowed() {
+        return REPLICA.get() != null && PINNED.get() == null;
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+}
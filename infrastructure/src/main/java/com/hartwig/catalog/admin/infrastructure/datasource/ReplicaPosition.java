@@ -0,0 +1,91 @@
+package com.hartwig.catalog.admin.infrastructure.datasource;
+
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+// where a write left the primary and whether the replica has applied it. On MySQL with GTIDs the token is the primary's
+// gtid_executed and the replica is asked about it directly; elsewhere (H2 in the tests, or GTIDs off) it falls back to
+// the time the write finished, trusted to have reached the replica after replica.max-lag
+public class ReplicaPosition {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaPosition.class);
+
+    static final String GTID_PREFIX = "gtid:";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long maxLagMillis;
+
+    private volatile Boolean mysql;
+
+    public ReplicaPosition(final DataSource primary, final DataSource replica, final Duration maxLag) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    // taken after the write committed; it covers everything the primary has applied so far, so it is never too early
+    public String current() {
+        if (isMySQL()) {
+            try (final var connection = primary.getConnection();
+                 final var statement = connection.createStatement();
+                 final var rows = statement.executeQuery("SELECT @@GLOBAL.gtid_executed")) {
+                rows.next();
+                final var executed = rows.getString(1);
+                if (executed != null && !executed.isBlank()) {
+                    // the set is printed with a newline between servers, which a header cannot carry
+                    return GTID_PREFIX + executed.replaceAll("\\s", "");
+                }
+            } catch (final SQLException ex) {
+                LOG.warn("Could not read the primary's GTID set, answering with a time token", ex);
+            }
+        }
+        return Long.toString(InstantUtils.now().toEpochMilli());
+    }
+
+    // a token that cannot be read is ignored rather than rejected; the worst case is a stale read
+    public boolean isCaughtUp(final String aToken) {
+        if (aToken == null) {
+            return true;
+        }
+        final var token = aToken.trim();
+        if (token.startsWith(GTID_PREFIX)) {
+            return hasExecuted(token.substring(GTID_PREFIX.length()));
+        }
+        try {
+            return InstantUtils.now().toEpochMilli() - Long.parseLong(token) >= maxLagMillis;
+        } catch (final NumberFormatException ex) {
+            return true;
+        }
+    }
+
+    // asked without waiting: a replica that is behind sends the read to the primary instead of holding the request
+    private boolean hasExecuted(final String aGtidSet) {
+        try (final var connection = replica.getConnection();
+             final var statement = connection.prepareStatement("SELECT GTID_SUBSET(?, @@GLOBAL.gtid_executed)")) {
+            statement.setString(1, aGtidSet);
+            try (final var rows = statement.executeQuery()) {
+                return rows.next() && rows.getBoolean(1);
+            }
+        } catch (final SQLException ex) {
+            LOG.warn("Could not compare the replica's GTID set, reading from the primary", ex);
+            return false;
+        }
+    }
+
+    private boolean isMySQL() {
+        if (mysql == null) {
+            try (final var connection = primary.getConnection()) {
+                mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            } catch (final SQLException ex) {
+                return false;
+            }
+        }
+        return mysql;
+    }
+}
@@ -0,0 +1,309 @@
+package com.hartwig.catalog.admin.infrastructure.idempotency;
+
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.infrastructure.api.controllers.GlobalExceptionHandler.ApiError;
+import com.hartwig.catalog.admin.infrastructure.configuration.json.Json;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// replays the stored response for a retried write instead of running the use case again
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH");
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final List<MediaType> STREAMED_TYPES = List.of(MediaType.APPLICATION_NDJSON, new MediaType("text", "csv"));
+
+    private final IdempotencyStore store;
+    private final Map<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long inFlightTimeoutMillis;
+
+    public IdempotencyFilter(final IdempotencyStore store, final Duration inFlightTimeout) {
+        this.store = store;
+        this.inFlightTimeoutMillis = inFlightTimeout.toMillis();
+    }
+
+    // streamed bodies (imports) are never buffered here; an import is an upsert and already safe to send again
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !WRITE_METHODS.contains(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY) == null
+                || isStreamed(request.getContentType());
+    }
+
+    private static boolean isStreamed(final String aContentType) {
+        if (aContentType == null) {
+            return false;
+        }
+        try {
+            final var aMediaType = MediaType.parseMediaType(aContentType);
+            return STREAMED_TYPES.stream().anyMatch(type -> type.isCompatibleWith(aMediaType));
+        } catch (final InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        final var aKey = request.getHeader(IDEMPOTENCY_KEY).trim();
+        if (aKey.isEmpty() || aKey.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "'%s' must have between 1 and %d characters".formatted(IDEMPOTENCY_KEY, MAX_KEY_LENGTH));
+            return;
+        }
+
+        final var body = StreamUtils.copyToByteArray(request.getInputStream());
+        final var aFingerprint = fingerprint(request, body);
+
+        final var mine = new CompletableFuture<IdempotentResponse>();
+        final var running = inFlight.putIfAbsent(aKey, mine);
+        if (running != null) {
+            // a duplicate that arrived while the original is still running waits for its outcome
+            awaitAndReplay(running, aFingerprint, response);
+            return;
+        }
+
+        var reserved = false;
+        try {
+            final var stored = store.find(aKey);
+            if (stored.isPresent() && !stored.get().isPending()) {
+                mine.complete(stored.get());
+                replay(stored.get(), aFingerprint, response);
+                return;
+            }
+
+            if (!store.reserve(aKey, aFingerprint)) {
+                // the key is held by a request running on another instance sharing the table
+                awaitElsewhereAndReplay(aKey, aFingerprint, mine, response);
+                return;
+            }
+            reserved = true;
+
+            final var wrapped = new ContentCachingResponseWrapper(response);
+            chain.doFilter(new CachedBodyRequest(request, body), wrapped);
+
+            mine.complete(remember(aKey, aFingerprint, wrapped));
+            wrapped.copyBodyToResponse();
+        } catch (final IOException | ServletException | RuntimeException ex) {
+            if (reserved) {
+                store.release(aKey);
+            }
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(aKey, mine);
+        }
+    }
+
+    // server errors are handed to the duplicates already waiting but not kept, so a later retry runs again
+    private IdempotentResponse remember(
+            final String aKey,
+            final String aFingerprint,
+            final ContentCachingResponseWrapper response
+    ) {
+        final var aStatus = response.getStatus();
+        final var aContentType = response.getContentType();
+        final var aLocation = response.getHeader(HttpHeaders.LOCATION);
+        final var anETag = response.getHeader(HttpHeaders.ETAG);
+        final var aBody = response.getContentAsByteArray();
+
+        if (aStatus >= 500) {
+            store.release(aKey);
+            return new IdempotentResponse(aFingerprint, aStatus, aContentType, aLocation, anETag, aBody, null);
+        }
+        return store.save(aKey, aFingerprint, aStatus, aContentType, aLocation, anETag, aBody);
+    }
+
+    private void awaitAndReplay(
+            final CompletableFuture<IdempotentResponse> running,
+            final String aFingerprint,
+            final HttpServletResponse response
+    ) throws IOException {
+        try {
+            replay(running.get(inFlightTimeoutMillis, TimeUnit.MILLISECONDS), aFingerprint, response);
+        } catch (final TimeoutException | ExecutionException ex) {
+            reject(response, HttpStatus.CONFLICT,
+                    "A request with this '%s' is still in progress, retry later".formatted(IDEMPOTENCY_KEY));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for the original request");
+        }
+    }
+
+    private void awaitElsewhereAndReplay(
+            final String aKey,
+            final String aFingerprint,
+            final CompletableFuture<IdempotentResponse> mine,
+            final HttpServletResponse response
+    ) throws IOException {
+        try {
+            final var answered = store.await(aKey, aFingerprint, inFlightTimeoutMillis);
+            if (answered.isPresent()) {
+                mine.complete(answered.get());
+                replay(answered.get(), aFingerprint, response);
+                return;
+            }
+            mine.completeExceptionally(new TimeoutException());
+            reject(response, HttpStatus.CONFLICT,
+                    "A request with this '%s' is still in progress, retry later".formatted(IDEMPOTENCY_KEY));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            mine.completeExceptionally(ex);
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for the original request");
+        }
+    }
+
+    private static void replay(
+            final IdempotentResponse stored,
+            final String aFingerprint,
+            final HttpServletResponse response
+    ) throws IOException {
+        if (!stored.fingerprint().equals(aFingerprint)) {
+            reject(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "'%s' was already used for a different request".formatted(IDEMPOTENCY_KEY));
+            return;
+        }
+
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        if (stored.eTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, stored.eTag());
+        }
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private static void reject(final HttpServletResponse response, final HttpStatus aStatus, final String aMessage)
+            throws IOException {
+        response.setStatus(aStatus.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(Json.writeValueAsString(
+                new ApiError(aMessage, List.of(new Error(aMessage)))
+        ));
+    }
+
+    // the same key sent with another method, path, query or body is a client bug, not a retry
+    private static String fingerprint(final HttpServletRequest request, final byte[] body) {
+        try {
+            final var aQuery = request.getQueryString();
+            final var aTarget = aQuery != null ? request.getRequestURI() + "?" + aQuery : request.getRequestURI();
+            final var digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + aTarget + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final var input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener listener) {
+                    // the whole body is already in memory, so it is all available and read at once
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (final IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(final byte[] b, final int off, final int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            final var encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(
+                    new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8
+            ));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
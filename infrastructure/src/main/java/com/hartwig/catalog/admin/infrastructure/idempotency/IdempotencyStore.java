@@ -0,0 +1,229 @@
+package com.hartwig.catalog.admin.infrastructure.idempotency;
+
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.infrastructure.idempotency.persistence.IdempotencyKeyJpaEntity;
+import com.hartwig.catalog.admin.infrastructure.idempotency.persistence.IdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// an access-ordered LRU in front of the optional idempotency_keys table; without the table a restart forgets the keys.
+// The LRU is bounded both by entries and by the bytes of the bodies it holds. With the table a key is reserved by a
+// pending row before its request runs, which is what keeps two instances from both running it
+public class IdempotencyStore implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IdempotencyStore.class);
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final LinkedHashMap<String, IdempotentResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxBytes;
+    private long bytes;
+    private final IdempotencyKeyRepository repository;
+    private final Duration ttl;
+    private final Duration lease;
+    private final ScheduledExecutorService cleaner;
+
+    public IdempotencyStore(
+            final IdempotencyKeyRepository repository,
+            final Duration ttl,
+            final Duration lease,
+            final int maxEntries,
+            final long maxBytes,
+            final Duration cleanupInterval
+    ) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+
+        // expired keys are already skipped on read; this only keeps the map and the table from growing
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "idempotency-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cleaner.scheduleWithFixedDelay(this::purgeQuietly, cleanupInterval.toMillis(), cleanupInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Optional<IdempotentResponse> find(final String aKey) {
+        final var now = InstantUtils.now();
+
+        IdempotentResponse cached;
+        synchronized (entries) {
+            cached = entries.get(aKey);
+            if (cached != null && cached.isExpired(now)) {
+                forget(aKey);
+                cached = null;
+            }
+        }
+        if (cached != null || repository == null) {
+            return Optional.ofNullable(cached);
+        }
+
+        final var stored = repository.findById(aKey)
+                .map(IdempotencyKeyJpaEntity::toResponse)
+                .filter(aResponse -> !aResponse.isExpired(now));
+        stored.filter(aResponse -> !aResponse.isPending()).ifPresent(aResponse -> remember(aKey, aResponse));
+        return stored;
+    }
+
+    // false when another request, here or on another instance, holds the key or already answered it. Without the
+    // table there is nothing to share and the filter's in-flight map is the only guard
+    public boolean reserve(final String aKey, final String aFingerprint) {
+        if (repository == null) {
+            return true;
+        }
+        final var now = InstantUtils.now();
+        try {
+            return repository.insertPending(aKey, aFingerprint, now.plus(lease)) == 1;
+        } catch (final DataIntegrityViolationException ex) {
+            // an expired response, or the reservation of a request whose instance died, is taken over once
+            if (repository.deleteExpired(aKey, now) == 0) {
+                return false;
+            }
+        }
+        try {
+            return repository.insertPending(aKey, aFingerprint, now.plus(lease)) == 1;
+        } catch (final DataIntegrityViolationException ex) {
+            return false;
+        }
+    }
+
+    // polls the table for the outcome of a request reserved elsewhere; empty when it is not done within the timeout
+    // or gave the key back after a server error. A reservation for a different request is returned at once
+    public Optional<IdempotentResponse> await(
+            final String aKey,
+            final String aFingerprint,
+            final long timeoutMillis
+    ) throws InterruptedException {
+        final var deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            final var stored = find(aKey);
+            if (stored.isEmpty() || !stored.get().isPending() || !stored.get().fingerprint().equals(aFingerprint)) {
+                return stored;
+            }
+            final var remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return Optional.empty();
+            }
+            Thread.sleep(Math.min(POLL_INTERVAL_MILLIS, remaining));
+        }
+    }
+
+    public IdempotentResponse save(
+            final String aKey,
+            final String aFingerprint,
+            final int aStatus,
+            final String aContentType,
+            final String aLocation,
+            final String anETag,
+            final byte[] aBody
+    ) {
+        final var aResponse = new IdempotentResponse(
+                aFingerprint,
+                aStatus,
+                aContentType,
+                aLocation,
+                anETag,
+                aBody,
+                InstantUtils.now().plus(ttl)
+        );
+
+        remember(aKey, aResponse);
+        if (repository != null) {
+            try {
+                final var completed = repository.complete(
+                        aKey, aStatus, aContentType, aLocation, anETag, aBody, aResponse.expiresAt()
+                );
+                if (completed == 0) {
+                    // the lease ran out while the request was running and the key was taken over
+                    LOG.warn("Idempotency key {} was no longer reserved when its response was stored", aKey);
+                }
+            } catch (final RuntimeException ex) {
+                // the write itself already happened; losing the durable copy only narrows the replay window
+                LOG.warn("Could not store idempotency key {}", aKey, ex);
+            }
+        }
+        return aResponse;
+    }
+
+    // a request that failed on the server gives its key back, so a retry runs it again instead of waiting on it
+    public void release(final String aKey) {
+        if (repository != null) {
+            try {
+                repository.deletePending(aKey);
+            } catch (final RuntimeException ex) {
+                // the reservation still runs out with its lease
+                LOG.warn("Could not release idempotency key {}", aKey, ex);
+            }
+        }
+    }
+
+    public int purgeExpired() {
+        final var now = InstantUtils.now();
+        synchronized (entries) {
+            final var expired = entries.entrySet().iterator();
+            while (expired.hasNext()) {
+                final var entry = expired.next().getValue();
+                if (entry.isExpired(now)) {
+                    bytes -= sizeOf(entry);
+                    expired.remove();
+                }
+            }
+        }
+        return repository != null ? repository.deleteExpired(now) : 0;
+    }
+
+    @Override
+    public void destroy() {
+        cleaner.shutdownNow();
+    }
+
+    private void purgeQuietly() {
+        try {
+            purgeExpired();
+        } catch (final RuntimeException ex) {
+            LOG.warn("Could not purge expired idempotency keys", ex);
+        }
+    }
+
+    // a body larger than the whole budget is not kept in memory; with the table it is still replayed from there
+    private void remember(final String aKey, final IdempotentResponse aResponse) {
+        final var size = sizeOf(aResponse);
+        synchronized (entries) {
+            forget(aKey);
+            if (size > maxBytes) {
+                return;
+            }
+            entries.put(aKey, aResponse);
+            bytes += size;
+
+            final var eldest = entries.values().iterator();
+            while (entries.size() > maxEntries || bytes > maxBytes) {
+                bytes -= sizeOf(eldest.next());
+                eldest.remove();
+            }
+        }
+    }
+
+    private void forget(final String aKey) {
+        final var removed = entries.remove(aKey);
+        if (removed != null) {
+            bytes -= sizeOf(removed);
+        }
+    }
+
+    private static long sizeOf(final IdempotentResponse aResponse) {
+        return aResponse.body() != null ? aResponse.body().length : 0;
+    }
+}
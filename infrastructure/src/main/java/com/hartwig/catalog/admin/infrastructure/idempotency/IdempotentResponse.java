@@ -0,0 +1,30 @@
+package com.hartwig.catalog.admin.infrastructure.idempotency;
+
+import java.time.Instant;
+
+// what a retry with the same key gets back, along with the request it was produced for. A pending response only
+// reserves the key for the request still running, possibly on another instance
+public record IdempotentResponse(
+        String fingerprint,
+        int status,
+        String contentType,
+        String location,
+        String eTag,
+        byte[] body,
+        Instant expiresAt
+) {
+
+    public static final int PENDING = 0;
+
+    public static IdempotentResponse pending(final String aFingerprint, final Instant anExpiresAt) {
+        return new IdempotentResponse(aFingerprint, PENDING, null, null, null, null, anExpiresAt);
+    }
+
+    public boolean isPending() {
+        return status == PENDING;
+    }
+
+    public boolean isExpired(final Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,69 @@
+package com.hartwig.catalog.admin.infrastructure.idempotency.persistence;
+
+import com.hartwig.catalog.admin.infrastructure.idempotency.IdempotentResponse;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyKeyJpaEntity {
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false)
+    private String key;
+
+    @Column(name = "fingerprint", nullable = false, columnDefinition = "CHAR(64)")
+    private String fingerprint;
+
+    @Column(name = "status", nullable = false)
+    private int status;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "location", length = 2048)
+    private String location;
+
+    @Column(name = "etag")
+    private String eTag;
+
+    @Lob
+    @Column(name = "body", columnDefinition = "LONGBLOB")
+    private byte[] body;
+
+    @Column(name = "expires_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant expiresAt;
+
+    public IdempotencyKeyJpaEntity() {
+    }
+
+    public static IdempotencyKeyJpaEntity from(final String aKey, final IdempotentResponse aResponse) {
+        final var entity = new IdempotencyKeyJpaEntity();
+        entity.key = aKey;
+        entity.fingerprint = aResponse.fingerprint();
+        entity.status = aResponse.status();
+        entity.contentType = aResponse.contentType();
+        entity.location = aResponse.location();
+        entity.eTag = aResponse.eTag();
+        entity.body = aResponse.body();
+        entity.expiresAt = aResponse.expiresAt();
+        return entity;
+    }
+
+    public IdempotentResponse toResponse() {
+        return new IdempotentResponse(fingerprint, status, contentType, location, eTag, body, expiresAt);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
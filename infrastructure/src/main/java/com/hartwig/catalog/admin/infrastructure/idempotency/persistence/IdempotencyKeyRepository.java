@@ -0,0 +1,60 @@
+package com.hartwig.catalog.admin.infrastructure.idempotency.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyJpaEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k WHERE k.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+
+    // a plain INSERT rather than save's merge: the primary key is what makes only one request own the key
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO idempotency_keys (idempotency_key, fingerprint, status, expires_at)
+            VALUES (:key, :fingerprint, 0, :expiresAt)
+            """, nativeQuery = true)
+    int insertPending(
+            @Param("key") String key,
+            @Param("fingerprint") String fingerprint,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    // only the pending row this request reserved; a stored response is never overwritten
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyKeyJpaEntity k
+            SET k.status = :status, k.contentType = :contentType, k.location = :location, k.eTag = :eTag,
+                k.body = :body, k.expiresAt = :expiresAt
+            WHERE k.key = :key AND k.status = 0
+            """)
+    int complete(
+            @Param("key") String key,
+            @Param("status") int status,
+            @Param("contentType") String contentType,
+            @Param("location") String location,
+            @Param("eTag") String eTag,
+            @Param("body") byte[] body,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k WHERE k.key = :key AND k.status = 0")
+    int deletePending(@Param("key") String key);
+
+    // a reservation whose lease ran out belongs to a request that died with its instance
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k WHERE k.key = :key AND k.expiresAt <= :now")
+    int deleteExpired(@Param("key") String key, @Param("now") Instant now);
+}
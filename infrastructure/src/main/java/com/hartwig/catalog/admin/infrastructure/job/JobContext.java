@@ -0,0 +1,10 @@
+package com.hartwig.catalog.admin.infrastructure.job;
+
+// what a running task sees of its job: where a previous attempt stopped, and a way to record how far it got
+public interface JobContext {
+
+    // null on the first attempt
+    String checkpoint();
+
+    void checkpoint(String aCheckpoint, long processed, Long total);
+}
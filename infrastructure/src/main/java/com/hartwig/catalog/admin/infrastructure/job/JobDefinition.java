@@ -0,0 +1,67 @@
+package com.hartwig.catalog.admin.infrastructure.job;
+
+import com.hartwig.catalog.admin.application.UnitUseCase;
+import com.hartwig.catalog.admin.application.UseCase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.domain.validation.ValidationHandler;
+import com.hartwig.catalog.admin.infrastructure.configuration.json.Json;
+import io.vavr.control.Either;
+
+// binds a job type to the payload it expects and the task that runs it
+public record JobDefinition<IN>(
+        String type,
+        Class<IN> payloadType,
+        boolean resumable,
+        JobTask<IN> task
+) {
+
+    // a plain use case runs in one go; if its runner dies the job fails instead of running it twice
+    public static <IN> JobDefinition<IN> of(final String aType, final Class<IN> aPayloadType, final UseCase<IN, ?> aUseCase) {
+        return new JobDefinition<>(aType, aPayloadType, false, (aPayload, aContext) -> unwrap(aUseCase.execute(aPayload)));
+    }
+
+    public static <IN> JobDefinition<IN> of(final String aType, final Class<IN> aPayloadType, final UnitUseCase<IN> aUseCase) {
+        return new JobDefinition<>(aType, aPayloadType, false, (aPayload, aContext) -> {
+            aUseCase.execute(aPayload);
+            return null;
+        });
+    }
+
+    // the task checkpoints its progress and can be picked up again after a restart
+    public static <IN> JobDefinition<IN> resumable(final String aType, final Class<IN> aPayloadType, final JobTask<IN> aTask) {
+        return new JobDefinition<>(aType, aPayloadType, true, aTask);
+    }
+
+    public Object run(final String aPayload, final JobContext aContext) {
+        return task.run(Json.readValue(aPayload, payloadType), aContext);
+    }
+
+    // the same read run does, done when the job is submitted
+    public void validate(final String aPayload, final ValidationHandler aHandler) {
+        try {
+            if (Json.readValue(aPayload, payloadType) == null) {
+                aHandler.append(new Error("'payload' should not be null"));
+            }
+        } catch (final RuntimeException ex) {
+            final var reason = ex.getCause() instanceof JsonProcessingException json
+                    ? json.getOriginalMessage()
+                    : ex.getMessage();
+            aHandler.append(new Error("'payload' is not a valid %s payload: %s".formatted(type, reason)));
+        }
+    }
+
+    // use cases that report validation errors as Left would otherwise "succeed" with the errors as result
+    private static Object unwrap(final Object anOutput) {
+        if (anOutput instanceof Either<?, ?> either) {
+            if (either.isLeft()) {
+                throw either.getLeft() instanceof ValidationHandler handler
+                        ? DomainException.with(handler.getErrors())
+                        : new IllegalStateException(String.valueOf(either.getLeft()));
+            }
+            return either.get();
+        }
+        return anOutput;
+    }
+}
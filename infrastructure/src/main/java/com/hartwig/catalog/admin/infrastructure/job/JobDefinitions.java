@@ -0,0 +1,32 @@
+package com.hartwig.catalog.admin.infrastructure.job;
+
+import com.hartwig.catalog.admin.domain.validation.ValidationHandler;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+public class JobDefinitions {
+
+    private final Map<String, JobDefinition<?>> definitions = new LinkedHashMap<>();
+
+    public JobDefinitions(final List<JobDefinition<?>> aDefinitions) {
+        aDefinitions.forEach(definition -> {
+            if (definitions.putIfAbsent(definition.type(), definition) != null) {
+                throw new IllegalStateException("Job type %s is registered twice".formatted(definition.type()));
+            }
+        });
+    }
+
+    public Optional<JobDefinition<?>> find(final String aType) {
+        return Optional.ofNullable(definitions.get(aType));
+    }
+
+    public Map<String, BiConsumer<String, ValidationHandler>> payloadValidators() {
+        final var validators = new LinkedHashMap<String, BiConsumer<String, ValidationHandler>>();
+        definitions.forEach((aType, definition) -> validators.put(aType, definition::validate));
+        return validators;
+    }
+}
@@ -0,0 +1,252 @@
+package com.hartwig.catalog.admin.infrastructure.job;
+
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.job.Job;
+import com.hartwig.catalog.admin.domain.job.JobGateway;
+import com.hartwig.catalog.admin.domain.job.JobID;
+import com.hartwig.catalog.admin.domain.job.JobStatus;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.infrastructure.configuration.json.Json;
+import com.hartwig.catalog.admin.infrastructure.job.events.JobSubmittedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// runs submitted jobs off the request thread; the jobs table, not this pool, is the source of truth
+@Component
+public class JobExecutor implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobExecutor.class);
+
+    private final JobGateway jobGateway;
+    private final JobDefinitions definitions;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService sweeper;
+    private final Set<JobID> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<JobID, Claim> claims = new ConcurrentHashMap<>();
+    private final Duration pollInterval;
+    private final Duration staleAfter;
+    private final int capacity;
+
+    public JobExecutor(
+            final JobGateway jobGateway,
+            final JobDefinitions jobDefinitions,
+            @Value("${job.executor.threads:2}") final int threads,
+            @Value("${job.executor.queue-capacity:100}") final int queueCapacity,
+            @Value("${job.poll-interval:5s}") final Duration pollInterval,
+            @Value("${job.stale-after:1m}") final Duration staleAfter
+    ) {
+        this.jobGateway = jobGateway;
+        this.definitions = jobDefinitions;
+        this.pollInterval = pollInterval;
+        this.staleAfter = staleAfter;
+        this.capacity = threads + queueCapacity;
+
+        final var counter = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    final var thread = new Thread(runnable, "job-worker-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "job-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // fires after the submitting transaction commits, so the worker always finds the row
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubmitted(final JobSubmittedEvent event) {
+        dispatch(event.id());
+    }
+
+    // picks up what was queued while no instance was running and what a dead instance left half done
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        sweeper.scheduleWithFixedDelay(this::sweep, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+        // interrupted jobs stay RUNNING and are picked up again once they go stale
+        workers.shutdownNow();
+    }
+
+    void sweep() {
+        try {
+            // a long chunk between two checkpoints must not make the job look abandoned; a refused heartbeat means
+            // another runner took the job over, and the task stops at its next checkpoint
+            claims.values().forEach(aClaim -> {
+                if (!jobGateway.heartbeat(aClaim.id(), aClaim.token())) {
+                    aClaim.lose();
+                }
+            });
+
+            final var free = capacity - inFlight.size();
+            if (free > 0) {
+                jobGateway.findRunnable(staleBefore(), free).forEach(this::dispatch);
+            }
+        } catch (final RuntimeException ex) {
+            LOG.warn("Could not sweep the jobs table", ex);
+        }
+    }
+
+    private void dispatch(final JobID anId) {
+        if (!inFlight.add(anId)) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    run(anId);
+                } finally {
+                    inFlight.remove(anId);
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            // the job stays QUEUED in the table and the next sweep tries again
+            inFlight.remove(anId);
+        }
+    }
+
+    void run(final JobID anId) {
+        final var found = jobGateway.findById(anId);
+        if (found.isEmpty() || found.get().getStatus().isFinished()) {
+            return;
+        }
+
+        final var aJob = found.get();
+        final var aToken = jobGateway.claim(anId, staleBefore()).orElse(null);
+        if (aToken == null) {
+            // another instance got to it first
+            return;
+        }
+
+        final var aClaim = new Claim(anId, aToken);
+        claims.put(anId, aClaim);
+        try {
+            run(aJob, aClaim);
+        } finally {
+            claims.remove(anId, aClaim);
+        }
+    }
+
+    private void run(final Job aJob, final Claim aClaim) {
+        final var anId = aJob.getId();
+        final var definition = definitions.find(aJob.getType()).orElse(null);
+        if (definition == null) {
+            jobGateway.fail(anId, aClaim.token(), "Unknown job type %s".formatted(aJob.getType()));
+            return;
+        }
+        if (aJob.getStatus() == JobStatus.RUNNING && !definition.resumable()) {
+            jobGateway.fail(anId, aClaim.token(), "Interrupted before finishing and cannot be resumed");
+            return;
+        }
+
+        try {
+            final var result = definition.run(aJob.getPayload(), context(aJob, aClaim));
+            if (!jobGateway.succeed(anId, aClaim.token(), result != null ? Json.writeValueAsString(result) : null)) {
+                LOG.warn("Job {} finished after another runner took it over; its result was discarded", anId.getValue());
+            }
+        } catch (final ClaimLostException ex) {
+            LOG.warn("Job {} was taken over by another runner, stopping", anId.getValue());
+        } catch (final RuntimeException ex) {
+            LOG.warn("Job {} of type {} failed", anId.getValue(), aJob.getType(), ex);
+            jobGateway.fail(anId, aClaim.token(), messageOf(ex));
+        }
+    }
+
+    private JobContext context(final Job aJob, final Claim aClaim) {
+        return new JobContext() {
+            @Override
+            public String checkpoint() {
+                return aJob.getCheckpoint();
+            }
+
+            @Override
+            public void checkpoint(final String aCheckpoint, final long processed, final Long total) {
+                if (aClaim.isLost() || !jobGateway.checkpoint(aJob.getId(), aClaim.token(), aCheckpoint, processed, total)) {
+                    aClaim.lose();
+                    throw new ClaimLostException();
+                }
+            }
+        };
+    }
+
+    private Instant staleBefore() {
+        return InstantUtils.now().minus(staleAfter);
+    }
+
+    private static String messageOf(final RuntimeException ex) {
+        if (ex instanceof DomainException domain && domain.getErrors() != null && !domain.getErrors().isEmpty()) {
+            return domain.getErrors().stream().map(Error::message).collect(Collectors.joining("; "));
+        }
+        return ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+    }
+
+    // what this instance holds of a running job; lost once any fenced write comes back with no row updated
+    private static final class Claim {
+
+        private final JobID id;
+        private final String token;
+        private volatile boolean lost;
+
+        private Claim(final JobID id, final String token) {
+            this.id = id;
+            this.token = token;
+        }
+
+        JobID id() {
+            return id;
+        }
+
+        String token() {
+            return token;
+        }
+
+        boolean isLost() {
+            return lost;
+        }
+
+        void lose() {
+            lost = true;
+        }
+    }
+
+    // unwinds the task from inside a checkpoint; the job now belongs to another runner, so nothing is recorded
+    private static final class ClaimLostException extends RuntimeException {
+
+        private ClaimLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hartwig.catalog.admin.infrastructure.job;
+
+import com.hartwig.catalog.admin.domain.job.Job;
+import com.hartwig.catalog.admin.domain.job.JobGateway;
+import com.hartwig.catalog.admin.domain.job.JobID;
+import com.hartwig.catalog.admin.domain.job.JobStatus;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.infrastructure.job.events.JobSubmittedEvent;
+import com.hartwig.catalog.admin.infrastructure.job.persistence.JobJpaEntity;
+import com.hartwig.catalog.admin.infrastructure.job.persistence.JobRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class JobMySQLGateway implements JobGateway {
+
+    private static final int MAX_ERROR_LENGTH = 4000;
+
+    private final JobRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public JobMySQLGateway(final JobRepository jobRepository, final ApplicationEventPublisher eventPublisher) {
+        this.repository = jobRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Job create(final Job aJob) {
+        repository.saveAndFlush(JobJpaEntity.from(aJob));
+        eventPublisher.publishEvent(new JobSubmittedEvent(aJob.getId()));
+        return aJob;
+    }
+
+    @Override
+    public Optional<Job> findById(final JobID anId) {
+        return repository.findById(anId.getValue())
+                .map(JobJpaEntity::toAggregate);
+    }
+
+    @Override
+    public List<JobID> findRunnable(final Instant staleBefore, final int limit) {
+        return repository.findRunnableIds(JobStatus.QUEUED, JobStatus.RUNNING, staleBefore, PageRequest.of(0, limit))
+                .stream()
+                .map(JobID::from)
+                .toList();
+    }
+
+    @Override
+    public Optional<String> claim(final JobID anId, final Instant staleBefore) {
+        final var aClaim = UUID.randomUUID().toString();
+        final var claimed = repository.claim(
+                anId.getValue(),
+                aClaim,
+                JobStatus.QUEUED,
+                JobStatus.RUNNING,
+                staleBefore,
+                InstantUtils.now()
+        );
+        return claimed > 0 ? Optional.of(aClaim) : Optional.empty();
+    }
+
+    @Override
+    public boolean checkpoint(final JobID anId, final String aClaim, final String aCheckpoint, final long processed, final Long total) {
+        return repository.checkpoint(anId.getValue(), aClaim, JobStatus.RUNNING, aCheckpoint, processed, total, InstantUtils.now()) > 0;
+    }
+
+    @Override
+    public boolean heartbeat(final JobID anId, final String aClaim) {
+        return repository.heartbeat(anId.getValue(), aClaim, JobStatus.RUNNING, InstantUtils.now()) > 0;
+    }
+
+    @Override
+    public boolean succeed(final JobID anId, final String aClaim, final String aResult) {
+        return repository.finish(anId.getValue(), aClaim, JobStatus.RUNNING, JobStatus.SUCCEEDED, aResult, null, InstantUtils.now()) > 0;
+    }
+
+    @Override
+    public boolean fail(final JobID anId, final String aClaim, final String anError) {
+        final var error = anError != null && anError.length() > MAX_ERROR_LENGTH
+                ? anError.substring(0, MAX_ERROR_LENGTH)
+                : anError;
+        return repository.finish(anId.getValue(), aClaim, JobStatus.RUNNING, JobStatus.FAILED, null, error, InstantUtils.now()) > 0;
+    }
+}
@@ -0,0 +1,8 @@
+package com.hartwig.catalog.admin.infrastructure.job;
+
+@FunctionalInterface
+public interface JobTask<IN> {
+
+    // the returned value is stored as the job result, serialized as JSON
+    Object run(IN aPayload, JobContext aContext);
+}
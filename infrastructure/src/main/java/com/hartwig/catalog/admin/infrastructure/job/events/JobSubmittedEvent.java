@@ -0,0 +1,6 @@
+package com.hartwig.catalog.admin.infrastructure.job.events;
+
+import com.hartwig.catalog.admin.domain.job.JobID;
+
+public record JobSubmittedEvent(JobID id) {
+}
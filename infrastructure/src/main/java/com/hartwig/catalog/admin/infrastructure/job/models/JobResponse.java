@@ -0,0 +1,21 @@
+package com.hartwig.catalog.admin.infrastructure.job.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.hartwig.catalog.admin.domain.job.JobStatus;
+
+import java.time.Instant;
+
+public record JobResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("type") String type,
+        @JsonProperty("status") JobStatus status,
+        @JsonProperty("processed") long processed,
+        @JsonProperty("total") Long total,
+        @JsonProperty("result") @JsonRawValue String result,
+        @JsonProperty("error") String error,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt,
+        @JsonProperty("finished_at") Instant finishedAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.hartwig.catalog.admin.infrastructure.job.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+// the payload is kept as raw JSON and only bound to a type by the job that runs it
+public record SubmitJobRequest(
+        @JsonProperty("type") String type,
+        @JsonProperty("payload") JsonNode payload
+) {
+}
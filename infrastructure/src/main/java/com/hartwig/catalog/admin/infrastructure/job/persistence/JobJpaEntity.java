@@ -0,0 +1,108 @@
+package com.hartwig.catalog.admin.infrastructure.job.persistence;
+
+import com.hartwig.catalog.admin.domain.job.Job;
+import com.hartwig.catalog.admin.domain.job.JobID;
+import com.hartwig.catalog.admin.domain.job.JobStatus;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "jobs")
+public class JobJpaEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, length = 36)
+    private String id;
+
+    @Column(name = "job_type", nullable = false, length = 100)
+    private String type;
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private JobStatus status;
+
+    // the token of the runner that last claimed the job; writes from any other runner are ignored
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "total")
+    private Long total;
+
+    @Column(name = "checkpoint_data", length = 4000)
+    private String checkpoint;
+
+    @Lob
+    @Column(name = "result", columnDefinition = "LONGTEXT")
+    private String result;
+
+    @Column(name = "error", length = 4000)
+    private String error;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @Column(name = "finished_at", columnDefinition = "DATETIME(6)")
+    private Instant finishedAt;
+
+    public JobJpaEntity() {
+    }
+
+    public static JobJpaEntity from(final Job aJob) {
+        final var entity = new JobJpaEntity();
+        entity.id = aJob.getId().getValue();
+        entity.type = aJob.getType();
+        entity.payload = aJob.getPayload();
+        entity.status = aJob.getStatus();
+        entity.processed = aJob.getProcessed();
+        entity.total = aJob.getTotal();
+        entity.checkpoint = aJob.getCheckpoint();
+        entity.result = aJob.getResult();
+        entity.error = aJob.getError();
+        entity.createdAt = aJob.getCreatedAt();
+        entity.updatedAt = aJob.getUpdatedAt();
+        entity.finishedAt = aJob.getFinishedAt();
+        return entity;
+    }
+
+    public Job toAggregate() {
+        return Job.with(
+                JobID.from(id),
+                type,
+                payload,
+                status,
+                processed,
+                total,
+                checkpoint,
+                result,
+                error,
+                createdAt,
+                updatedAt,
+                finishedAt
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,89 @@
+package com.hartwig.catalog.admin.infrastructure.job.persistence;
+
+import com.hartwig.catalog.admin.domain.job.JobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+// every state change is a conditional UPDATE: claim hands out a fresh claimedBy token and every later write is
+// fenced on it, so two runners never both believe they own a job
+public interface JobRepository extends JpaRepository<JobJpaEntity, String> {
+
+    @Query("""
+            SELECT j.id FROM JobJpaEntity j
+            WHERE j.status = :queued OR (j.status = :running AND j.updatedAt < :staleBefore)
+            ORDER BY j.createdAt
+            """)
+    List<String> findRunnableIds(
+            @Param("queued") JobStatus queued,
+            @Param("running") JobStatus running,
+            @Param("staleBefore") Instant staleBefore,
+            Pageable page
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE JobJpaEntity j
+            SET j.status = :running, j.claimedBy = :token, j.updatedAt = :now
+            WHERE j.id = :id AND (j.status = :queued OR (j.status = :running AND j.updatedAt < :staleBefore))
+            """)
+    int claim(
+            @Param("id") String id,
+            @Param("token") String token,
+            @Param("queued") JobStatus queued,
+            @Param("running") JobStatus running,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("now") Instant now
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE JobJpaEntity j
+            SET j.checkpoint = :checkpoint, j.processed = :processed, j.total = :total, j.updatedAt = :now
+            WHERE j.id = :id AND j.status = :running AND j.claimedBy = :token
+            """)
+    int checkpoint(
+            @Param("id") String id,
+            @Param("token") String token,
+            @Param("running") JobStatus running,
+            @Param("checkpoint") String checkpoint,
+            @Param("processed") long processed,
+            @Param("total") Long total,
+            @Param("now") Instant now
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobJpaEntity j SET j.updatedAt = :now WHERE j.id = :id AND j.status = :running AND j.claimedBy = :token")
+    int heartbeat(
+            @Param("id") String id,
+            @Param("token") String token,
+            @Param("running") JobStatus running,
+            @Param("now") Instant now
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE JobJpaEntity j
+            SET j.status = :status, j.result = :result, j.error = :error, j.updatedAt = :now, j.finishedAt = :now
+            WHERE j.id = :id AND j.status = :running AND j.claimedBy = :token
+            """)
+    int finish(
+            @Param("id") String id,
+            @Param("token") String token,
+            @Param("running") JobStatus running,
+            @Param("status") JobStatus status,
+            @Param("result") String result,
+            @Param("error") String error,
+            @Param("now") Instant now
+    );
+}
@@ -0,0 +1,22 @@
+package com.hartwig.catalog.admin.infrastructure.job.presenters;
+
+import com.hartwig.catalog.admin.application.job.retrieve.get.JobOutput;
+import com.hartwig.catalog.admin.infrastructure.job.models.JobResponse;
+
+public interface JobApiPresenter {
+
+    static JobResponse present(final JobOutput output) {
+        return new JobResponse(
+                output.id(),
+                output.type(),
+                output.status(),
+                output.processed(),
+                output.total(),
+                output.result(),
+                output.error(),
+                output.createdAt(),
+                output.updatedAt(),
+                output.finishedAt()
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.hartwig.catalog.admin.infrastructure.utils;
+
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+public final class CursorUtils {
+
+    private static final String SEPARATOR = "\u0000";
+
+    private CursorUtils() {}
+
+    public static String encode(final String... values) {
+        final var raw = String.join(SEPARATOR, values);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static List<String> decode(final String cursor, final int expectedParts) {
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final var values = List.of(raw.split(SEPARATOR, -1));
+            if (values.size() != expectedParts) {
+                throw invalid();
+            }
+            return values;
+        } catch (final IllegalArgumentException ex) {
+            throw invalid();
+        }
+    }
+
+    // the next cursor points at the last row of the page, so a cursor page needs at least one
+    public static int requirePerPage(final int perPage) {
+        if (perPage < 1) {
+            throw DomainException.with(new Error("'perPage' must be greater than 0 when paginating with a cursor"));
+        }
+        return perPage;
+    }
+
+    public static DomainException invalid() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+}
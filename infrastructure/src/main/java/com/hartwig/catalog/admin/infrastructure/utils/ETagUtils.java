@@ -0,0 +1,33 @@
+package com.hartwig.catalog.admin.infrastructure.utils;
+
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.validation.Error;
+
+public final class ETagUtils {
+
+    private ETagUtils() {}
+
+    public static String of(final long version) {
+        return "\"" + version + "\"";
+    }
+
+    // accepts "3", W/"3" and a bare 3, since versions are the only tags we hand out
+    public static long parseVersion(final String anETag) {
+        var value = anETag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException ex) {
+            throw invalid();
+        }
+    }
+
+    public static DomainException invalid() {
+        return DomainException.with(new Error("'If-Match' must be a category version"));
+    }
+}
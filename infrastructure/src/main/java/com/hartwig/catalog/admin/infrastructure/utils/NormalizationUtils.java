@@ -0,0 +1,23 @@
+package com.hartwig.catalog.admin.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class NormalizationUtils {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private NormalizationUtils() {}
+
+    // "Documentários" -> "documentarios"
+    public static String fold(final String aValue) {
+        final var decomposed = Normalizer.normalize(aValue, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    // what category.name_normalized holds: "Documentários" -> "DOCUMENTARIOS"
+    public static String searchKey(final String aValue) {
+        return fold(aValue).toUpperCase(Locale.ROOT);
+    }
+}
@@ -2,15 +2,65 @@ package com.hartwig.catalog.admin.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Expression;
+
 public final class SpecificationUtils {
 
+    public static final char LIKE_ESCAPE = '!';
+
     private SpecificationUtils() {}
 
     public static <T> Specification<T> like(final String prop, final String term) {
-        return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
+        return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()), LIKE_ESCAPE);
+    }
+
+    // the column is compared as is, so it has to be stored in the same shape as the value
+    public static <T> Specification<T> contains(final String prop, final String value) {
+        return (root, query, cb) -> cb.like(root.get(prop), like(value), LIKE_ESCAPE);
+    }
+
+    public static <T> Specification<T> startsWith(final String prop, final String value) {
+        return (root, query, cb) -> cb.like(root.get(prop), escapeLike(value) + "%", LIKE_ESCAPE);
+    }
+
+    public static <T, Y extends Comparable<? super Y>> Specification<T> greaterThan(final String prop, final Y value) {
+        return (root, query, cb) -> cb.greaterThan(root.<Y>get(prop), value);
+    }
+
+    // (prop, idProp) > (value, id), or < when descending, spelled out so JPA criteria can express it
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <T> Specification<T> after(
+            final String prop,
+            final Comparable value,
+            final String idProp,
+            final Comparable id,
+            final boolean ascending
+    ) {
+        return (root, query, cb) -> {
+            final Expression<Comparable> column = root.get(prop);
+            final Expression<Comparable> idColumn = root.get(idProp);
+
+            if (ascending) {
+                return cb.or(
+                        cb.greaterThan(column, value),
+                        cb.and(cb.equal(column, value), cb.greaterThan(idColumn, id))
+                );
+            }
+
+            return cb.or(
+                    cb.lessThan(column, value),
+                    cb.and(cb.equal(column, value), cb.lessThan(idColumn, id))
+            );
+        };
+    }
+
+    public static String escapeLike(final String value) {
+        return value.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
     }
 
     private static String like(final String term) {
-        return "%" + term + "%";
+        return "%" + escapeLike(term) + "%";
     }
 }
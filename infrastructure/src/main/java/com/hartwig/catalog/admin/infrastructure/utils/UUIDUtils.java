@@ -0,0 +1,35 @@
+package com.hartwig.catalog.admin.infrastructure.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+public final class UUIDUtils {
+
+    // UUID.fromString also takes shortened groups such as "1-1-1-1-1", which are not ids we ever issue
+    private static final Pattern CANONICAL =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private UUIDUtils() {}
+
+    public static Optional<UUID> parse(final String aValue) {
+        if (aValue == null || !CANONICAL.matcher(aValue).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(UUID.fromString(aValue));
+    }
+
+    // native queries see the BINARY(16) id column as raw bytes
+    public static byte[] toBytes(final UUID aValue) {
+        return ByteBuffer.allocate(16)
+                .putLong(aValue.getMostSignificantBits())
+                .putLong(aValue.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(final byte[] aValue) {
+        final var buffer = ByteBuffer.wrap(aValue);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,61 @@
+package db.migration;
+
+import com.hartwig.catalog.admin.infrastructure.utils.NormalizationUtils;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// V4 folded only a fixed list of accents in SQL; this recomputes every key with the same searchKey the application writes
+public class V9__category_name_normalized_backfill extends BaseJavaMigration {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Override
+    public void migrate(final Context context) throws SQLException {
+        final var connection = context.getConnection();
+
+        byte[] lastId = null;
+        while (true) {
+            final var page = backfill(connection, lastId);
+            if (page == null) {
+                return;
+            }
+            lastId = page;
+        }
+    }
+
+    // returns the last id of the page, or null once the table is exhausted
+    private static byte[] backfill(final Connection connection, final byte[] afterId) throws SQLException {
+        final var sql = afterId == null
+                ? "SELECT id, name, name_normalized FROM category ORDER BY id LIMIT " + PAGE_SIZE
+                : "SELECT id, name, name_normalized FROM category WHERE id > ? ORDER BY id LIMIT " + PAGE_SIZE;
+
+        byte[] lastId = null;
+        try (final var select = connection.prepareStatement(sql);
+             final var update = connection.prepareStatement("UPDATE category SET name_normalized = ? WHERE id = ?")) {
+            if (afterId != null) {
+                select.setBytes(1, afterId);
+            }
+
+            var pending = 0;
+            try (final var rows = select.executeQuery()) {
+                while (rows.next()) {
+                    lastId = rows.getBytes("id");
+                    final var expected = NormalizationUtils.searchKey(rows.getString("name"));
+                    if (!expected.equals(rows.getString("name_normalized"))) {
+                        update.setString(1, expected);
+                        update.setBytes(2, lastId);
+                        update.addBatch();
+                        pending++;
+                    }
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+        return lastId;
+    }
+}
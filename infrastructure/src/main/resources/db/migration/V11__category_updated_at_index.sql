@@ -0,0 +1,2 @@
+-- Usado pela varredura que leva aos índices em memória as escritas feitas por outras instâncias
+CREATE INDEX idx_category_updated_at ON category (updated_at);
@@ -0,0 +1,2 @@
+CREATE INDEX idx_category_name ON category (name);
+CREATE INDEX idx_category_created_at ON category (created_at);
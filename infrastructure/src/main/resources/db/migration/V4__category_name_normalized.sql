@@ -0,0 +1,15 @@
+ALTER TABLE category ADD COLUMN name_normalized VARCHAR(255) NOT NULL DEFAULT '';
+
+-- Mesma forma que NormalizationUtils.searchKey grava: maiúsculas e sem acentos
+UPDATE category SET name_normalized =
+    REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(
+    REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(
+        UPPER(name),
+    'Á', 'A'), 'À', 'A'), 'Â', 'A'), 'Ã', 'A'), 'Ä', 'A'),
+    'É', 'E'), 'È', 'E'), 'Ê', 'E'), 'Ë', 'E'),
+    'Í', 'I'), 'Ì', 'I'), 'Î', 'I'), 'Ï', 'I'),
+    'Ó', 'O'), 'Ò', 'O'), 'Ô', 'O'), 'Õ', 'O'), 'Ö', 'O'),
+    'Ú', 'U'), 'Ù', 'U'), 'Û', 'U'), 'Ü', 'U'),
+    'Ç', 'C'), 'Ñ', 'N');
+
+CREATE INDEX idx_category_name_normalized ON category (name_normalized);
@@ -0,0 +1,12 @@
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    fingerprint CHAR(64) NOT NULL,
+    status INT NOT NULL,
+    content_type VARCHAR(255) NULL,
+    location VARCHAR(2048) NULL,
+    etag VARCHAR(255) NULL,
+    body LONGBLOB NULL,
+    expires_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,17 @@
+CREATE TABLE jobs (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    job_type VARCHAR(100) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    claimed_by VARCHAR(36) NULL,
+    processed BIGINT NOT NULL DEFAULT 0,
+    total BIGINT NULL,
+    checkpoint_data VARCHAR(4000) NULL,
+    result LONGTEXT NULL,
+    error VARCHAR(4000) NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    finished_at DATETIME(6) NULL
+);
+
+CREATE INDEX idx_jobs_status_updated_at ON jobs (status, updated_at);
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
 import java.util.Objects;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -47,7 +48,7 @@ public class CreateCategoryUseCaseIT {
         assertNotNull(actualOutput);
         assertNotNull(actualOutput.id());
 
-        final var actualCategory = categoryRepository.findById(actualOutput.id()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
         assertAll(
                 () -> assertEquals(expectedName, actualCategory.getName()),
@@ -103,7 +104,7 @@ public class CreateCategoryUseCaseIT {
 
         assertEquals(1, categoryRepository.count());
 
-        final var actualCategory = categoryRepository.findById(actualOutput.id()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
         assertAll(
                 () -> assertEquals(expectedName, actualCategory.getName()),
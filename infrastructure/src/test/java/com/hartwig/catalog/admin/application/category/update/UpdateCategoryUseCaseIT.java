@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
 import java.util.Arrays;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -57,7 +58,7 @@ public class UpdateCategoryUseCaseIT {
         assertNotNull(actualOutput);
         assertNotNull(actualOutput.id());
 
-        final var actualCategory = categoryRepository.findById(actualOutput.id()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
         assertAll(
                 () -> assertEquals(expectedName, actualCategory.getName()),
@@ -124,7 +125,7 @@ public class UpdateCategoryUseCaseIT {
         assertNotNull(actualOutput);
         assertNotNull(actualOutput.id());
 
-        final var actualCategory = categoryRepository.findById(actualOutput.id()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
         assertAll(
                 () -> assertEquals(expectedName, actualCategory.getName()),
@@ -167,7 +168,7 @@ public class UpdateCategoryUseCaseIT {
         assertEquals(expectedErrorCount, notification.getErrors().size());
         assertEquals(expectedErrorMessage, notification.firstError().message());
 
-        final var actualCategory = categoryRepository.findById(aCategory.getId().getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
 
         assertAll(
                 () -> assertEquals(aCategory.getName(), actualCategory.getName()),
@@ -18,6 +18,8 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.UUID;
+
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,7 +56,7 @@ public class CategoryE2ETest {
 
         final var actualId = givenACategory(expectedName, expectedDescription, expectedIsActive);
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualId.getValue())).get();
 
         assertAll(
                 () -> assertEquals(expectedName, actualCategory.getName()),
@@ -191,7 +193,7 @@ public class CategoryE2ETest {
         final var expectedDescription = "A categoria mais assistida";
         final var expectedIsActive = true;
 
-        final var aRequestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+        final var aRequestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, null);
 
         final var aRequest = put("/categories/" + actualId.getValue())
                 .contentType(MediaType.APPLICATION_JSON)
@@ -200,7 +202,7 @@ public class CategoryE2ETest {
         this.mvc.perform(aRequest)
                 .andExpect(status().isOk());
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualId.getValue())).get();
 
         assertAll(
                 () -> assertEquals(expectedName, actualCategory.getName()),
@@ -223,7 +225,7 @@ public class CategoryE2ETest {
 
         final var actualId = givenACategory(expectedName, expectedDescription, true);
 
-        final var aRequestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+        final var aRequestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, null);
 
         final var aRequest = put("/categories/" + actualId.getValue())
                 .contentType(MediaType.APPLICATION_JSON)
@@ -232,7 +234,7 @@ public class CategoryE2ETest {
         this.mvc.perform(aRequest)
                 .andExpect(status().isOk());
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualId.getValue())).get();
 
         assertAll(
                 () -> assertEquals(expectedName, actualCategory.getName()),
@@ -255,7 +257,7 @@ public class CategoryE2ETest {
 
         final var actualId = givenACategory(expectedName, expectedDescription, false);
 
-        final var aRequestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+        final var aRequestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, null);
 
         final var aRequest = put("/categories/" + actualId.getValue())
                 .contentType(MediaType.APPLICATION_JSON)
@@ -264,7 +266,7 @@ public class CategoryE2ETest {
         this.mvc.perform(aRequest)
                 .andExpect(status().isOk());
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualId.getValue())).get();
 
         assertAll(
                 () -> assertEquals(expectedName, actualCategory.getName()),
@@ -290,7 +292,7 @@ public class CategoryE2ETest {
         this.mvc.perform(delete("/categories/" + actualId.getValue()))
                 .andExpect(status().isNoContent());
 
-        assertFalse(this.categoryRepository.existsById(actualId.getValue()));
+        assertFalse(this.categoryRepository.existsById(UUID.fromString(actualId.getValue())));
 
     }
 
@@ -0,0 +1,132 @@
+package com.hartwig.catalog.admin.e2e.category;
+
+import com.hartwig.catalog.admin.E2ETest;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoryError;
+import com.hartwig.catalog.admin.infrastructure.category.imports.CategoryImportFormat;
+import com.hartwig.catalog.admin.infrastructure.category.loader.CategoryBulkLoader;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@E2ETest
+@Testcontainers
+public class CategoryLoaderE2ETest {
+
+    private static final String SECONDARY_INDEXES = """
+            SELECT DISTINCT INDEX_NAME
+            FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'category'
+              AND INDEX_NAME <> 'PRIMARY' AND INDEX_TYPE = 'BTREE' AND NON_UNIQUE = 1
+            ORDER BY INDEX_NAME
+            """;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    // LOAD DATA LOCAL has to be enabled on both sides: the server here, the driver below
+    @Container
+    private static final MySQLContainer MY_SQL_CONTAINER = new MySQLContainer<>("mysql:latest").withPassword("123456").withUsername("root").withDatabaseName("catalog_admin")
+            .withCommand("--local-infile=1");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+        registry.add("spring.datasource.hikari.data-source-properties.allowLoadLocalInfile", () -> "true");
+    }
+
+    @Test
+    public void givenACsvAndDeferredIndexes_whenCallsLoad_shouldLoadTheValidRowsAndRebuildTheIndexes() throws Exception {
+        assertEquals(0, categoryRepository.count());
+        assertTrue(MY_SQL_CONTAINER.isRunning());
+
+        final var expectedIndexes = secondaryIndexes();
+        final var expectedId = UUID.randomUUID().toString();
+        final var csv = """
+                id,name,description,is_active
+                %s,Filmes,"Com\ttab e \\ barra",true
+                ,,Sem nome,true
+                ,Documentários,,false
+                %s,Filmes de novo,,true
+                """.formatted(expectedId, expectedId);
+
+        final var rejected = new ArrayList<ImportCategoryError>();
+        final var report = new CategoryBulkLoader(dataSource).load(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                CategoryImportFormat.CSV,
+                true,
+                rejected::add
+        );
+
+        final var actualCategory = categoryRepository.findById(UUID.fromString(expectedId)).get();
+
+        assertAll(
+                () -> assertFalse(expectedIndexes.isEmpty()),
+                () -> assertEquals(4, report.read()),
+                () -> assertEquals(1, report.rejected()),
+                () -> assertEquals(2, report.loaded()),
+                () -> assertEquals(1, report.duplicates()),
+                () -> assertEquals(List.of(3L), rejected.stream().map(ImportCategoryError::line).toList()),
+                () -> assertEquals(2, categoryRepository.count()),
+                () -> assertEquals("Filmes", actualCategory.getName()),
+                () -> assertEquals("Com\ttab e \\ barra", actualCategory.getDescription()),
+                () -> assertTrue(actualCategory.isActive()),
+                () -> assertNull(actualCategory.getDeletedAt()),
+                () -> assertEquals(expectedIndexes, secondaryIndexes())
+        );
+    }
+
+    @Test
+    public void givenAStoredCategory_whenCallsLoadDeferringIndexes_shouldRefuseAndKeepTheIndexes() throws Exception {
+        assertEquals(0, categoryRepository.count());
+        assertTrue(MY_SQL_CONTAINER.isRunning());
+
+        final var loader = new CategoryBulkLoader(dataSource);
+        loader.load(
+                new ByteArrayInputStream("id,name,description,is_active\n,Filmes,,true\n".getBytes(StandardCharsets.UTF_8)),
+                CategoryImportFormat.CSV,
+                false,
+                anError -> fail(anError.toString())
+        );
+        final var expectedIndexes = secondaryIndexes();
+
+        final var actualException = assertThrows(IllegalStateException.class, () -> loader.load(
+                new ByteArrayInputStream("id,name,description,is_active\n,Séries,,true\n".getBytes(StandardCharsets.UTF_8)),
+                CategoryImportFormat.CSV,
+                true,
+                anError -> fail(anError.toString())
+        ));
+
+        assertEquals("Indexes are only deferred when seeding an empty category table", actualException.getMessage());
+        assertEquals(1, categoryRepository.count());
+        assertEquals(expectedIndexes, secondaryIndexes());
+    }
+
+    private List<String> secondaryIndexes() throws Exception {
+        final var indexes = new ArrayList<String>();
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement(SECONDARY_INDEXES);
+             final var rows = statement.executeQuery()) {
+            while (rows.next()) {
+                indexes.add(rows.getString(1));
+            }
+        }
+        return indexes;
+    }
+}
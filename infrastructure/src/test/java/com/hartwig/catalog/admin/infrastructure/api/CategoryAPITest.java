@@ -1,23 +1,38 @@
 package com.hartwig.catalog.admin.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hartwig.catalog.admin.application.category.bulk.BulkCategoryAction;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesOutput;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.hartwig.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.create.bulk.BulkCreateCategoriesOutput;
+import com.hartwig.catalog.admin.application.category.create.bulk.BulkCreateCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.create.bulk.BulkCreateCategoryError;
 import com.hartwig.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import com.hartwig.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.hartwig.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import com.hartwig.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
+import com.hartwig.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.hartwig.catalog.admin.application.category.update.UpdateCategoryOutput;
 import com.hartwig.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.update.patch.PatchCategoryUseCase;
+import com.hartwig.catalog.admin.application.category.update.patch.PatchValue;
 import com.hartwig.catalog.admin.domain.category.Category;
 import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
 import com.hartwig.catalog.admin.domain.exceptions.DomainException;
 import com.hartwig.catalog.admin.domain.exceptions.NotFoundException;
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
 import com.hartwig.catalog.admin.domain.pagination.Pagination;
 import com.hartwig.catalog.admin.domain.validation.handler.Notification;
 import com.hartwig.catalog.admin.infrastructure.api.CategoryAPI;
 import com.hartwig.catalog.admin.ControllerTest;
+import com.hartwig.catalog.admin.infrastructure.category.imports.CategoryImporter;
+import com.hartwig.catalog.admin.infrastructure.category.models.BulkChangeCategoriesRequest;
 import com.hartwig.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import com.hartwig.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import com.hartwig.catalog.admin.domain.validation.Error;
@@ -29,10 +44,14 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -56,12 +75,30 @@ public class CategoryAPITest {
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
+    @MockBean
+    private PatchCategoryUseCase patchCategoryUseCase;
+
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+
+    @MockBean
+    private BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase;
+
+    @MockBean
+    private BulkChangeCategoriesUseCase bulkChangeCategoriesUseCase;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @MockBean
+    private CategoryImporter categoryImporter;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         // given
@@ -169,6 +206,83 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenValidAndInvalidItems_whenCallsBulkCreateCategories_shouldReturnCreatedAndErrorsByIndex() throws Exception {
+        // given
+        final var aInput = List.of(
+                new CreateCategoryRequest("Filmes", "A categoria mais assistida", true),
+                new CreateCategoryRequest(null, null, null)
+        );
+        final var expectedMessage = "'name' should not be null";
+
+        when(bulkCreateCategoriesUseCase.execute(any()))
+                .thenReturn(Right(BulkCreateCategoriesOutput.from(
+                        List.of(CreateCategoryOutput.from("123")),
+                        List.of(BulkCreateCategoryError.from(1, Notification.create(new Error(expectedMessage))))
+                )));
+
+        // when
+        final var request = post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created", hasSize(1)))
+                .andExpect(jsonPath("$.created[0].id", equalTo("123")))
+                .andExpect(jsonPath("$.errors[0].index", equalTo(1)))
+                .andExpect(jsonPath("$.errors[0].errors[0].message", equalTo(expectedMessage)));
+
+        verify(bulkCreateCategoriesUseCase, times(1)).execute(argThat(cmd ->
+                cmd.items().size() == 2
+                        && Objects.equals("Filmes", cmd.items().get(0).name())
+                        && cmd.items().get(1).isActive()
+        ));
+    }
+
+    @Test
+    public void givenOnlyInvalidItems_whenCallsBulkCreateCategories_shouldReturnUnprocessableEntity() throws Exception {
+        when(bulkCreateCategoriesUseCase.execute(any()))
+                .thenReturn(Right(BulkCreateCategoriesOutput.from(
+                        List.of(),
+                        List.of(BulkCreateCategoryError.from(0, Notification.create(new Error("'name' should not be null"))))
+                )));
+
+        final var request = post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(List.of(new CreateCategoryRequest(null, null, true))));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].index", equalTo(0)));
+    }
+
+    @Test
+    public void givenASearch_whenCallsBulkDeactivate_shouldReturnAffectedCount() throws Exception {
+        when(bulkChangeCategoriesUseCase.execute(any()))
+                .thenReturn(BulkChangeCategoriesOutput.from(7));
+
+        final var request = post("/categories/bulk/deactivate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new BulkChangeCategoriesRequest(null, "film", "prefix")));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", equalTo(7)));
+
+        verify(bulkChangeCategoriesUseCase, times(1)).execute(argThat(cmd ->
+                cmd.action() == BulkCategoryAction.DEACTIVATE
+                        && cmd.ids().isEmpty()
+                        && Objects.equals("film", cmd.terms())
+                        && cmd.match() == MatchMode.PREFIX
+        ));
+    }
+
     @Test
     public void givenAValidId_whenCallsGetCategory_shouldReturnCategory() throws Exception {
         // given
@@ -240,7 +354,7 @@ public class CategoryAPITest {
                 .thenReturn(Right(UpdateCategoryOutput.from(expectedId)));
 
         final var aCommand =
-                new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+                new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, null);
 
         // when
         final var request = put("/categories/{id}", expectedId)
@@ -263,6 +377,51 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenAnIfMatchHeader_whenCallsUpdateCategory_shouldPassExpectedVersionAndReturnETag() throws Exception {
+        final var expectedId = "123";
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenReturn(Right(new UpdateCategoryOutput(expectedId, 4)));
+
+        final var request = put("/categories/{id}", expectedId)
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new UpdateCategoryRequest("Filmes", null, true, 1L)));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.version", equalTo(4)));
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(3L, cmd.expectedVersion())
+        ));
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdateCategory_shouldReturnConflict() throws Exception {
+        final var expectedId = "123";
+        final var expectedMessage = "Category with ID 123 is no longer at version 1";
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(ConflictException.with(Category.class, CategoryID.from(expectedId), 1));
+
+        final var request = put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new UpdateCategoryRequest("Filmes", null, true, 1L)));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", equalTo(expectedMessage)));
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(1L, cmd.expectedVersion())
+        ));
+    }
+
     @Test
     public void givenAInvalidName_whenCallsUpdateCategory_thenShouldReturnDomainException() throws Exception {
         // given
@@ -278,7 +437,7 @@ public class CategoryAPITest {
                 .thenReturn(Left(Notification.create(new Error(expectedMessage))));
 
         final var aCommand =
-                new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+                new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, null);
 
         // when
         final var request = put("/categories/{id}", expectedId)
@@ -316,7 +475,7 @@ public class CategoryAPITest {
                 .thenThrow(NotFoundException.with(Category.class, CategoryID.from(expectedId)));
 
         final var aCommand =
-                new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+                new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, null);
 
         // when
         final var request = put("/categories/{id}", expectedId)
@@ -339,6 +498,47 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenAMergePatch_whenCallsPatchCategory_shouldPassOnlyTheSentMembers() throws Exception {
+        final var expectedId = "123";
+
+        when(patchCategoryUseCase.execute(any()))
+                .thenReturn(Right(new UpdateCategoryOutput(expectedId, 2)));
+
+        final var request = patch("/categories/{id}", expectedId)
+                .header("If-Match", "\"1\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"description\": null, \"is_active\": false}");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.version", equalTo(2)));
+
+        verify(patchCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedId, cmd.id())
+                        && cmd.name() == null
+                        && Objects.equals(PatchValue.of(null), cmd.description())
+                        && Objects.equals(PatchValue.of(false), cmd.active())
+                        && Objects.equals(1L, cmd.expectedVersion())
+        ));
+    }
+
+    @Test
+    public void givenAMergePatchWithANullActiveFlag_whenCallsPatchCategory_shouldReturnUnprocessableEntity() throws Exception {
+        final var request = patch("/categories/{id}", "123")
+                .contentType("application/merge-patch+json")
+                .content("{\"is_active\": null}");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'is_active' must be a boolean")));
+
+        verify(patchCategoryUseCase, times(0)).execute(any());
+    }
+
     @Test
     public void givenAValidId_whenCallsDeleteCategory_shouldReturnNoContent() throws Exception {
         // given
@@ -413,4 +613,71 @@ public class CategoryAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggestCategories_shouldReturnSuggestions() throws Exception {
+        // given
+        final var expectedPrefix = "fil";
+        final var expectedLimit = 5;
+        final var expectedId = "123";
+        final var expectedName = "Filmes";
+
+        when(suggestCategoriesUseCase.execute(any()))
+                .thenReturn(List.of(new CategorySuggestionOutput(CategoryID.from(expectedId), expectedName)));
+
+        // when
+        final var request = get("/categories/suggest")
+                .queryParam("prefix", expectedPrefix)
+                .queryParam("limit", String.valueOf(expectedLimit))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(expectedId)))
+                .andExpect(jsonPath("$[0].name", equalTo(expectedName)));
+
+        verify(suggestCategoriesUseCase, times(1)).execute(argThat(command ->
+                Objects.equals(expectedPrefix, command.prefix())
+                        && Objects.equals(expectedLimit, command.limit())
+        ));
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenCategories_whenCallsExport_shouldStreamOneJsonObjectPerLine() throws Exception {
+        // given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, false);
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryOutput> consumer = invocation.getArgument(0);
+            consumer.accept(CategoryOutput.from(filmes));
+            consumer.accept(CategoryOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        // when
+        final var started = this.mvc.perform(get("/categories/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(started))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE));
+
+        final var lines = response.andReturn().getResponse().getContentAsString().split("\n");
+        assertAll(
+                () -> assertEquals(2, lines.length),
+                () -> assertEquals(filmes.getId().getValue(), this.mapper.readTree(lines[0]).get("id").asText()),
+                () -> assertEquals("Séries", this.mapper.readTree(lines[1]).get("name").asText()),
+                () -> assertFalse(this.mapper.readTree(lines[1]).get("is_active").asBoolean())
+        );
+    }
 }
@@ -0,0 +1,140 @@
+package com.hartwig.catalog.admin.infrastructure.api;
+
+import com.hartwig.catalog.admin.ControllerTest;
+import com.hartwig.catalog.admin.application.job.retrieve.get.GetJobByIdUseCase;
+import com.hartwig.catalog.admin.application.job.retrieve.get.JobOutput;
+import com.hartwig.catalog.admin.application.job.submit.SubmitJobOutput;
+import com.hartwig.catalog.admin.application.job.submit.SubmitJobUseCase;
+import com.hartwig.catalog.admin.domain.exceptions.NotFoundException;
+import com.hartwig.catalog.admin.domain.job.Job;
+import com.hartwig.catalog.admin.domain.job.JobID;
+import com.hartwig.catalog.admin.domain.job.JobStatus;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.domain.validation.Error;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = JobAPI.class)
+public class JobAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private SubmitJobUseCase submitJobUseCase;
+
+    @MockBean
+    private GetJobByIdUseCase getJobByIdUseCase;
+
+    @Test
+    public void givenAValidJob_whenCallsSubmitJob_shouldReturnAcceptedWithLocation() throws Exception {
+        // given
+        when(submitJobUseCase.execute(any()))
+                .thenReturn(Right(new SubmitJobOutput("123")));
+
+        // when
+        final var request = post("/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\":\"category.bulk-change\",\"payload\":{\"action\":\"DELETE\",\"ids\":[\"1\"]}}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/jobs/123"))
+                .andExpect(jsonPath("$.id", equalTo("123")));
+
+        verify(submitJobUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals("category.bulk-change", cmd.type())
+                        && Objects.equals("{\"action\":\"DELETE\",\"ids\":[\"1\"]}", cmd.payload())
+        ));
+    }
+
+    @Test
+    public void givenAnUnknownType_whenCallsSubmitJob_shouldReturnNotification() throws Exception {
+        // given
+        final var expectedMessage = "'type' must be one of [category.bulk-change]";
+
+        when(submitJobUseCase.execute(any()))
+                .thenReturn(Left(Notification.create(new Error(expectedMessage))));
+
+        // when
+        final var request = post("/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\":\"category.reindex\",\"payload\":{}}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(header().string("Location", nullValue()))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedMessage)));
+    }
+
+    @Test
+    public void givenAFinishedJob_whenCallsGetJob_shouldReturnItsResult() throws Exception {
+        // given
+        final var now = InstantUtils.now();
+        when(getJobByIdUseCase.execute(any()))
+                .thenReturn(new JobOutput(
+                        "123",
+                        "category.bulk-change",
+                        JobStatus.SUCCEEDED,
+                        2,
+                        2L,
+                        "{\"affected\":2}",
+                        null,
+                        now,
+                        now,
+                        now
+                ));
+
+        // when
+        final var request = get("/jobs/{id}", "123")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo("123")))
+                .andExpect(jsonPath("$.status", equalTo("SUCCEEDED")))
+                .andExpect(jsonPath("$.processed", equalTo(2)))
+                .andExpect(jsonPath("$.result.affected", equalTo(2)));
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsGetJob_shouldReturnNotFound() throws Exception {
+        // given
+        when(getJobByIdUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(Job.class, JobID.from("123")));
+
+        // when
+        final var response = this.mvc.perform(get("/jobs/{id}", "123"))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo("Job with ID 123 was not found")));
+    }
+}
@@ -0,0 +1,31 @@
+package com.hartwig.catalog.admin.infrastructure.category;
+
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CategoryCountCacheTest {
+
+    @Test
+    public void givenAFullCache_whenCountingANewKey_shouldEvictOnlyTheLeastRecentlyUsed() {
+        final var cache = new CategoryCountCache(Duration.ofMinutes(1), 2);
+        final var calls = new AtomicInteger();
+
+        cache.get("a", MatchMode.CONTAINS, calls::incrementAndGet);
+        cache.get("b", MatchMode.CONTAINS, calls::incrementAndGet);
+        cache.get("a", MatchMode.CONTAINS, calls::incrementAndGet);
+        cache.get("c", MatchMode.CONTAINS, calls::incrementAndGet);
+        assertEquals(3, calls.get());
+
+        cache.get("a", MatchMode.CONTAINS, calls::incrementAndGet);
+        cache.get("c", MatchMode.CONTAINS, calls::incrementAndGet);
+        assertEquals(3, calls.get());
+
+        cache.get("b", MatchMode.CONTAINS, calls::incrementAndGet);
+        assertEquals(4, calls.get());
+    }
+}
@@ -2,14 +2,25 @@ package com.hartwig.catalog.admin.infrastructure.category;
 
 import com.hartwig.catalog.admin.domain.category.Category;
 import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.category.CategoryFilter;
 import com.hartwig.catalog.admin.MySQLGatewayTest;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import com.hartwig.catalog.admin.domain.pagination.Pagination;
 import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.domain.pagination.TotalMode;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
 import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,10 +59,10 @@ public class CategoryMySQLGatewayTest {
                 () -> assertNull(actualCategory.getDeletedAt())
         );
 
-        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        final var actualEntity = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
 
         assertAll(
-                () -> assertEquals(aCategory.getId().getValue(), actualEntity.getId()),
+                () -> assertEquals(aCategory.getId().getValue(), actualEntity.getId().toString()),
                 () -> assertEquals(expectedName, actualEntity.getName()),
                 () -> assertEquals(expectedDescription, actualEntity.getDescription()),
                 () -> assertEquals(expectedIsActive, actualEntity.isActive()),
@@ -63,6 +74,34 @@ public class CategoryMySQLGatewayTest {
 
     }
 
+    @Test
+    public void givenAnAlreadyStoredId_whenCallsCreate_shouldFailInsteadOfMerging() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        assertThrows(DataIntegrityViolationException.class, () -> categoryGateway.create(aCategory));
+    }
+
+    @Test
+    public void givenManyValidCategories_whenCallsCreateAll_shouldPersistAllOfThem() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, false);
+
+        assertEquals(0, categoryRepository.count());
+
+        final var actualCategories = categoryGateway.createAll(List.of(filmes, series, documentarios));
+
+        assertAll(
+                () -> assertEquals(3, categoryRepository.count()),
+                () -> assertEquals(List.of(filmes.getId(), series.getId(), documentarios.getId()),
+                        actualCategories.stream().map(Category::getId).toList()),
+                () -> assertEquals("DOCUMENTARIOS",
+                        categoryRepository.findById(UUID.fromString(documentarios.getId().getValue())).get().getNameNormalized())
+        );
+    }
+
     @Test
     public void givenAValidCategory_whenCallsUpdate_shouldReturnCategoryUpdated() {
         final var expectedName = "Filmes";
@@ -77,7 +116,7 @@ public class CategoryMySQLGatewayTest {
 
         assertEquals(1, categoryRepository.count());
 
-        final var actualInvalidEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        final var actualInvalidEntity = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
 
         assertAll(
                 () -> assertEquals("Film", actualInvalidEntity.getName()),
@@ -102,10 +141,10 @@ public class CategoryMySQLGatewayTest {
                 () -> assertNull(actualCategory.getDeletedAt())
         );
 
-        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        final var actualEntity = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
 
         assertAll(
-                () -> assertEquals(aCategory.getId().getValue(), actualEntity.getId()),
+                () -> assertEquals(aCategory.getId().getValue(), actualEntity.getId().toString()),
                 () -> assertEquals(expectedName, actualEntity.getName()),
                 () -> assertEquals(expectedDescription, actualEntity.getDescription()),
                 () -> assertEquals(expectedIsActive, actualEntity.isActive()),
@@ -117,6 +156,69 @@ public class CategoryMySQLGatewayTest {
 
     }
 
+    @Test
+    public void givenTwoWritersWithTheSameVersion_whenBothCallUpdate_shouldRejectTheSecond() {
+        final var aCategory = Category.newCategory("Film", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var firstWriter = aCategory.clone().update("Filmes", null, true);
+        final var secondWriter = aCategory.clone().update("Movies", null, true);
+
+        final var actualCategory = categoryGateway.update(firstWriter);
+
+        assertEquals(1, actualCategory.getVersion());
+        assertThrows(ConflictException.class, () -> categoryGateway.update(secondWriter));
+
+        final var actualEntity = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
+
+        assertAll(
+                () -> assertEquals("Filmes", actualEntity.getName()),
+                () -> assertEquals(1, actualEntity.getVersion())
+        );
+    }
+
+    @Test
+    public void givenAPatchedDescription_whenCallsPatch_shouldWriteItAndBumpTheVersion() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var aPatched = aCategory.clone().update("Filmes", "A categoria mais assistida", true);
+
+        final var actualCategory = categoryGateway.patch(aCategory, aPatched);
+
+        final var actualEntity = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
+
+        assertAll(
+                () -> assertEquals(1, actualCategory.getVersion()),
+                () -> assertEquals("Filmes", actualEntity.getName()),
+                () -> assertEquals("FILMES", actualEntity.getNameNormalized()),
+                () -> assertEquals("A categoria mais assistida", actualEntity.getDescription()),
+                () -> assertEquals(aPatched.getUpdatedAt(), actualEntity.getUpdatedAt()),
+                () -> assertEquals(1, actualEntity.getVersion())
+        );
+    }
+
+    @Test
+    public void givenAStalePreviousState_whenCallsPatch_shouldThrowConflict() {
+        final var aCategory = Category.newCategory("Film", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+
+        final var aPatched = aCategory.clone().update("Film", null, false);
+
+        assertThrows(ConflictException.class, () -> categoryGateway.patch(aCategory, aPatched));
+
+        final var actualEntity = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
+
+        assertAll(
+                () -> assertEquals("Filmes", actualEntity.getName()),
+                () -> assertTrue(actualEntity.isActive())
+        );
+    }
+
     @Test
     public void givenAPrePersistedCategoryAndValidCategoryId_whenTryDeleteIt_shouldDeleteCategory() {
         final var aCategory = Category.newCategory("Filmes", null, true);
@@ -142,6 +244,84 @@ public class CategoryMySQLGatewayTest {
         assertEquals(0, categoryRepository.count());
     }
 
+    @Test
+    public void givenAnUnknownCategoryId_whenTryDeleteIt_shouldKeepStoredCategoriesUntilTheRealOneIsDeleted() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        categoryGateway.deleteById(CategoryID.unique());
+
+        assertEquals(1, categoryRepository.count());
+
+        categoryGateway.deleteById(aCategory.getId());
+        categoryGateway.deleteById(aCategory.getId());
+
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    public void givenASearchFilter_whenCallsDeactivateAll_shouldOnlyChangeMatchingActiveCategories() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var filmesAntigos = Category.newCategory("Filmes antigos", null, false);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(filmesAntigos),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var aFilter = CategoryFilter.matching("film", MatchMode.PREFIX);
+
+        assertEquals(1, categoryGateway.deactivateAll(aFilter));
+        assertEquals(0, categoryGateway.deactivateAll(aFilter));
+
+        final var actualFilmes = categoryRepository.findById(UUID.fromString(filmes.getId().getValue())).get();
+        final var actualSeries = categoryRepository.findById(UUID.fromString(series.getId().getValue())).get();
+
+        assertAll(
+                () -> assertFalse(actualFilmes.isActive()),
+                () -> assertNotNull(actualFilmes.getDeletedAt()),
+                () -> assertEquals(1, actualFilmes.getVersion()),
+                () -> assertTrue(actualSeries.isActive()),
+                () -> assertEquals(0, actualSeries.getVersion())
+        );
+    }
+
+    @Test
+    public void givenAnIdList_whenCallsActivateAll_shouldActivateTheListedCategories() {
+        final var filmes = Category.newCategory("Filmes", null, false);
+        final var series = Category.newCategory("Séries", null, false);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        final var actualAffected = categoryGateway.activateAll(
+                CategoryFilter.byIds(List.of(filmes.getId(), filmes.getId(), CategoryID.from("invalid"))));
+
+        final var actualFilmes = categoryRepository.findById(UUID.fromString(filmes.getId().getValue())).get();
+        final var actualSeries = categoryRepository.findById(UUID.fromString(series.getId().getValue())).get();
+
+        assertAll(
+                () -> assertEquals(1, actualAffected),
+                () -> assertTrue(actualFilmes.isActive()),
+                () -> assertNull(actualFilmes.getDeletedAt()),
+                () -> assertFalse(actualSeries.isActive())
+        );
+    }
+
+    @Test
+    public void givenASearchFilter_whenCallsDeleteAll_shouldDeleteMatchingCategories() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Filmes antigos", null, false)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        assertEquals(2, categoryGateway.deleteAll(CategoryFilter.matching("film", MatchMode.PREFIX)));
+        assertEquals(1, categoryRepository.count());
+    }
+
     @Test
     public void givenAPrePersistedCategoryAndValidCategoryId_whenCallsFindById_shouldReturnsCategory() {
         final var expectedName = "Filmes";
@@ -180,6 +360,18 @@ public class CategoryMySQLGatewayTest {
 
     }
 
+    @Test
+    public void givenAnUppercaseCategoryId_whenCallsFindById_shouldReturnCanonicalId() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var actualCategory =
+                categoryGateway.findById(CategoryID.from(aCategory.getId().getValue().toUpperCase())).get();
+
+        assertEquals(aCategory.getId(), actualCategory.getId());
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsFindAll_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -354,4 +546,289 @@ public class CategoryMySQLGatewayTest {
 
     }
 
+    @Test
+    public void givenAPageBeyondTheLastOne_whenCallsFindAll_shouldStillReturnTotal() {
+        final var expectedPage = 5;
+        final var expectedPerPage = 1;
+        final var expectedTotal = 2;
+
+        assertEquals(0, categoryRepository.count());
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var query = new SearchQuery(expectedPage, expectedPerPage, "", "name", "asc");
+        final var actualResult = categoryGateway.findAll(query);
+
+        assertAll(
+                () -> assertEquals(expectedPage, actualResult.currentPage()),
+                () -> assertEquals(expectedPerPage, actualResult.perPage()),
+                () -> assertEquals(expectedTotal, actualResult.total()),
+                () -> assertEquals(0, actualResult.items().size())
+        );
+    }
+
+    @Test
+    public void givenTotalModeNone_whenCallsFindAll_shouldSkipTotalAndReturnHasMore() {
+        final var expectedPerPage = 1;
+
+        assertEquals(0, categoryRepository.count());
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var firstPage = categoryGateway.findAll(
+                new SearchQuery(0, expectedPerPage, "", "name", "asc", null, TotalMode.NONE)
+        );
+        final var lastPage = categoryGateway.findAll(
+                new SearchQuery(1, expectedPerPage, "", "name", "asc", null, TotalMode.NONE)
+        );
+
+        assertAll(
+                () -> assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total()),
+                () -> assertEquals(expectedPerPage, firstPage.items().size()),
+                () -> assertTrue(firstPage.hasMore()),
+                () -> assertEquals(Pagination.UNKNOWN_TOTAL, lastPage.total()),
+                () -> assertEquals(expectedPerPage, lastPage.items().size()),
+                () -> assertFalse(lastPage.hasMore())
+        );
+    }
+
+    @Test
+    public void givenTotalModeEstimated_whenCallsFindAllTwice_shouldReuseCachedTotal() {
+        final var expectedTotal = 2;
+        final var query = new SearchQuery(0, 1, "cached", "name", "asc", null, TotalMode.ESTIMATED);
+
+        assertEquals(0, categoryRepository.count());
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", "cached", true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", "cached", true))
+        ));
+
+        final var firstResult = categoryGateway.findAll(query);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Kids", "cached", true)));
+
+        final var secondResult = categoryGateway.findAll(query);
+
+        assertAll(
+                () -> assertEquals(expectedTotal, firstResult.total()),
+                () -> assertEquals(expectedTotal, secondResult.total()),
+                () -> assertTrue(secondResult.hasMore())
+        );
+    }
+
+    @Test
+    public void givenAnUnknownSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var query = new SearchQuery(0, 1, "", "unknown", "asc");
+
+        assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithCursor_shouldFollowKeyset() {
+        final var expectedPerPage = 2;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        assertEquals(0, categoryRepository.count());
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        assertEquals(3, categoryRepository.count());
+
+        final var firstPage = categoryGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", ""));
+
+        assertAll(
+                () -> assertEquals(expectedPerPage, firstPage.perPage()),
+                () -> assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total()),
+                () -> assertEquals(2, firstPage.items().size()),
+                () -> assertEquals(documentarios.getId(), firstPage.items().get(0).getId()),
+                () -> assertEquals(filmes.getId(), firstPage.items().get(1).getId()),
+                () -> assertNotNull(firstPage.nextCursor())
+        );
+
+        final var lastPage = categoryGateway.findAll(
+                new SearchQuery(0, expectedPerPage, "", "name", "asc", firstPage.nextCursor())
+        );
+
+        assertAll(
+                () -> assertEquals(1, lastPage.items().size()),
+                () -> assertEquals(series.getId(), lastPage.items().get(0).getId()),
+                () -> assertNull(lastPage.nextCursor())
+        );
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var query = new SearchQuery(0, 1, "", "name", "asc", "not-a-cursor");
+
+        final var actualException =
+                assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnEmptyCursorPage_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'perPage' must be greater than 0 when paginating with a cursor";
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+        final var aCursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).nextCursor();
+
+        final var actualException = assertThrows(DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 0, "", "name", "asc", aCursor)));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenTerms_whenCallsFindAllWithCursor_shouldReturnTheSameRowsAsTheOffsetPages() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Filmes de Ação", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", "Mais FILMES em série", true)),
+                CategoryJpaEntity.from(Category.newCategory("Kids", "Desenhos", true)),
+                CategoryJpaEntity.from(Category.newCategory("Film noir", null, true))
+        ));
+
+        for (final var match : MatchMode.values()) {
+            final var expectedIds = categoryGateway.findAll(
+                    new SearchQuery(0, 10, "filmes", "name", "asc", null, TotalMode.EXACT, match)
+            ).items().stream().map(Category::getId).toList();
+
+            final var actualIds = new ArrayList<CategoryID>();
+            var cursor = "";
+            while (cursor != null) {
+                final var aPage = categoryGateway.findAll(
+                        new SearchQuery(0, 1, "filmes", "name", "asc", cursor, TotalMode.EXACT, match)
+                );
+                aPage.items().forEach(aCategory -> actualIds.add(aCategory.getId()));
+                cursor = aPage.nextCursor();
+            }
+
+            assertFalse(expectedIds.isEmpty());
+            assertEquals(expectedIds, actualIds, match.name());
+        }
+    }
+
+    @Test
+    public void givenAPrefixWithoutAccents_whenCallsFindAllWithMatchPrefix_shouldReturnNamesStartingWithIt() {
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        final var docesEBebidas = Category.newCategory("Doces e bebidas", null, true);
+        final var filmesDocumentais = Category.newCategory("Filmes documentais", "Documentários", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(documentarios),
+                CategoryJpaEntity.from(docesEBebidas),
+                CategoryJpaEntity.from(filmesDocumentais)
+        ));
+
+        final var actualResult = categoryGateway.findAll(
+                new SearchQuery(0, 10, "documenta", "name", "asc", null, TotalMode.EXACT, MatchMode.PREFIX)
+        );
+
+        assertAll(
+                () -> assertEquals(1, actualResult.total()),
+                () -> assertEquals(documentarios.getId(), actualResult.items().get(0).getId())
+        );
+    }
+
+    @Test
+    public void givenAPrefixWithWildcards_whenCallsFindAllWithMatchPrefix_shouldMatchThemLiterally() {
+        final var percent = Category.newCategory("100% nacional", null, true);
+        final var other = Category.newCategory("1000 clássicos", null, true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(percent), CategoryJpaEntity.from(other)));
+
+        final var actualResult = categoryGateway.findAll(
+                new SearchQuery(0, 10, "100%", "name", "asc", "", TotalMode.EXACT, MatchMode.PREFIX)
+        );
+
+        assertAll(
+                () -> assertEquals(1, actualResult.items().size()),
+                () -> assertEquals(percent.getId(), actualResult.items().get(0).getId())
+        );
+    }
+
+    @Test
+    public void givenAnUnaccentedTerm_whenCallsFindAll_shouldMatchAccentedNames() {
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(series));
+
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "serie", "name", "asc"));
+
+        assertAll(
+                () -> assertEquals(1, actualResult.total()),
+                () -> assertEquals("SERIES", categoryRepository.findById(UUID.fromString(series.getId().getValue())).get().getNameNormalized())
+        );
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsStreamAll_shouldVisitEachOneIncludingDeleted() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, false);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var actualIds = new ArrayList<CategoryID>();
+        categoryGateway.streamAll(aCategory -> actualIds.add(aCategory.getId()));
+
+        assertEquals(3, actualIds.size());
+        assertEquals(Set.of(filmes.getId(), series.getId(), documentarios.getId()), Set.copyOf(actualIds));
+    }
+
+    @Test
+    public void givenNewAndExistingCategories_whenCallsUpsertAll_shouldInsertTheNewAndOverwriteTheExisting() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(filmes));
+
+        final var renamed = Category.with(
+                filmes.getId(),
+                "Filmes e séries",
+                "Tudo que passa na tela",
+                false,
+                InstantUtils.now(),
+                InstantUtils.now(),
+                InstantUtils.now()
+        );
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryGateway.upsertAll(List.of(renamed, documentarios));
+
+        final var actualFilmes = categoryRepository.findById(UUID.fromString(filmes.getId().getValue())).get();
+        assertAll(
+                () -> assertEquals(2, categoryRepository.count()),
+                () -> assertEquals("Filmes e séries", actualFilmes.getName()),
+                () -> assertEquals("FILMES E SERIES", actualFilmes.getNameNormalized()),
+                () -> assertEquals("Tudo que passa na tela", actualFilmes.getDescription()),
+                () -> assertFalse(actualFilmes.isActive()),
+                () -> assertNotNull(actualFilmes.getDeletedAt()),
+                () -> assertEquals(filmes.getCreatedAt(), actualFilmes.getCreatedAt()),
+                () -> assertEquals(1, actualFilmes.getVersion()),
+                () -> assertTrue(categoryRepository.existsById(UUID.fromString(documentarios.getId().getValue())))
+        );
+    }
 }
@@ -0,0 +1,91 @@
+package com.hartwig.catalog.admin.infrastructure.category.coalescing;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
+import com.hartwig.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CategoryCoalescingGatewayTest {
+
+    private CategoryMySQLGateway delegate;
+    private PlatformTransactionManager transactionManager;
+    private CategoryCoalescingGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryMySQLGateway.class);
+        transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        gateway = new CategoryCoalescingGateway(delegate, transactionManager, 10, Duration.ofMillis(200), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.destroy();
+    }
+
+    @Test
+    public void givenConcurrentCreates_whenCallsCreate_shouldCommitThemTogether() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        when(delegate.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final var futures = List.of(filmes, series, documentarios).stream()
+                .map(aCategory -> CompletableFuture.supplyAsync(() -> gateway.create(aCategory)))
+                .toList();
+
+        final var actualCategories = futures.stream().map(CompletableFuture::join).toList();
+
+        assertEquals(List.of(filmes, series, documentarios), actualCategories);
+        verify(delegate, times(3)).create(any());
+        verify(transactionManager, atMost(2)).commit(any());
+    }
+
+    @Test
+    public void givenAConflictingUpdate_whenCallsUpdate_shouldOnlyFailThatCaller() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        when(delegate.update(eq(filmes))).thenReturn(filmes);
+        when(delegate.update(eq(series))).thenThrow(ConflictException.with(Category.class, series.getId(), 0));
+
+        final var first = CompletableFuture.supplyAsync(() -> gateway.update(filmes));
+        final var second = CompletableFuture.supplyAsync(() -> gateway.update(series));
+
+        assertEquals(filmes, first.join());
+        final var actualException = assertThrows(Exception.class, second::join);
+        assertInstanceOf(ConflictException.class, actualException.getCause());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    public void givenABatchThatFailsToCommit_whenCallsCreate_shouldRetryEachWriteOnItsOwn() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        when(delegate.create(eq(filmes)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .thenReturn(filmes);
+
+        assertEquals(filmes, gateway.create(filmes));
+        verify(delegate, times(2)).create(eq(filmes));
+        verify(transactionManager, times(1)).rollback(any());
+    }
+}
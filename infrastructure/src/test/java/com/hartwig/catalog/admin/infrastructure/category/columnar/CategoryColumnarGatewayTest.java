@@ -0,0 +1,122 @@
+package com.hartwig.catalog.admin.infrastructure.category.columnar;
+
+import com.hartwig.catalog.admin.MySQLGatewayTest;
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.domain.pagination.TotalMode;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategoryDeletedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategorySavedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = "category.search.index=columnar")
+public class CategoryColumnarGatewayTest {
+
+    @Autowired
+    private CategoryColumnarGateway searchGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    public void givenLoadedCategories_whenSearchesTerms_shouldMatchNameOrDescriptionInNameOrder() {
+        final var series = Category.newCategory("Séries", "Filmes divididos em episódios", true);
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(documentarios)
+        ));
+        searchGateway.reload();
+
+        final var ascending = searchGateway.search(new SearchQuery(0, 10, "filmes", "name", "asc"));
+        final var descending = searchGateway.search(new SearchQuery(0, 10, "FILMES", "name", "desc"));
+
+        assertAll(
+                () -> assertEquals(2, ascending.total()),
+                () -> assertEquals(List.of(filmes.getId(), series.getId()), ascending.items()),
+                () -> assertEquals(List.of(series.getId(), filmes.getId()), descending.items())
+        );
+    }
+
+    @Test
+    public void givenManyMatches_whenSearchesSecondPage_shouldSkipTheFirstOne() {
+        final var acao = Category.newCategory("Filmes de ação", null, true);
+        final var comedia = Category.newCategory("Filmes de comédia", null, true);
+        final var terror = Category.newCategory("Filmes de terror", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(terror),
+                CategoryJpaEntity.from(comedia),
+                CategoryJpaEntity.from(acao)
+        ));
+        searchGateway.reload();
+
+        final var actualResult = searchGateway.search(new SearchQuery(1, 2, "de", "name", "asc"));
+
+        assertAll(
+                () -> assertEquals(3, actualResult.total()),
+                () -> assertEquals(List.of(terror.getId()), actualResult.items())
+        );
+    }
+
+    @Test
+    public void givenAnUnaccentedPrefix_whenSearchesWithMatchPrefix_shouldOnlyMatchNameStarts() {
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        final var filmesDocumentais = Category.newCategory("Filmes documentais", "Documentários", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(documentarios),
+                CategoryJpaEntity.from(filmesDocumentais)
+        ));
+        searchGateway.reload();
+
+        final var actualResult = searchGateway.search(
+                new SearchQuery(0, 10, "documenta", "name", "asc", null, TotalMode.EXACT, MatchMode.PREFIX)
+        );
+
+        assertEquals(List.of(documentarios.getId()), actualResult.items());
+    }
+
+    @Test
+    public void givenSaveAndDeleteEvents_whenPendingChangesAreApplied_shouldReflectThem() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        searchGateway.reload();
+
+        searchGateway.onSaved(new CategorySavedEvent(series));
+        searchGateway.onSaved(new CategorySavedEvent(filmes));
+        searchGateway.applyPending();
+
+        final var query = new SearchQuery(0, 10, "es", "name", "asc");
+        assertEquals(List.of(filmes.getId(), series.getId()), searchGateway.search(query).items());
+
+        searchGateway.onSaved(new CategorySavedEvent(filmes.update("Zumbis", null, true)));
+        searchGateway.onDeleted(new CategoryDeletedEvent(series.getId()));
+        searchGateway.applyPending();
+
+        assertEquals(0, searchGateway.search(query).total());
+        assertEquals(1, searchGateway.search(new SearchQuery(0, 10, "zumbi", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenALoadedSnapshot_whenChecksSupport_shouldOnlyAcceptNameOrder() {
+        searchGateway.reload();
+
+        assertTrue(searchGateway.supports(new SearchQuery(0, 10, "filmes", "name", "desc")));
+        assertTrue(searchGateway.supports(new SearchQuery(0, 10, "filmes", "relevance", "desc")));
+        assertFalse(searchGateway.supports(new SearchQuery(0, 10, "filmes", "createdAt", "asc")));
+        assertFalse(searchGateway.supports(new SearchQuery(0, 10, "filmes", "name", "asc", "")));
+    }
+}
@@ -0,0 +1,80 @@
+package com.hartwig.catalog.admin.infrastructure.category.events;
+
+import com.hartwig.catalog.admin.MySQLGatewayTest;
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+public class CategoryCatchUpTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    public void givenWritesThatPublishedNoEventHere_whenCatchingUp_shouldReplayThemAsEvents() {
+        final var anHourAgo = InstantUtils.now().minus(Duration.ofHours(1));
+        final var kept = stored("Filmes", anHourAgo, anHourAgo);
+        final var renamed = stored("Séries", anHourAgo, anHourAgo);
+        final var removed = stored("Kids", anHourAgo, anHourAgo);
+
+        final var catchUp = new CategoryCatchUp(categoryRepository, events::add, Duration.ofSeconds(30));
+        catchUp.snapshot();
+
+        // written straight to the table, as another instance or CategoryLoader would
+        final var loaded = stored("Documentários", anHourAgo, anHourAgo);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(
+                Category.with(renamed.getId(), "Séries de TV", null, true, anHourAgo, InstantUtils.now(), null)
+        ));
+        categoryRepository.deleteById(removed.getId().toUUID().orElseThrow());
+        categoryRepository.flush();
+
+        catchUp.catchUp();
+
+        final var savedIds = events.stream()
+                .filter(CategorySavedEvent.class::isInstance)
+                .map(event -> ((CategorySavedEvent) event).category().getId())
+                .toList();
+        final var deletedIds = events.stream()
+                .filter(CategoryDeletedEvent.class::isInstance)
+                .map(event -> ((CategoryDeletedEvent) event).id())
+                .toList();
+
+        assertAll(
+                () -> assertEquals(List.of(renamed.getId(), loaded.getId()), savedIds),
+                () -> assertEquals(List.of(removed.getId()), deletedIds),
+                () -> assertFalse(savedIds.contains(kept.getId()))
+        );
+    }
+
+    @Test
+    public void givenNoWritesSinceTheLastPass_whenCatchingUp_shouldReplayNothing() {
+        final var anHourAgo = InstantUtils.now().minus(Duration.ofHours(1));
+        stored("Filmes", anHourAgo, anHourAgo);
+
+        final var catchUp = new CategoryCatchUp(categoryRepository, events::add, Duration.ofSeconds(30));
+        catchUp.snapshot();
+        catchUp.catchUp();
+
+        assertTrue(events.isEmpty());
+    }
+
+    private Category stored(final String aName, final Instant createdAt, final Instant updatedAt) {
+        final var aCategory = Category.with(CategoryID.unique(), aName, null, true, createdAt, updatedAt, null);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        return aCategory;
+    }
+}
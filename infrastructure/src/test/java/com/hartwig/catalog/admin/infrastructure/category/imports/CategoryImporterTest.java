@@ -0,0 +1,112 @@
+package com.hartwig.catalog.admin.infrastructure.category.imports;
+
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoriesCommand;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoriesOutput;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoriesUseCase;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoryError;
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoryRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CategoryImporterTest {
+
+    private final List<ImportCategoryRecord> upserted = new CopyOnWriteArrayList<>();
+
+    private ImportCategoriesUseCase useCase;
+    private CategoryImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        useCase = Mockito.mock(ImportCategoriesUseCase.class);
+        when(useCase.execute(any())).thenAnswer(invocation -> {
+            final ImportCategoriesCommand aCommand = invocation.getArgument(0);
+            upserted.addAll(aCommand.records());
+            return ImportCategoriesOutput.from(aCommand.records().size(), List.of());
+        });
+
+        importer = new CategoryImporter(useCase, 2, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importer.destroy();
+    }
+
+    @Test
+    public void givenNdjson_whenImports_shouldUpsertInChunksAndReportBadLines() {
+        final var body = """
+                {"id":"0180b7f3-9a4e-7c1d-8f6a-2b3c4d5e6f70","name":"Filmes","description":"A categoria mais assistida"}
+                {"name":"Séries","is_active":false}
+                {"name":
+
+                {"name":"Documentários","is_active":"yes"}
+                {"name":"Infantil"}
+                """;
+
+        final var errors = new ArrayList<ImportCategoryError>();
+        final var actualSummary = importer.importFrom(input(body), CategoryImportFormat.NDJSON, errors::add);
+
+        assertAll(
+                () -> assertEquals(new CategoryImportSummary(5, 3, 2), actualSummary),
+                () -> assertEquals(List.of(3L, 5L), errors.stream().map(ImportCategoryError::line).toList()),
+                () -> assertEquals("'is_active' must be a boolean", errors.get(1).errors().get(0).message()),
+                () -> assertEquals(List.of("Filmes", "Séries", "Infantil"), upserted.stream().map(ImportCategoryRecord::name).toList()),
+                () -> assertFalse(upserted.get(1).isActive()),
+                () -> assertEquals(6, upserted.get(2).line())
+        );
+        verify(useCase, times(2)).execute(any());
+    }
+
+    @Test
+    public void givenCsv_whenImports_shouldReadTheHeaderAndQuotedCells() {
+        final var body = """
+                id,name,description,is_active
+                ,Filmes,"A categoria, mais assistida",true
+                ,Séries,,0
+                ,Documentários,,talvez
+                """;
+
+        final var errors = new ArrayList<ImportCategoryError>();
+        final var actualSummary = importer.importFrom(input(body), CategoryImportFormat.CSV, errors::add);
+
+        assertAll(
+                () -> assertEquals(new CategoryImportSummary(3, 2, 1), actualSummary),
+                () -> assertEquals(4, errors.get(0).line()),
+                () -> assertEquals("A categoria, mais assistida", upserted.get(0).description()),
+                () -> assertNull(upserted.get(0).id()),
+                () -> assertFalse(upserted.get(1).isActive())
+        );
+    }
+
+    @Test
+    public void givenAnOverlongNdjsonLine_whenImports_shouldReportItAndKeepReading() {
+        final var body = "{\"name\":\"" + "x".repeat(NdjsonCategoryImportReader.MAX_LINE_LENGTH) + "\"}\r\n"
+                + "{\"name\":\"Filmes\"}\r\n";
+
+        final var errors = new ArrayList<ImportCategoryError>();
+        final var actualSummary = importer.importFrom(input(body), CategoryImportFormat.NDJSON, errors::add);
+
+        assertAll(
+                () -> assertEquals(new CategoryImportSummary(2, 1, 1), actualSummary),
+                () -> assertEquals(1, errors.get(0).line()),
+                () -> assertEquals("Line is longer than 65536 characters", errors.get(0).errors().get(0).message()),
+                () -> assertEquals(List.of("Filmes"), upserted.stream().map(ImportCategoryRecord::name).toList())
+        );
+    }
+
+    private static ByteArrayInputStream input(final String aBody) {
+        return new ByteArrayInputStream(aBody.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,75 @@
+package com.hartwig.catalog.admin.infrastructure.category.jobs;
+
+import com.hartwig.catalog.admin.application.category.bulk.BulkCategoryAction;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesCommand;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesOutput;
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesUseCase;
+import com.hartwig.catalog.admin.infrastructure.job.JobContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BulkChangeCategoriesTaskTest {
+
+    private BulkChangeCategoriesUseCase useCase;
+    private BulkChangeCategoriesTask task;
+
+    @BeforeEach
+    void setUp() {
+        useCase = Mockito.mock(BulkChangeCategoriesUseCase.class);
+        when(useCase.execute(any())).thenAnswer(invocation ->
+                BulkChangeCategoriesOutput.from(invocation.<BulkChangeCategoriesCommand>getArgument(0).ids().size()));
+        task = new BulkChangeCategoriesTask(useCase, 2);
+    }
+
+    @Test
+    public void givenIds_whenRuns_shouldCheckpointAfterEachChunk() {
+        final var context = new RecordingContext(null);
+        final var aPayload = new BulkChangeCategoriesCommand(BulkCategoryAction.DELETE, List.of("1", "2", "3", "4", "5"), null, null);
+
+        final var actualOutput = task.run(aPayload, context);
+
+        assertEquals(5, actualOutput.affected());
+        assertEquals(List.of("2:2", "4:4", "5:5"), context.checkpoints);
+        verify(useCase, times(3)).execute(any());
+    }
+
+    @Test
+    public void givenACheckpoint_whenRuns_shouldResumeAfterIt() {
+        final var context = new RecordingContext("4:4");
+        final var aPayload = new BulkChangeCategoriesCommand(BulkCategoryAction.DELETE, List.of("1", "2", "3", "4", "5"), null, null);
+
+        final var actualOutput = task.run(aPayload, context);
+
+        assertEquals(5, actualOutput.affected());
+        assertEquals(List.of("5:5"), context.checkpoints);
+        verify(useCase, times(1)).execute(argThat(cmd -> cmd.ids().equals(List.of("5"))));
+    }
+
+    private static class RecordingContext implements JobContext {
+
+        private final String initial;
+        private final List<String> checkpoints = new ArrayList<>();
+
+        RecordingContext(final String initial) {
+            this.initial = initial;
+        }
+
+        @Override
+        public String checkpoint() {
+            return initial;
+        }
+
+        @Override
+        public void checkpoint(final String aCheckpoint, final long processed, final Long total) {
+            checkpoints.add(aCheckpoint);
+        }
+    }
+}
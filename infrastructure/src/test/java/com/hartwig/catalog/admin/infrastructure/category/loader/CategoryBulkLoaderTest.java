@@ -0,0 +1,84 @@
+package com.hartwig.catalog.admin.infrastructure.category.loader;
+
+import com.hartwig.catalog.admin.application.category.imports.ImportCategoryError;
+import com.hartwig.catalog.admin.infrastructure.category.imports.CategoryImportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class CategoryBulkLoaderTest {
+
+    private static final Pattern INFILE = Pattern.compile("INFILE '([^']+)'");
+
+    private final List<String> loadedLines = new ArrayList<>();
+
+    private Connection connection;
+    private CategoryBulkLoader loader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final var dataSource = Mockito.mock(DataSource.class);
+        connection = Mockito.mock(Connection.class);
+        final var statement = Mockito.mock(Statement.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeLargeUpdate(anyString())).thenAnswer(invocation -> {
+            final var matcher = INFILE.matcher(invocation.<String>getArgument(0));
+            assertTrue(matcher.find());
+            loadedLines.addAll(Files.readAllLines(Path.of(matcher.group(1)), StandardCharsets.UTF_8));
+            // one of the rows is a duplicate the server skipped
+            return (long) loadedLines.size() - 1;
+        });
+
+        loader = new CategoryBulkLoader(dataSource);
+    }
+
+    @Test
+    public void givenACsvWithInvalidRows_whenCallsLoad_shouldLoadOnlyTheValidOnesAndReport() throws Exception {
+        final var csv = """
+                id,name,description,is_active
+                ,Filmes,"Com\ttab e \\ barra",true
+                ,,Sem nome,true
+                123,Séries,,true
+                ,Documentários,,false
+                """;
+
+        final var rejected = new ArrayList<ImportCategoryError>();
+        final var report = loader.load(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                CategoryImportFormat.CSV,
+                false,
+                rejected::add
+        );
+
+        assertAll(
+                () -> assertEquals(4, report.read()),
+                () -> assertEquals(2, report.rejected()),
+                () -> assertEquals(1, report.loaded()),
+                () -> assertEquals(1, report.duplicates()),
+                () -> assertEquals(List.of(3L, 4L), rejected.stream().map(ImportCategoryError::line).toList()),
+                () -> assertEquals(2, loadedLines.size()),
+                () -> assertEquals(9, loadedLines.get(0).split("\t", -1).length),
+                () -> assertTrue(loadedLines.get(0).contains("\tFilmes\tFILMES\tCom\\ttab e \\\\ barra\t1\t")),
+                () -> assertTrue(loadedLines.get(0).endsWith("\t\\N\t0")),
+                () -> assertTrue(loadedLines.get(1).matches("[0-9a-f]{32}\tDocumentários\t.*\t\\\\N\t0\t.+\t.+\t[0-9-]+ [0-9:.]+\t0"))
+        );
+        verify(connection).commit();
+    }
+}
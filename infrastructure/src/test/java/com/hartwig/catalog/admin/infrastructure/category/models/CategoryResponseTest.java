@@ -31,7 +31,8 @@ public class CategoryResponseTest {
                 expectedIsActive,
                 expectedCreatedAt,
                 expectedUpdatedAt,
-                expectedDeletedAt
+                expectedDeletedAt,
+                3L
         );
 
         final var actualJson = this.json.write(response);
@@ -43,7 +44,8 @@ public class CategoryResponseTest {
                 .hasJsonPathValue("$.is_active", expectedIsActive)
                 .hasJsonPathValue("$.created_at", expectedCreatedAt.toString())
                 .hasJsonPathValue("$.deleted_at", expectedDeletedAt.toString())
-                .hasJsonPathValue("$.updated_at", expectedUpdatedAt.toString());
+                .hasJsonPathValue("$.updated_at", expectedUpdatedAt.toString())
+                .hasJsonPathValue("$.version", 3);
     }
 
     @Test
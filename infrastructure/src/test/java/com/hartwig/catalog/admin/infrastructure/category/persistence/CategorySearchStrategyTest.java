@@ -0,0 +1,49 @@
+package com.hartwig.catalog.admin.infrastructure.category.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CategorySearchStrategyTest {
+
+    @Test
+    public void givenTerms_whenBuildsFullTextParameter_shouldRequireEveryWordAsPhrase() {
+        final var expectedParameter = "+\"mais\" +\"assistida\"";
+
+        final var actualParameter = CategorySearchStrategy.FULLTEXT.parameters("  mais \"assistida\" ").get("terms");
+
+        assertEquals(expectedParameter, actualParameter);
+    }
+
+    @Test
+    public void givenAWordShorterThanTheNgramSize_whenResolvesFullText_shouldFallbackToLike() {
+        assertEquals(CategorySearchStrategy.LIKE, CategorySearchStrategy.FULLTEXT.resolve("a filmes"));
+        assertEquals(CategorySearchStrategy.LIKE, CategorySearchStrategy.FULLTEXT.resolve("\"\""));
+        assertEquals(CategorySearchStrategy.FULLTEXT, CategorySearchStrategy.FULLTEXT.resolve("filmes"));
+    }
+
+    @Test
+    public void givenTerms_whenBuildsLikeParameter_shouldWrapUppercased() {
+        final var actualParameters = CategorySearchStrategy.LIKE.parameters("crianças");
+
+        assertEquals("%CRIANCAS%", actualParameters.get("terms"));
+        assertEquals("%CRIANÇAS%", actualParameters.get("description"));
+    }
+
+    @Test
+    public void givenAccentedTerms_whenBuildsPrefixParameter_shouldFoldAndEscapeWildcards() {
+        assertEquals("DOCUMENTARIOS%", CategorySearchStrategy.PREFIX.parameters(" documentários ").get("terms"));
+        assertEquals("100!% A!_Z%", CategorySearchStrategy.PREFIX.parameters("100% a_z").get("terms"));
+    }
+
+    @Test
+    public void givenARelevanceSort_whenBuildsOrderBy_shouldHonorTheDirection() {
+        assertEquals(
+                "MATCH(c.name, c.description) AGAINST (:terms IN BOOLEAN MODE) ASC, c.id",
+                CategoryRepositoryCustomImpl.orderBy(CategorySearchStrategy.FULLTEXT, Sort.by(Sort.Direction.ASC, "relevance"))
+        );
+        assertEquals("c.name ASC, c.id", CategoryRepositoryCustomImpl.orderBy(CategorySearchStrategy.LIKE, Sort.by(Sort.Direction.DESC, "relevance")));
+        assertEquals("c.name DESC, c.id", CategoryRepositoryCustomImpl.orderBy(CategorySearchStrategy.LIKE, Sort.by(Sort.Direction.ASC, "relevance")));
+    }
+}
@@ -0,0 +1,109 @@
+package com.hartwig.catalog.admin.infrastructure.category.search;
+
+import com.hartwig.catalog.admin.MySQLGatewayTest;
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategoryDeletedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategorySavedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = "category.search.index=lucene")
+public class CategoryLuceneGatewayTest {
+
+    @Autowired
+    private CategoryLuceneGateway searchGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    public void givenIndexedCategories_whenSearchesByRelevance_shouldRankNameMatchesFirst() throws IOException {
+        final var series = Category.newCategory("Séries", "Filmes divididos em episódios", true);
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var documentarios = Category.newCategory("Documentários", "Os melhores documentários", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(documentarios)
+        ));
+        searchGateway.rebuild();
+
+        final var actualResult = searchGateway.search(new SearchQuery(0, 10, "filmes", "relevance", "desc"));
+
+        assertEquals(2, actualResult.total());
+        assertEquals(List.of(filmes.getId(), series.getId()), actualResult.items());
+    }
+
+    @Test
+    public void givenAPrefixWithoutAccents_whenSearches_shouldMatchAccentedNames() throws IOException {
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(documentarios));
+        searchGateway.rebuild();
+
+        final var actualResult = searchGateway.search(new SearchQuery(0, 10, "documenta", "relevance", "desc"));
+
+        assertEquals(List.of(documentarios.getId()), actualResult.items());
+    }
+
+    @Test
+    public void givenManyMatches_whenSearchesSortedByName_shouldPaginateWithTotal() throws IOException {
+        final var acao = Category.newCategory("Filmes de ação", null, true);
+        final var comedia = Category.newCategory("Filmes de comédia", null, true);
+        final var terror = Category.newCategory("Filmes de terror", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(terror),
+                CategoryJpaEntity.from(acao),
+                CategoryJpaEntity.from(comedia)
+        ));
+        searchGateway.rebuild();
+
+        final var actualResult = searchGateway.search(new SearchQuery(1, 2, "filmes", "name", "asc"));
+
+        assertAll(
+                () -> assertEquals(1, actualResult.currentPage()),
+                () -> assertEquals(2, actualResult.perPage()),
+                () -> assertEquals(3, actualResult.total()),
+                () -> assertEquals(List.of(terror.getId()), actualResult.items())
+        );
+    }
+
+    @Test
+    public void givenSaveAndDeleteEvents_whenSearches_shouldReflectTheChanges() throws IOException {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        searchGateway.rebuild();
+
+        searchGateway.onSaved(new CategorySavedEvent(filmes));
+        searchGateway.refresh();
+
+        final var query = new SearchQuery(0, 10, "filmes", "relevance", "desc");
+        assertEquals(List.of(filmes.getId()), searchGateway.search(query).items());
+
+        searchGateway.onDeleted(new CategoryDeletedEvent(filmes.getId()));
+        searchGateway.refresh();
+
+        assertEquals(0, searchGateway.search(query).total());
+    }
+
+    @Test
+    public void givenARebuiltIndex_whenChecksSupport_shouldOnlyAcceptRankableSorts() throws IOException {
+        searchGateway.rebuild();
+
+        assertTrue(searchGateway.supports(new SearchQuery(0, 10, "filmes", "relevance", "desc")));
+        assertTrue(searchGateway.supports(new SearchQuery(0, 10, "filmes", "createdAt", "asc")));
+        assertFalse(searchGateway.supports(new SearchQuery(0, 10, "filmes", "description", "asc")));
+        assertFalse(searchGateway.supports(new SearchQuery(0, 10, "filmes", "name", "asc", "")));
+    }
+}
@@ -0,0 +1,318 @@
+package com.hartwig.catalog.admin.infrastructure.category.sharding;
+
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.category.CategoryFilter;
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.exceptions.ConflictException;
+import com.hartwig.catalog.admin.domain.exceptions.DomainException;
+import com.hartwig.catalog.admin.domain.pagination.MatchMode;
+import com.hartwig.catalog.admin.domain.pagination.SearchQuery;
+import com.hartwig.catalog.admin.domain.utils.InstantUtils;
+import com.hartwig.catalog.admin.infrastructure.category.CategoryCountCache;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategoryDeletedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.events.CategorySavedEvent;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategorySearchStrategy;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryShardRepository;
+import com.hartwig.catalog.admin.infrastructure.utils.UUIDUtils;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedCategoryGatewayTest {
+
+    private List<CategoryShardRepository> shards;
+    private ApplicationEventPublisher eventPublisher;
+    private ShardedCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        shards = IntStream.range(0, 3)
+                .mapToObj(i -> new CategoryShardRepository(database(), CategorySearchStrategy.LIKE))
+                .toList();
+        eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        gateway = new ShardedCategoryGateway(
+                shards,
+                new CategoryCountCache(Duration.ofSeconds(30), 100),
+                eventPublisher,
+                3,
+                2,
+                500,
+                20
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.destroy();
+    }
+
+    @Test
+    public void givenManyCategories_whenCallsCreateAll_shouldSpreadThemAcrossShards() {
+        final var categories = categories(30);
+
+        gateway.createAll(categories);
+
+        final var perShard = shards.stream().map(shard -> shard.countMatching(null, null)).toList();
+        assertEquals(30, perShard.stream().mapToLong(Long::longValue).sum());
+        assertTrue(perShard.stream().allMatch(count -> count > 0), "every shard should hold some rows: " + perShard);
+        categories.forEach(aCategory -> assertEquals(aCategory.getName(), gateway.findById(aCategory.getId()).orElseThrow().getName()));
+        assertEquals(30, gateway.findAllById(categories.stream().map(Category::getId).toList()).size());
+    }
+
+    @Test
+    public void givenKnownIds_whenCallsCreate_shouldStoreEachOnItsPinnedShard() {
+        // changing these breaks every sharded database already in use: rows would be looked up on the wrong shard
+        final var pinned = List.of(
+                "3f2504e0-4f89-11d3-9a0c-0305e82c3301",
+                "9b2e6f3a-1c4d-4e8a-b7f0-2d5c8a1e6b93",
+                "16fd2706-8baf-433b-82eb-8c7fada847da"
+        );
+
+        for (int expectedShard = 0; expectedShard < pinned.size(); expectedShard++) {
+            final var anId = UUID.fromString(pinned.get(expectedShard));
+            gateway.create(Category.with(CategoryID.from(anId), "Categoria " + expectedShard, null, true,
+                    InstantUtils.now(), InstantUtils.now(), null));
+
+            assertEquals(expectedShard, ShardedCategoryGateway.shardIndex(anId, 3));
+            for (int i = 0; i < shards.size(); i++) {
+                assertEquals(i == expectedShard, shards.get(i).findById(anId).isPresent(), "shard " + i + " for " + anId);
+            }
+        }
+        assertEquals(0, ShardedCategoryGateway.shardIndex(UUID.fromString(pinned.get(1)), 1));
+        assertEquals(1, ShardedCategoryGateway.shardIndex(UUID.fromString(pinned.get(1)), 2));
+    }
+
+    @Test
+    public void givenCategoriesOnEveryShard_whenCallsFindAll_shouldMergeSortAndSumTotals() {
+        gateway.createAll(categories(10));
+
+        final var secondPage = gateway.findAll(new SearchQuery(1, 3, "", "name", "asc"));
+        final var firstDescending = gateway.findAll(new SearchQuery(0, 2, "", "name", "desc"));
+        final var filtered = gateway.findAll(new SearchQuery(0, 10, "categoria 0", "createdAt", "asc"));
+
+        assertAll(
+                () -> assertEquals(List.of("Categoria 03", "Categoria 04", "Categoria 05"), names(secondPage.items())),
+                () -> assertEquals(10, secondPage.total()),
+                () -> assertTrue(secondPage.hasMore()),
+                () -> assertEquals(List.of("Categoria 09", "Categoria 08"), names(firstDescending.items())),
+                () -> assertEquals(10, filtered.total()),
+                () -> assertEquals(10, filtered.items().size())
+        );
+    }
+
+    @Test
+    public void givenACursor_whenPagingThroughAllShards_shouldVisitEveryCategoryInOrder() {
+        gateway.createAll(categories(10));
+
+        final var visited = new ArrayList<String>();
+        var aCursor = "";
+        do {
+            final var page = gateway.findAll(new SearchQuery(0, 4, "", "name", "asc", aCursor));
+            visited.addAll(names(page.items()));
+            aCursor = page.nextCursor();
+        } while (aCursor != null);
+
+        assertEquals(names(categories(10)), visited);
+    }
+
+    @Test
+    public void givenMixedCaseAndPunctuatedNamesOnEveryShard_whenPaging_shouldMergeInTheShardsOrder() {
+        // by code point of the search key: letters, then '[', '_' and '~', whatever the case or accents
+        final var expectedNames = List.of("ábaco", "abc", "Abd", "b", "zebra", "Zeta", "[y", "_x", "~z");
+        final var aNames = new ArrayList<>(expectedNames);
+        Collections.shuffle(aNames, new Random(42));
+        for (int i = 0; i < aNames.size(); i++) {
+            gateway.create(Category.with(CategoryID.from(idOnShard(i % shards.size())), aNames.get(i), null, true,
+                    InstantUtils.now(), InstantUtils.now(), null));
+        }
+
+        final var expectedDescending = new ArrayList<>(expectedNames);
+        Collections.reverse(expectedDescending);
+
+        final var byOffset = new ArrayList<String>();
+        for (int page = 0; page < 5; page++) {
+            byOffset.addAll(names(gateway.findAll(new SearchQuery(page, 2, "", "name", "asc")).items()));
+        }
+
+        assertAll(
+                () -> assertTrue(shards.stream().allMatch(shard -> shard.countMatching(null, null) == 3)),
+                () -> assertEquals(expectedNames, byOffset),
+                () -> assertEquals(expectedNames, namesByCursor("asc")),
+                () -> assertEquals(expectedDescending, namesByCursor("desc"))
+        );
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdate_shouldThrowConflict() {
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+
+        final var updated = gateway.update(aCategory.update("Séries", null, true));
+
+        assertEquals(1, updated.getVersion());
+        assertEquals("Séries", gateway.findById(aCategory.getId()).orElseThrow().getName());
+        assertThrows(ConflictException.class, () -> gateway.update(aCategory.update("Documentários", null, true)));
+    }
+
+    @Test
+    public void givenCategoriesOnEveryShard_whenCallsStreamAll_shouldVisitThemInIdOrder() {
+        gateway.createAll(categories(20));
+
+        final var ids = new ArrayList<byte[]>();
+        gateway.streamAll(aCategory -> ids.add(UUIDUtils.toBytes(UUID.fromString(aCategory.getId().getValue()))));
+
+        final var sorted = new ArrayList<>(ids);
+        sorted.sort(Arrays::compareUnsigned);
+        assertEquals(20, ids.size());
+        assertEquals(sorted, ids);
+    }
+
+    @Test
+    public void givenIdsOnBothSidesOfTheSignBit_whenCallsStreamAll_shouldOrderThemAsUnsignedBytes() {
+        final var expectedIds = List.of(
+                "00000000-0000-4000-8000-000000000001",
+                "7fffffff-ffff-4fff-bfff-ffffffffffff",
+                "80000000-0000-4000-8000-000000000000",
+                "ffffffff-ffff-4fff-bfff-ffffffffffff"
+        );
+        expectedIds.forEach(anId -> gateway.create(Category.with(CategoryID.from(anId), "Categoria " + anId, null, true,
+                InstantUtils.now(), InstantUtils.now(), null)));
+
+        final var actualIds = new ArrayList<String>();
+        gateway.streamAll(aCategory -> actualIds.add(aCategory.getId().getValue()));
+
+        assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void givenAPageDeeperThanTheMaxOffset_whenCallsFindAll_shouldAskForACursor() {
+        gateway.createAll(categories(10));
+
+        assertTrue(gateway.findAll(new SearchQuery(4, 5, "", "name", "asc")).items().isEmpty());
+        final var actualException = assertThrows(DomainException.class,
+                () -> gateway.findAll(new SearchQuery(5, 5, "", "name", "asc")));
+
+        assertEquals("Pages past the first 20 categories are only served with a cursor", actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnEmptyCursorPage_whenCallsFindAll_shouldThrowDomainException() {
+        gateway.createAll(categories(3));
+        final var aCursor = gateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).nextCursor();
+
+        final var actualException = assertThrows(DomainException.class,
+                () -> gateway.findAll(new SearchQuery(0, 0, "", "name", "asc", aCursor)));
+
+        assertEquals("'perPage' must be greater than 0 when paginating with a cursor", actualException.getMessage());
+    }
+
+    @Test
+    public void givenAFilter_whenCallsDeleteAll_shouldDeleteOnEveryShard() {
+        gateway.createAll(categories(10));
+        gateway.create(Category.newCategory("Filmes", null, true));
+
+        final var deleted = gateway.deleteAll(CategoryFilter.matching("categoria", MatchMode.PREFIX));
+
+        assertEquals(10, deleted);
+        assertEquals(1, gateway.findAll(new SearchQuery(0, 10, "", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenIdsAlreadyGone_whenCallsDeleteAllAndDeactivateAll_shouldOnlyPublishTheChangedRows() {
+        final var kept = Category.newCategory("Filmes", null, true);
+        final var inactive = Category.newCategory("Séries", null, false);
+        final var removed = Category.newCategory("Documentários", null, true);
+        gateway.createAll(List.of(kept, inactive, removed));
+        gateway.deleteById(removed.getId());
+        Mockito.clearInvocations(eventPublisher);
+
+        final var deactivated = gateway.deactivateAll(CategoryFilter.byIds(List.of(kept.getId(), inactive.getId(), removed.getId())));
+
+        assertEquals(1, deactivated);
+        Mockito.verify(eventPublisher).publishEvent(Mockito.argThat((Object event) -> event instanceof CategorySavedEvent saved
+                && saved.category().getId().equals(kept.getId())
+                && !saved.category().isActive()
+                && saved.category().getVersion() == kept.getVersion() + 1));
+        Mockito.verifyNoMoreInteractions(eventPublisher);
+
+        final var deleted = gateway.deleteAll(CategoryFilter.byIds(List.of(kept.getId(), removed.getId())));
+
+        assertEquals(1, deleted);
+        Mockito.verify(eventPublisher).publishEvent(new CategoryDeletedEvent(kept.getId()));
+        Mockito.verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    public void givenAnExistingCategory_whenCallsUpsertAll_shouldPublishTheStoredRow() {
+        final var stored = Category.newCategory("Filmes", null, false);
+        gateway.createAll(List.of(stored));
+        Mockito.clearInvocations(eventPublisher);
+
+        final var imported = Category.with(stored.getId(), "Filmes", "Atualizada", false,
+                stored.getCreatedAt().plusSeconds(60), stored.getUpdatedAt().plusSeconds(60), stored.getUpdatedAt().plusSeconds(60));
+        gateway.upsertAll(List.of(imported));
+
+        Mockito.verify(eventPublisher).publishEvent(Mockito.argThat((Object event) -> event instanceof CategorySavedEvent saved
+                && "Atualizada".equals(saved.category().getDescription())
+                && saved.category().getCreatedAt().equals(stored.getCreatedAt())
+                && saved.category().getDeletedAt().equals(stored.getDeletedAt())
+                && saved.category().getVersion() == 1));
+    }
+
+    private static List<Category> categories(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Category.newCategory("Categoria %02d".formatted(i), null, true))
+                .toList();
+    }
+
+    private List<String> namesByCursor(final String aDirection) {
+        final var visited = new ArrayList<String>();
+        var aCursor = "";
+        do {
+            final var page = gateway.findAll(new SearchQuery(0, 2, "", "name", aDirection, aCursor));
+            visited.addAll(names(page.items()));
+            aCursor = page.nextCursor();
+        } while (aCursor != null);
+        return visited;
+    }
+
+    private UUID idOnShard(final int aShard) {
+        var anId = UUID.randomUUID();
+        while (ShardedCategoryGateway.shardIndex(anId, shards.size()) != aShard) {
+            anId = UUID.randomUUID();
+        }
+        return anId;
+    }
+
+    private static List<String> names(final List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+
+    private static DriverManagerDataSource database() {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:shard_" + UUID.randomUUID() + ";MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "root",
+                "123456"
+        );
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+        return dataSource;
+    }
+}
@@ -0,0 +1,93 @@
+package com.hartwig.catalog.admin.infrastructure.category.suggest;
+
+import com.hartwig.catalog.admin.domain.category.CategoryID;
+import com.hartwig.catalog.admin.domain.category.CategorySuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategoryNameTrieTest {
+
+    @Test
+    public void givenNames_whenSuggestsByPrefix_shouldReturnMatchesInNameOrder() {
+        final var trie = new CategoryNameTrie();
+        final var filmesDeTerror = CategoryID.from("1");
+        final var filmes = CategoryID.from("2");
+        final var series = CategoryID.from("3");
+
+        trie.put(filmesDeTerror, "Filmes de terror");
+        trie.put(filmes, "Filmes");
+        trie.put(series, "Séries");
+
+        final var actualResult = trie.suggest("fil", 10);
+
+        assertEquals(List.of(
+                new CategorySuggestion(filmes, "Filmes"),
+                new CategorySuggestion(filmesDeTerror, "Filmes de terror")
+        ), actualResult);
+    }
+
+    @Test
+    public void givenAPrefixOfAnInnerWord_whenSuggests_shouldMatchThatWord() {
+        final var trie = new CategoryNameTrie();
+        final var expectedId = CategoryID.from("1");
+
+        trie.put(expectedId, "Filmes de terror");
+
+        assertEquals(List.of(new CategorySuggestion(expectedId, "Filmes de terror")), trie.suggest("terr", 10));
+    }
+
+    @Test
+    public void givenATypoAndNoAccents_whenSuggests_shouldStillMatch() {
+        final var trie = new CategoryNameTrie();
+        final var documentarios = CategoryID.from("1");
+        final var series = CategoryID.from("2");
+
+        trie.put(documentarios, "Documentários");
+        trie.put(series, "Séries");
+
+        assertEquals(List.of(new CategorySuggestion(documentarios, "Documentários")), trie.suggest("docuemntarios", 10));
+        assertEquals(List.of(new CategorySuggestion(series, "Séries")), trie.suggest("serie", 10));
+    }
+
+    @Test
+    public void givenExactAndFuzzyMatches_whenSuggests_shouldRankExactFirst() {
+        final var trie = new CategoryNameTrie();
+        final var exact = CategoryID.from("1");
+        final var fuzzy = CategoryID.from("2");
+
+        trie.put(fuzzy, "Filmes");
+        trie.put(exact, "Filme");
+
+        assertEquals(exact, trie.suggest("filme", 10).get(0).id());
+        assertEquals(List.of(new CategorySuggestion(exact, "Filme")), trie.suggest("filme", 1));
+    }
+
+    @Test
+    public void givenAShortPrefix_whenSuggests_shouldNotTolerateTypos() {
+        final var trie = new CategoryNameTrie();
+        trie.put(CategoryID.from("1"), "Filmes");
+
+        assertTrue(trie.suggest("fo", 10).isEmpty());
+    }
+
+    @Test
+    public void givenARenamedAndARemovedCategory_whenSuggests_shouldReflectTheChanges() {
+        final var trie = new CategoryNameTrie();
+        final var filmes = CategoryID.from("1");
+        final var series = CategoryID.from("2");
+
+        trie.put(filmes, "Filmes");
+        trie.put(series, "Séries");
+
+        trie.put(filmes, "Cinema");
+        trie.remove(series);
+
+        assertTrue(trie.suggest("fil", 10).isEmpty());
+        assertTrue(trie.suggest("ser", 10).isEmpty());
+        assertEquals(List.of(new CategorySuggestion(filmes, "Cinema")), trie.suggest("cine", 10));
+        assertEquals(1, trie.size());
+    }
+}
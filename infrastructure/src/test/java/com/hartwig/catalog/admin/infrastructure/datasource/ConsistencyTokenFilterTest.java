@@ -0,0 +1,71 @@
+package com.hartwig.catalog.admin.infrastructure.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConsistencyTokenFilterTest {
+
+    // H2 has no GTIDs, so these run on the time token fallback
+    private final DriverManagerDataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:consistency_token", "sa", "");
+    private final ConsistencyTokenFilter filter = new ConsistencyTokenFilter(new ReplicaPosition(h2, h2, Duration.ofSeconds(2)));
+
+    @Test
+    public void givenASuccessfulWrite_whenFiltered_shouldReturnAToken() throws Exception {
+        final var response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/categories"), response, (req, res) -> {
+            ((HttpServletResponse) res).setStatus(201);
+            res.getWriter().write("{}");
+        });
+
+        assertNotNull(response.getHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN));
+    }
+
+    @Test
+    public void givenAFailedWrite_whenFiltered_shouldNotReturnAToken() throws Exception {
+        final var response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("PUT", "/categories/1"), response,
+                (req, res) -> ((HttpServletResponse) res).setStatus(422));
+
+        assertNull(response.getHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN));
+    }
+
+    @Test
+    public void givenARecentToken_whenReading_shouldPinTheRequestToThePrimary() throws Exception {
+        final var write = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/categories/1"), write,
+                (req, res) -> ((HttpServletResponse) res).setStatus(204));
+
+        final var read = new MockHttpServletRequest("GET", "/categories/1");
+        read.addHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN, write.getHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN));
+
+        assertFalse(replicaAllowedDuring(read));
+        assertTrue(ReadRouting.onReplica(ReadRouting::isReplicaAllowed));
+    }
+
+    @Test
+    public void givenAnOldOrInvalidToken_whenReading_shouldAllowTheReplica() throws Exception {
+        final var old = new MockHttpServletRequest("GET", "/categories/1");
+        old.addHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN, "0");
+        final var invalid = new MockHttpServletRequest("GET", "/categories/1");
+        invalid.addHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN, "abc");
+
+        assertTrue(replicaAllowedDuring(old));
+        assertTrue(replicaAllowedDuring(invalid));
+    }
+
+    private boolean replicaAllowedDuring(final MockHttpServletRequest request) throws Exception {
+        final var allowed = new AtomicBoolean();
+        final FilterChain chain = (req, res) -> allowed.set(ReadRouting.onReplica(ReadRouting::isReplicaAllowed));
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return allowed.get();
+    }
+}
@@ -0,0 +1,99 @@
+package com.hartwig.catalog.admin.infrastructure.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class ReplicaPositionTest {
+
+    private static final String PRIMARY_GTIDS = "3e11fa47-71ca-11e1-9e33-c80aa9429562:1-77,\n"
+            + "4f22fa47-71ca-11e1-9e33-c80aa9429562:1-5";
+
+    private ResultSet primaryRows;
+    private PreparedStatement replicaStatement;
+    private ResultSet replicaRows;
+    private ReplicaPosition position;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final var primary = Mockito.mock(DataSource.class);
+        final var primaryConnection = Mockito.mock(Connection.class);
+        final var metaData = Mockito.mock(DatabaseMetaData.class);
+        final var primaryStatement = Mockito.mock(Statement.class);
+        primaryRows = Mockito.mock(ResultSet.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(primaryConnection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("MySQL");
+        when(primaryConnection.createStatement()).thenReturn(primaryStatement);
+        when(primaryStatement.executeQuery("SELECT @@GLOBAL.gtid_executed")).thenReturn(primaryRows);
+        when(primaryRows.next()).thenReturn(true);
+        when(primaryRows.getString(1)).thenReturn(PRIMARY_GTIDS);
+
+        final var replica = Mockito.mock(DataSource.class);
+        final var replicaConnection = Mockito.mock(Connection.class);
+        replicaStatement = Mockito.mock(PreparedStatement.class);
+        replicaRows = Mockito.mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.prepareStatement(anyString())).thenReturn(replicaStatement);
+        when(replicaStatement.executeQuery()).thenReturn(replicaRows);
+        when(replicaRows.next()).thenReturn(true);
+
+        position = new ReplicaPosition(primary, replica, Duration.ofSeconds(2));
+    }
+
+    @Test
+    public void givenMySQLWithGtids_whenCallsCurrent_shouldReturnThePrimarysGtidSetOnOneLine() {
+        assertEquals(
+                "gtid:3e11fa47-71ca-11e1-9e33-c80aa9429562:1-77,4f22fa47-71ca-11e1-9e33-c80aa9429562:1-5",
+                position.current()
+        );
+    }
+
+    @Test
+    public void givenMySQLWithoutGtids_whenCallsCurrent_shouldFallBackToATimeToken() throws Exception {
+        when(primaryRows.getString(1)).thenReturn("");
+
+        assertTrue(position.current().matches("\\d+"));
+    }
+
+    @Test
+    public void givenAGtidToken_whenTheReplicaHasAppliedIt_shouldBeCaughtUp() throws Exception {
+        when(replicaRows.getBoolean(1)).thenReturn(true);
+
+        assertTrue(position.isCaughtUp(position.current()));
+        verify(replicaStatement).setString(1,
+                "3e11fa47-71ca-11e1-9e33-c80aa9429562:1-77,4f22fa47-71ca-11e1-9e33-c80aa9429562:1-5");
+    }
+
+    @Test
+    public void givenAGtidToken_whenTheReplicaIsBehindOrUnreachable_shouldNotBeCaughtUp() throws Exception {
+        final var aToken = position.current();
+
+        when(replicaRows.getBoolean(1)).thenReturn(false);
+        assertFalse(position.isCaughtUp(aToken));
+
+        when(replicaStatement.executeQuery()).thenThrow(new SQLException("replica is down"));
+        assertFalse(position.isCaughtUp(aToken));
+    }
+
+    @Test
+    public void givenATimeOrUnreadableToken_whenCallsIsCaughtUp_shouldUseTheMaxLag() {
+        assertFalse(position.isCaughtUp(Long.toString(System.currentTimeMillis())));
+        assertTrue(position.isCaughtUp("0"));
+        assertTrue(position.isCaughtUp("abc"));
+        assertTrue(position.isCaughtUp(null));
+    }
+}
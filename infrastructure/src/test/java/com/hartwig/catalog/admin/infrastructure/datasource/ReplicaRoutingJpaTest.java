@@ -0,0 +1,117 @@
+package com.hartwig.catalog.admin.infrastructure.datasource;
+
+import com.hartwig.catalog.admin.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.hartwig.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.hartwig.catalog.admin.domain.category.Category;
+import com.hartwig.catalog.admin.domain.exceptions.NotFoundException;
+import com.hartwig.catalog.admin.infrastructure.category.CategoryCountCache;
+import com.hartwig.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import com.hartwig.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.hartwig.catalog.admin.infrastructure.utils.UUIDUtils;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// the routing through JpaTransactionManager and Hibernate, as the application runs it: the replica is a second H2
+// database that never receives the writes, so whatever a read finds tells which one answered
+@ActiveProfiles("test-integration")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ReplicaRoutingJpaTest.Databases.class)
+public class ReplicaRoutingJpaTest {
+
+    private static final DataSource PRIMARY = database("primary");
+    private static final DataSource REPLICA = database("replica");
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CategoryMySQLGateway categoryGateway;
+    private GetCategoryByIdUseCase useCase;
+
+    @TestConfiguration
+    static class Databases {
+
+        @Bean
+        @Primary
+        DataSource dataSource() {
+            Flyway.configure()
+                    .dataSource(REPLICA)
+                    .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                    .load()
+                    .migrate();
+            return new LazyConnectionDataSourceProxy(new RoutingDataSource(PRIMARY, REPLICA));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = new CategoryMySQLGateway(
+                categoryRepository,
+                new CategoryCountCache(Duration.ofSeconds(30), 1000),
+                Mockito.mock(ApplicationEventPublisher.class),
+                500,
+                500
+        );
+        useCase = new DefaultGetCategoryByIdUseCase(categoryGateway);
+    }
+
+    @Test
+    public void givenAJpaRead_whenRunOnReplica_shouldBeAnsweredByTheReplicaUnlessPinned() {
+        assertInstanceOf(JpaTransactionManager.class, transactionManager);
+
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var anId = aCategory.getId().getValue();
+
+        // written to the primary only: the replica has not seen it yet
+        assertThrows(NotFoundException.class, () -> ReadRouting.onReplica(() -> useCase.execute(anId)));
+
+        ReadRouting.pinToPrimary();
+        try {
+            assertEquals("Filmes", ReadRouting.onReplica(() -> useCase.execute(anId)).name());
+        } finally {
+            ReadRouting.unpin();
+        }
+
+        new JdbcTemplate(REPLICA).update("""
+                INSERT INTO category (id, name, name_normalized, description, active, created_at, updated_at, deleted_at, version)
+                VALUES (?, 'Filmes na réplica', 'FILMES NA REPLICA', NULL, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, NULL, 0)
+                """, (Object) UUIDUtils.toBytes(UUID.fromString(anId)));
+
+        assertEquals("Filmes na réplica", ReadRouting.onReplica(() -> useCase.execute(anId)).name());
+        assertEquals("Filmes", useCase.execute(anId).name());
+    }
+
+    private static DataSource database(final String aName) {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:replica_routing_" + aName + ";MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "root", "123456");
+    }
+}
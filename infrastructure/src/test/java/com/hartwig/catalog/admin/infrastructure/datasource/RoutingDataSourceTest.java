@@ -0,0 +1,73 @@
+package com.hartwig.catalog.admin.infrastructure.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoutingDataSourceTest {
+
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        final var primary = database("primary");
+        final var replica = database("replica");
+
+        final var dataSource = new LazyConnectionDataSourceProxy(new RoutingDataSource(primary, replica));
+        final var transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbc = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    public void givenAReadOnlyTransactionOnReplica_whenQueried_shouldUseTheReplica() {
+        assertEquals("replica", ReadRouting.onReplica(() -> readOnly.execute(status -> whoAmI())));
+    }
+
+    @Test
+    public void givenAWriteTransactionOnReplica_whenQueried_shouldUseThePrimary() {
+        assertEquals("primary", ReadRouting.onReplica(() -> readWrite.execute(status -> whoAmI())));
+    }
+
+    @Test
+    public void givenAReadOnlyTransactionOutsideOnReplica_whenQueried_shouldUseThePrimary() {
+        assertEquals("primary", readOnly.execute(status -> whoAmI()));
+    }
+
+    @Test
+    public void givenAPinnedRequest_whenQueriedOnReplica_shouldUseThePrimary() {
+        ReadRouting.pinToPrimary();
+        try {
+            assertEquals("primary", ReadRouting.onReplica(() -> readOnly.execute(status -> whoAmI())));
+        } finally {
+            ReadRouting.unpin();
+        }
+    }
+
+    private String whoAmI() {
+        return jdbc.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private static DataSource database(final String aName) {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + aName + ";DB_CLOSE_DELAY=-1", "sa", "");
+        final var jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS whoami (name VARCHAR(16))");
+        jdbc.execute("DELETE FROM whoami");
+        jdbc.update("INSERT INTO whoami VALUES (?)", aName);
+        return dataSource;
+    }
+}
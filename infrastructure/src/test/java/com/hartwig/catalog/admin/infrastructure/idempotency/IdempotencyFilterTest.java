@@ -0,0 +1,197 @@
+package com.hartwig.catalog.admin.infrastructure.idempotency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private IdempotencyStore store;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(null, Duration.ofHours(1), Duration.ofMinutes(1), 100, 1024 * 1024, Duration.ofHours(1));
+        filter = new IdempotencyFilter(store, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.destroy();
+    }
+
+    @Test
+    public void givenARetriedCreate_whenFiltered_shouldReplayTheFirstResponseWithoutRunningAgain() throws Exception {
+        final var first = perform(request("key-1", "{\"name\":\"Filmes\"}"), created());
+        final var retry = perform(request("key-1", "{\"name\":\"Filmes\"}"), created());
+
+        assertAll(
+                () -> assertEquals(1, executions.get()),
+                () -> assertEquals(201, retry.getStatus()),
+                () -> assertEquals(first.getContentAsString(), retry.getContentAsString()),
+                () -> assertEquals("/categories/1", retry.getHeader("Location")),
+                () -> assertEquals("true", retry.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)),
+                () -> assertNull(first.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED))
+        );
+    }
+
+    @Test
+    public void givenAReusedKeyWithAnotherBody_whenFiltered_shouldRejectIt() throws Exception {
+        perform(request("key-1", "{\"name\":\"Filmes\"}"), created());
+        final var actualResponse = perform(request("key-1", "{\"name\":\"Séries\"}"), created());
+
+        assertAll(
+                () -> assertEquals(1, executions.get()),
+                () -> assertEquals(422, actualResponse.getStatus()),
+                () -> assertTrue(actualResponse.getContentAsString().contains("was already used for a different request"))
+        );
+    }
+
+    @Test
+    public void givenAReusedKeyWithAnotherQuery_whenFiltered_shouldRejectIt() throws Exception {
+        final var first = request("key-1", "{}");
+        first.setQueryString("dryRun=true");
+        final var second = request("key-1", "{}");
+        second.setQueryString("dryRun=false");
+
+        perform(first, created());
+        final var actualResponse = perform(second, created());
+
+        assertAll(
+                () -> assertEquals(1, executions.get()),
+                () -> assertEquals(422, actualResponse.getStatus())
+        );
+    }
+
+    @Test
+    public void givenAnAsyncReader_whenFiltered_shouldBeHandedTheWholeBody() throws Exception {
+        final var read = new ByteArrayOutputStream();
+        final var finished = new AtomicBoolean();
+
+        final var actualResponse = perform(request("key-1", "{\"name\":\"Filmes\"}"), (request, response) -> {
+            final var input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (input.isReady() && !input.isFinished()) {
+                        read.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    finished.set(true);
+                }
+
+                @Override
+                public void onError(final Throwable t) {
+                    fail(t);
+                }
+            });
+            ((HttpServletResponse) response).setStatus(204);
+        });
+
+        assertAll(
+                () -> assertEquals(204, actualResponse.getStatus()),
+                () -> assertEquals("{\"name\":\"Filmes\"}", read.toString(StandardCharsets.UTF_8)),
+                () -> assertTrue(finished.get())
+        );
+    }
+
+    @Test
+    public void givenAServerError_whenRetried_shouldRunAgain() throws Exception {
+        perform(request("key-1", "{}"), (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        });
+        final var retry = perform(request("key-1", "{}"), created());
+
+        assertEquals(2, executions.get());
+        assertEquals(201, retry.getStatus());
+    }
+
+    @Test
+    public void givenAConcurrentDuplicate_whenFiltered_shouldWaitForTheOriginal() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        final FilterChain slow = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            created().doFilter(request, response);
+        };
+
+        final var original = CompletableFuture.supplyAsync(() -> performQuietly(request("key-1", "{}"), slow));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final var duplicate = CompletableFuture.supplyAsync(() -> performQuietly(request("key-1", "{}"), created()));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertAll(
+                () -> assertEquals(201, original.join().getStatus()),
+                () -> assertEquals(201, duplicate.join().getStatus()),
+                () -> assertEquals("true", duplicate.join().getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)),
+                () -> assertEquals(1, executions.get())
+        );
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            final var body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+            final var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setHeader("Location", "/categories/1");
+            httpResponse.setContentType("application/json");
+            httpResponse.getWriter().write("{\"id\":\"1\",\"echo\":" + (body.isEmpty() ? "null" : body) + "}");
+        };
+    }
+
+    private static MockHttpServletRequest request(final String aKey, final String aBody) {
+        final var request = new MockHttpServletRequest("POST", "/categories");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, aKey);
+        request.setContentType("application/json");
+        request.setContent(aBody.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private MockHttpServletResponse perform(final MockHttpServletRequest request, final FilterChain chain)
+            throws Exception {
+        final var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse performQuietly(final MockHttpServletRequest request, final FilterChain chain) {
+        try {
+            return perform(request, chain);
+        } catch (final Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.hartwig.catalog.admin.infrastructure.idempotency;
+
+import com.hartwig.catalog.admin.infrastructure.idempotency.persistence.IdempotencyKeyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// two stores over the same idempotency_keys table stand for two instances; each call commits on its own, as it does
+// behind the filter
+@ActiveProfiles("test-integration")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class IdempotencyStoreJpaTest {
+
+    private static final String FINGERPRINT = "a".repeat(64);
+    private static final String OTHER_FINGERPRINT = "b".repeat(64);
+
+    @Autowired
+    private IdempotencyKeyRepository repository;
+
+    private final List<IdempotencyStore> stores = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stores.forEach(IdempotencyStore::destroy);
+    }
+
+    @Test
+    public void givenAKeyReservedOnOneInstance_whenReservedOnAnother_shouldOnlyLetTheFirstRun() throws Exception {
+        final var first = store(Duration.ofMinutes(1));
+        final var second = store(Duration.ofMinutes(1));
+
+        assertTrue(first.reserve("key-1", FINGERPRINT));
+        assertFalse(second.reserve("key-1", FINGERPRINT));
+        assertTrue(second.find("key-1").get().isPending());
+        assertTrue(second.await("key-1", FINGERPRINT, 200).isEmpty());
+
+        first.save("key-1", FINGERPRINT, 201, "application/json", "/categories/1", null, "{}".getBytes());
+        final var actualResponse = second.await("key-1", FINGERPRINT, 200);
+
+        assertAll(
+                () -> assertFalse(second.reserve("key-1", FINGERPRINT)),
+                () -> assertEquals(201, actualResponse.get().status()),
+                () -> assertEquals("/categories/1", actualResponse.get().location()),
+                () -> assertFalse(actualResponse.get().isPending())
+        );
+    }
+
+    @Test
+    public void givenAReservationForAnotherRequest_whenAwaited_shouldReturnItAtOnce() throws Exception {
+        final var first = store(Duration.ofMinutes(1));
+        final var second = store(Duration.ofMinutes(1));
+
+        assertTrue(first.reserve("key-1", FINGERPRINT));
+
+        assertEquals(FINGERPRINT, second.await("key-1", OTHER_FINGERPRINT, 5_000).get().fingerprint());
+    }
+
+    @Test
+    public void givenAReleasedOrAbandonedReservation_whenReservedAgain_shouldBeTakenOver() {
+        final var released = store(Duration.ofMinutes(1));
+        final var abandoned = store(Duration.ofMinutes(-1));
+        final var other = store(Duration.ofMinutes(1));
+
+        assertTrue(released.reserve("key-1", FINGERPRINT));
+        released.release("key-1");
+        assertTrue(abandoned.reserve("key-2", FINGERPRINT));
+
+        assertAll(
+                () -> assertTrue(other.reserve("key-1", FINGERPRINT)),
+                () -> assertTrue(other.reserve("key-2", FINGERPRINT))
+        );
+    }
+
+    @Test
+    public void givenADuplicateOnAnotherInstance_whenFiltered_shouldWaitForTheOriginalInsteadOfRunning() throws Exception {
+        final var executions = new AtomicInteger();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        final FilterChain slow = (request, response) -> {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) response).setStatus(201);
+            response.getWriter().write("{\"id\":\"1\"}");
+        };
+        final FilterChain fast = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        final var firstInstance = new IdempotencyFilter(store(Duration.ofMinutes(1)), Duration.ofSeconds(5));
+        final var secondInstance = new IdempotencyFilter(store(Duration.ofMinutes(1)), Duration.ofSeconds(5));
+
+        final var original = CompletableFuture.supplyAsync(() -> perform(firstInstance, slow));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final var duplicate = CompletableFuture.supplyAsync(() -> perform(secondInstance, fast));
+        Thread.sleep(150);
+        release.countDown();
+
+        assertAll(
+                () -> assertEquals(201, original.join().getStatus()),
+                () -> assertEquals(201, duplicate.join().getStatus()),
+                () -> assertEquals("{\"id\":\"1\"}", duplicate.join().getContentAsString()),
+                () -> assertEquals("true", duplicate.join().getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)),
+                () -> assertEquals(1, executions.get())
+        );
+    }
+
+    private IdempotencyStore store(final Duration aLease) {
+        final var aStore = new IdempotencyStore(repository, Duration.ofHours(1), aLease, 100, 1024 * 1024, Duration.ofHours(1));
+        stores.add(aStore);
+        return aStore;
+    }
+
+    private static MockHttpServletResponse perform(final IdempotencyFilter filter, final FilterChain chain) {
+        final var request = new MockHttpServletRequest("POST", "/categories");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, "key-1");
+        request.setContentType("application/json");
+        request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+        final var response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (final Exception ex) {
+            throw new RuntimeException(ex);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hartwig.catalog.admin.infrastructure.idempotency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(null, Duration.ofHours(1), Duration.ofMinutes(1), 100, 10, Duration.ofHours(1));
+
+    @AfterEach
+    void tearDown() {
+        store.destroy();
+    }
+
+    @Test
+    public void givenBodiesOverTheByteBudget_whenSaving_shouldEvictTheLeastRecentlyUsed() {
+        store.save("key-1", "a", 201, null, null, null, new byte[4]);
+        store.save("key-2", "b", 201, null, null, null, new byte[4]);
+        store.find("key-1");
+        store.save("key-3", "c", 201, null, null, null, new byte[4]);
+
+        assertAll(
+                () -> assertTrue(store.find("key-1").isPresent()),
+                () -> assertTrue(store.find("key-2").isEmpty()),
+                () -> assertTrue(store.find("key-3").isPresent())
+        );
+    }
+
+    @Test
+    public void givenABodyLargerThanTheBudget_whenSaving_shouldNotKeepItInMemory() {
+        store.save("key-1", "a", 201, null, null, null, new byte[4]);
+        store.save("key-2", "b", 201, null, null, null, new byte[11]);
+
+        assertAll(
+                () -> assertTrue(store.find("key-1").isPresent()),
+                () -> assertTrue(store.find("key-2").isEmpty())
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.hartwig.catalog.admin.infrastructure.job;
+
+import com.hartwig.catalog.admin.application.category.bulk.BulkChangeCategoriesCommand;
+import com.hartwig.catalog.admin.domain.validation.handler.Notification;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobDefinitionTest {
+
+    private final JobDefinition<BulkChangeCategoriesCommand> definition = JobDefinition.resumable(
+            "category.bulk-change",
+            BulkChangeCategoriesCommand.class,
+            (aPayload, aContext) -> null
+    );
+
+    @Test
+    public void givenAPayloadTheTaskCanRead_whenCallsValidate_shouldReportNothing() {
+        final var notification = Notification.create();
+
+        definition.validate("{\"action\":\"DELETE\",\"ids\":[\"1\"]}", notification);
+
+        assertFalse(notification.hasError());
+    }
+
+    @Test
+    public void givenAPayloadTheTaskCannotRead_whenCallsValidate_shouldReportIt() {
+        final var malformed = Notification.create();
+        final var unknownAction = Notification.create();
+        final var nothing = Notification.create();
+
+        definition.validate("{\"action\":", malformed);
+        definition.validate("{\"action\":\"EXPLODE\"}", unknownAction);
+        definition.validate("null", nothing);
+
+        assertAll(
+                () -> assertTrue(malformed.firstError().message()
+                        .startsWith("'payload' is not a valid category.bulk-change payload: ")),
+                () -> assertTrue(unknownAction.firstError().message()
+                        .startsWith("'payload' is not a valid category.bulk-change payload: ")),
+                () -> assertEquals("'payload' should not be null", nothing.firstError().message())
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package com.hartwig.catalog.admin.infrastructure.job;
+
+import com.hartwig.catalog.admin.domain.job.Job;
+import com.hartwig.catalog.admin.domain.job.JobStatus;
+import com.hartwig.catalog.admin.infrastructure.job.persistence.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// only the JPA slice: scanning this package would also start the application's own JobExecutor
+@ActiveProfiles("test-integration")
+@DataJpaTest
+public class JobExecutorTest {
+
+    private static final String TYPE = "fencing-test";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private JobMySQLGateway jobGateway;
+
+    private final List<JobExecutor> runners = new ArrayList<>();
+    private final List<String> steps = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jobGateway = new JobMySQLGateway(jobRepository, Mockito.mock(ApplicationEventPublisher.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        runners.forEach(JobExecutor::destroy);
+    }
+
+    @Test
+    public void givenARunnerThatWasTakenOver_whenItCheckpointsAgain_shouldBeFencedOut() {
+        final var aJob = jobGateway.create(Job.newJob(TYPE, "\"payload\""));
+        final var anId = aJob.getId();
+
+        // the second runner considers every RUNNING job abandoned, as if the first one had paused past stale-after
+        final var second = runner(Duration.ofMinutes(-1), (aPayload, aContext) -> {
+            steps.add("second resumes after " + aContext.checkpoint());
+            aContext.checkpoint("second", 2, 2L);
+            return "second";
+        });
+        final var first = runner(Duration.ofMinutes(1), (aPayload, aContext) -> {
+            aContext.checkpoint("first", 1, 2L);
+            steps.add("first checkpointed");
+
+            second.run(anId);
+
+            aContext.checkpoint("first again", 2, 2L);
+            steps.add("first kept going");
+            return "first";
+        });
+
+        first.run(anId);
+
+        final var actualJob = jobGateway.findById(anId).orElseThrow();
+        assertAll(
+                () -> assertEquals(List.of("first checkpointed", "second resumes after first"), steps),
+                () -> assertEquals(JobStatus.SUCCEEDED, actualJob.getStatus()),
+                () -> assertEquals("\"second\"", actualJob.getResult()),
+                () -> assertEquals("second", actualJob.getCheckpoint())
+        );
+    }
+
+    @Test
+    public void givenAStaleClaim_whenHeartbeatingOrFinishing_shouldBeRefused() {
+        final var anId = jobGateway.create(Job.newJob(TYPE, "\"payload\"")).getId();
+
+        final var stale = jobGateway.claim(anId, Instant.now()).orElseThrow();
+        final var fresh = jobGateway.claim(anId, Instant.now().plusSeconds(60)).orElseThrow();
+
+        assertAll(
+                () -> assertFalse(jobGateway.heartbeat(anId, stale)),
+                () -> assertFalse(jobGateway.succeed(anId, stale, null)),
+                () -> assertFalse(jobGateway.fail(anId, stale, "late")),
+                () -> assertTrue(jobGateway.heartbeat(anId, fresh)),
+                () -> assertTrue(jobGateway.succeed(anId, fresh, null))
+        );
+    }
+
+    private JobExecutor runner(final Duration staleAfter, final JobTask<String> aTask) {
+        final var definitions = new JobDefinitions(List.of(JobDefinition.resumable(TYPE, String.class, aTask)));
+        final var runner = new JobExecutor(jobGateway, definitions, 1, 1, Duration.ofHours(1), staleAfter);
+        runners.add(runner);
+        return runner;
+    }
+}
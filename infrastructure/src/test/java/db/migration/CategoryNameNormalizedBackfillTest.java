@@ -0,0 +1,48 @@
+package db.migration;
+
+import com.hartwig.catalog.admin.infrastructure.utils.UUIDUtils;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CategoryNameNormalizedBackfillTest {
+
+    @Test
+    public void givenKeysFoldedByV4_whenMigrating_shouldRecomputeThemWithSearchKey() {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:backfill_" + UUID.randomUUID() + ";MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "root",
+                "123456"
+        );
+        final var jdbc = new JdbcTemplate(dataSource);
+
+        migrate(dataSource, "8");
+        jdbc.update("""
+                INSERT INTO category (id, name, name_normalized, active, created_at, updated_at, version)
+                VALUES (?, 'Ångström Škoda', 'ÅNGSTRÖM ŠKODA', TRUE, NOW(), NOW(), 0),
+                       (?, 'Documentários', 'DOCUMENTARIOS', TRUE, NOW(), NOW(), 0)
+                """, UUIDUtils.toBytes(UUID.randomUUID()), UUIDUtils.toBytes(UUID.randomUUID()));
+
+        migrate(dataSource, "latest");
+
+        assertEquals(
+                List.of("ANGSTROM SKODA", "DOCUMENTARIOS"),
+                jdbc.queryForList("SELECT name_normalized FROM category ORDER BY name_normalized", String.class)
+        );
+    }
+
+    private static void migrate(final DriverManagerDataSource dataSource, final String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .target(target)
+                .load()
+                .migrate();
+    }
+}
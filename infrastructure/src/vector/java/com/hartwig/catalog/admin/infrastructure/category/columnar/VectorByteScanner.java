@@ -0,0 +1,27 @@
+package com.hartwig.catalog.admin.infrastructure.category.columnar;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorByteScanner implements ByteScanner {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public int indexOf(final byte[] haystack, final byte value, final int from, final int to) {
+        var i = from;
+        final var upperBound = from + SPECIES.loopBound(Math.max(0, to - from));
+        for (; i < upperBound; i += SPECIES.length()) {
+            final var matches = ByteVector.fromArray(SPECIES, haystack, i).eq(value);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (haystack[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}